@@ -0,0 +1,101 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.triplea.benchmarks.BenchmarkMap;
+
+import games.strategy.triplea.delegate.Matches;
+
+/**
+ * Measures the route, distance and neighbor queries of {@link GameMap}, which dominate AI move planning. Each
+ * operation is performed for the same pseudorandomly chosen pairs of territories on every run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class GameMapBenchmark {
+  private static final long SEED = 42L;
+  private static final int PAIR_COUNT = 64;
+
+  @Param({"REVISED", "BIG_WORLD_1942", "GLOBAL1940", "TWW"})
+  private BenchmarkMap map;
+
+  @Param({"3"})
+  private int distance;
+
+  private GameMap gameMap;
+  private final List<Territory> starts = new ArrayList<>();
+  private final List<Territory> ends = new ArrayList<>();
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws Exception {
+    gameMap = map.getGameData().getMap();
+    final List<Territory> territories = gameMap.getTerritories();
+    final Random random = new Random(SEED);
+    for (int i = 0; i < PAIR_COUNT; i++) {
+      starts.add(territories.get(random.nextInt(territories.size())));
+      ends.add(territories.get(random.nextInt(territories.size())));
+    }
+  }
+
+  @Benchmark
+  public void getRoute(final Blackhole blackhole) {
+    for (int i = 0; i < PAIR_COUNT; i++) {
+      blackhole.consume(gameMap.getRoute(starts.get(i), ends.get(i)));
+    }
+  }
+
+  @Benchmark
+  public void getLandRoute(final Blackhole blackhole) {
+    for (int i = 0; i < PAIR_COUNT; i++) {
+      blackhole.consume(gameMap.getRoute(starts.get(i), ends.get(i), Matches.territoryIsLand()));
+    }
+  }
+
+  @Benchmark
+  public void getDistance(final Blackhole blackhole) {
+    for (int i = 0; i < PAIR_COUNT; i++) {
+      blackhole.consume(gameMap.getDistance(starts.get(i), ends.get(i)));
+    }
+  }
+
+  @Benchmark
+  public void getNeighbors(final Blackhole blackhole) {
+    for (final Territory territory : starts) {
+      blackhole.consume(gameMap.getNeighbors(territory, Matches.territoryIsLand()));
+    }
+  }
+
+  @Benchmark
+  public void getNeighborsWithinDistance(final Blackhole blackhole) {
+    for (final Territory territory : starts) {
+      blackhole.consume(gameMap.getNeighbors(territory, distance));
+    }
+  }
+
+  @Benchmark
+  public void getLandNeighborsWithinDistance(final Blackhole blackhole) {
+    for (final Territory territory : starts) {
+      blackhole.consume(gameMap.getNeighbors(territory, distance, Matches.territoryIsLand()));
+    }
+  }
+}
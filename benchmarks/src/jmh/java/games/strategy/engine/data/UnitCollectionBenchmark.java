@@ -0,0 +1,94 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.triplea.benchmarks.BenchmarkMap;
+
+/**
+ * Measures the counting, membership and removal operations of {@link UnitCollection} on a large stack of units, such
+ * as the stacks found in the sea zones of late game maps. The stack is made of pseudorandomly chosen unit types and
+ * owners, and is the same on every run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class UnitCollectionBenchmark {
+  private static final long SEED = 42L;
+
+  @Param({"GLOBAL1940"})
+  private BenchmarkMap map;
+
+  @Param({"50", "500"})
+  private int unitCount;
+
+  private List<PlayerId> players;
+  private List<UnitType> unitTypes;
+  private UnitCollection units;
+  private List<Unit> stack;
+  private List<Unit> casualties;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws Exception {
+    final GameData gameData = map.getGameData();
+    players = gameData.getPlayerList().getPlayers();
+    unitTypes = new ArrayList<>(gameData.getUnitTypeList().getAllUnitTypes());
+    final Random random = new Random(SEED);
+    stack = new ArrayList<>(unitCount);
+    for (int i = 0; i < unitCount; i++) {
+      final UnitType unitType = unitTypes.get(random.nextInt(unitTypes.size()));
+      stack.add(unitType.create(players.get(random.nextInt(players.size()))));
+    }
+    casualties = new ArrayList<>(stack.subList(0, unitCount / 10));
+    units = gameData.getMap().getTerritories().get(0).getUnitCollection();
+    units.clear();
+    units.addAll(stack);
+  }
+
+  @Benchmark
+  public void getUnitCountByTypeAndOwner(final Blackhole blackhole) {
+    for (final PlayerId player : players) {
+      for (final UnitType unitType : unitTypes) {
+        blackhole.consume(units.getUnitCount(unitType, player));
+      }
+    }
+  }
+
+  @Benchmark
+  public void getUnitsByType(final Blackhole blackhole) {
+    for (final PlayerId player : players) {
+      blackhole.consume(units.getUnitsByType(player));
+    }
+  }
+
+  @Benchmark
+  public void contains(final Blackhole blackhole) {
+    for (final Unit unit : stack) {
+      blackhole.consume(units.contains(unit));
+    }
+  }
+
+  @Benchmark
+  public void removeAllAndAddAll() {
+    units.removeAll(casualties);
+    units.addAll(casualties);
+  }
+}
@@ -0,0 +1,71 @@
+package games.strategy.engine.framework;
+
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.BenchmarkMap;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParser;
+
+/**
+ * Measures loading a map and copying the resulting game data, which every battle calculator and AI simulation does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class GameDataBenchmark {
+  @Param({"REVISED", "BIG_WORLD_1942", "GLOBAL1940", "TWW"})
+  private BenchmarkMap map;
+
+  private GameData gameData;
+  private GameDataSnapshot snapshot;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws Exception {
+    gameData = map.getGameData();
+    snapshot = GameDataSnapshot.capture(gameData, false);
+  }
+
+  @Benchmark
+  public GameData parse() throws Exception {
+    try (InputStream is = map.openStream()) {
+      return GameParser.parse("benchmark", is);
+    }
+  }
+
+  @Benchmark
+  public GameData cloneGameData() {
+    return GameDataUtils.cloneGameData(gameData, false);
+  }
+
+  @Benchmark
+  public GameData cloneGameDataWithDelegates() {
+    return GameDataUtils.cloneGameData(gameData, true);
+  }
+
+  @Benchmark
+  public GameDataSnapshot captureSnapshot() throws Exception {
+    return GameDataSnapshot.capture(gameData, false);
+  }
+
+  @Benchmark
+  public GameData newGameDataFromSnapshot() throws Exception {
+    return snapshot.newGameData();
+  }
+}
@@ -0,0 +1,115 @@
+package games.strategy.triplea.ai.pro;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.BenchmarkMap;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameStep;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.message.IRemote;
+import games.strategy.engine.player.IPlayerBridge;
+
+/**
+ * Measures the planning of a complete turn by the hard AI. The purchase phase of the AI simulates the combat move,
+ * battle and non-combat move phases of the whole turn before deciding what to buy, so it exercises most of the AI and
+ * the battle calculator.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ProAiBenchmark {
+  @Param({"REVISED", "WW2V3_1941"})
+  private BenchmarkMap map;
+
+  @Param({"Germans"})
+  private String playerName;
+
+  private GameData originalGameData;
+  private GameData gameData;
+  private PlayerId player;
+  private GameStep purchaseStep;
+  private ProAi proAi;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws Exception {
+    originalGameData = map.getGameData();
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpInvocation() {
+    // the AI changes the game data, so every invocation starts from a fresh copy
+    gameData = GameDataUtils.cloneGameData(originalGameData, true);
+    player = gameData.getPlayerList().getPlayerId(playerName);
+    purchaseStep = null;
+    for (final GameStep step : gameData.getSequence()) {
+      if (player.equals(step.getPlayerId()) && step.getName().endsWith("Purchase")) {
+        purchaseStep = step;
+        break;
+      }
+    }
+    if (purchaseStep == null) {
+      throw new IllegalStateException("No purchase step for " + playerName);
+    }
+    gameData.getSequence().setRoundAndStep(1, purchaseStep.getDisplayName(), player);
+    proAi = new ProAi(playerName);
+    proAi.initialize(new BenchmarkPlayerBridge(gameData, purchaseStep), player);
+    purchaseStep.getDelegate().setDelegateBridgeAndPlayer(new ProDummyDelegateBridge(proAi, player, gameData));
+  }
+
+  @Benchmark
+  public void planTurn() {
+    proAi.start(purchaseStep.getName());
+  }
+
+  private static final class BenchmarkPlayerBridge implements IPlayerBridge {
+    private final GameData gameData;
+    private final GameStep step;
+
+    BenchmarkPlayerBridge(final GameData gameData, final GameStep step) {
+      this.gameData = gameData;
+      this.step = step;
+    }
+
+    @Override
+    public GameData getGameData() {
+      return gameData;
+    }
+
+    @Override
+    public IRemote getRemoteDelegate() {
+      return (IRemote) step.getDelegate();
+    }
+
+    @Override
+    public IRemote getRemotePersistentDelegate(final String name) {
+      return (IRemote) gameData.getDelegate(name);
+    }
+
+    @Override
+    public String getStepName() {
+      return step.getName();
+    }
+
+    @Override
+    public boolean isGameOver() {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package games.strategy.triplea.delegate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.BenchmarkMap;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameStep;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Route;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.data.MoveValidationResult;
+
+/**
+ * Measures the validation of a typical combat move (a blitz supported by aircraft), which is performed for every
+ * candidate move the AI considers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class MoveValidatorBenchmark {
+  private GameData gameData;
+  private PlayerId player;
+  private Collection<Unit> units;
+  private Route route;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws Exception {
+    gameData = BenchmarkMap.REVISED.getGameData();
+    player = gameData.getPlayerList().getPlayerId("Germans");
+    for (final GameStep step : gameData.getSequence()) {
+      if (step.getName().equals("germanCombatMove")) {
+        gameData.getSequence().setRoundAndStep(1, step.getDisplayName(), player);
+        break;
+      }
+    }
+    final Territory germany = gameData.getMap().getTerritory("Germany");
+    units = new ArrayList<>(germany.getUnitCollection().getMatches(
+        Matches.unitIsOwnedBy(player).and(Matches.unitCanBlitz().or(Matches.unitIsAir()))));
+    route = new Route(germany, gameData.getMap().getTerritory("Eastern Europe"),
+        gameData.getMap().getTerritory("Karelia S.S.R."));
+  }
+
+  @Benchmark
+  public MoveValidationResult validateMove() {
+    return MoveValidator.validateMove(units, route, player, Collections.emptyList(), Collections.emptyMap(), false,
+        Collections.emptyList(), gameData);
+  }
+}
@@ -0,0 +1,75 @@
+package games.strategy.triplea.delegate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.triplea.benchmarks.BenchmarkMap;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+
+/**
+ * Measures the {@link Matches} predicate chains that the delegates and the AI evaluate against the units of every
+ * territory on the map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class UnitFilterBenchmark {
+  @Param({"REVISED", "GLOBAL1940", "TWW"})
+  private BenchmarkMap map;
+
+  private GameData gameData;
+  private PlayerId player;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws Exception {
+    gameData = map.getGameData();
+    // the player names differ between the maps, e.g. TWW has "Germany" instead of "Germans"
+    player = gameData.getPlayerList().getPlayers().get(0);
+  }
+
+  @Benchmark
+  public void getOwnedMovableLandUnits(final Blackhole blackhole) {
+    final Predicate<Unit> ownedMovableLandUnit = Matches.unitIsOwnedBy(player)
+        .and(Matches.unitIsLand())
+        .and(Matches.unitIsNotInfrastructure())
+        .and(Matches.unitCanMove());
+    for (final Territory territory : gameData.getMap()) {
+      blackhole.consume(territory.getUnitCollection().getMatches(ownedMovableLandUnit));
+    }
+  }
+
+  @Benchmark
+  public void countEnemyUnits(final Blackhole blackhole) {
+    final Predicate<Unit> enemyUnit = Matches.enemyUnit(player, gameData).and(Matches.unitIsNotInfrastructure());
+    for (final Territory territory : gameData.getMap()) {
+      blackhole.consume(territory.getUnitCollection().countMatches(enemyUnit));
+    }
+  }
+
+  @Benchmark
+  public void getUnitsByType(final Blackhole blackhole) {
+    for (final Territory territory : gameData.getMap()) {
+      blackhole.consume(territory.getUnitCollection().getUnitsByType(player));
+    }
+  }
+}
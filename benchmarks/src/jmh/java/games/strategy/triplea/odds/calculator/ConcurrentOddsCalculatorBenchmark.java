@@ -0,0 +1,89 @@
+package games.strategy.triplea.odds.calculator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.BenchmarkMap;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+
+/**
+ * Measures the concurrent battle calculator used by the UI and the AI, including the cost of copying the game data
+ * into its workers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ConcurrentOddsCalculatorBenchmark {
+  @Param({"REVISED", "WW2V3_1941"})
+  private BenchmarkMap map;
+
+  @Param({"2000"})
+  private int runCount;
+
+  private GameData gameData;
+  private PlayerId attacker;
+  private PlayerId defender;
+  private Territory location;
+  private List<Unit> attackingUnits;
+  private List<Unit> defendingUnits;
+  private final Semaphore dataLoaded = new Semaphore(0);
+  private ConcurrentOddsCalculator calculator;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws Exception {
+    gameData = map.getGameData();
+    attacker = gameData.getPlayerList().getPlayerId("Germans");
+    defender = gameData.getPlayerList().getPlayerId("Russians");
+    location = gameData.getMap().getTerritory("Karelia S.S.R.");
+    attackingUnits = new ArrayList<>(gameData.getUnitTypeList().getUnitType("infantry").create(8, attacker));
+    attackingUnits.addAll(gameData.getUnitTypeList().getUnitType("armour").create(4, attacker));
+    attackingUnits.addAll(gameData.getUnitTypeList().getUnitType("fighter").create(2, attacker));
+    defendingUnits = new ArrayList<>(gameData.getUnitTypeList().getUnitType("infantry").create(10, defender));
+    defendingUnits.addAll(gameData.getUnitTypeList().getUnitType("armour").create(2, defender));
+    calculator = new ConcurrentOddsCalculator("benchmark", dataLoaded::release);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDownTrial() {
+    calculator.shutdown();
+  }
+
+  @Benchmark
+  public void setGameData() throws InterruptedException {
+    calculator.setGameData(gameData);
+    // the workers are created in the background, wait until they are all ready
+    dataLoaded.acquire();
+  }
+
+  @Benchmark
+  public AggregateResults setGameDataAndCalculate() throws InterruptedException {
+    calculator.setGameData(gameData);
+    dataLoaded.acquire();
+    return calculator.setCalculateDataAndCalculate(attacker, defender, location, attackingUnits, defendingUnits,
+        Collections.emptyList(), TerritoryEffectHelper.getEffects(location), runCount);
+  }
+}
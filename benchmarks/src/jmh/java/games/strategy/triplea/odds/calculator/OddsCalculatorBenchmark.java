@@ -0,0 +1,89 @@
+package games.strategy.triplea.odds.calculator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.triplea.benchmarks.BenchmarkMap;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.random.SplittableRandomSource;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+
+/**
+ * Measures the single threaded battle calculator on a typical mid-sized land battle, with and without the fast battle
+ * simulator. The dice are seeded so that every run rolls the same dice.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class OddsCalculatorBenchmark {
+  private static final long SEED = 42L;
+
+  @Param({"200", "2000"})
+  private int runCount;
+
+  @Param({"true", "false"})
+  private boolean useBattleSimulator;
+
+  private GameData gameData;
+  private PlayerId attacker;
+  private PlayerId defender;
+  private Territory location;
+  private List<Unit> attackingUnits;
+  private List<Unit> defendingUnits;
+  private OddsCalculator oddsCalculator;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws Exception {
+    gameData = BenchmarkMap.REVISED.getGameData();
+    attacker = gameData.getPlayerList().getPlayerId("Germans");
+    defender = gameData.getPlayerList().getPlayerId("British");
+    location = gameData.getMap().getTerritory("Eastern Canada");
+    attackingUnits = new ArrayList<>(gameData.getUnitTypeList().getUnitType("infantry").create(6, attacker));
+    attackingUnits.addAll(gameData.getUnitTypeList().getUnitType("armour").create(2, attacker));
+    defendingUnits = new ArrayList<>(gameData.getUnitTypeList().getUnitType("infantry").create(5, defender));
+    defendingUnits.addAll(gameData.getUnitTypeList().getUnitType("fighter").create(1, defender));
+
+    oddsCalculator = new OddsCalculator(gameData);
+    oddsCalculator.setUseBattleSimulator(useBattleSimulator);
+    oddsCalculator.setCalculateData(attacker, defender, location, attackingUnits, defendingUnits,
+        Collections.emptyList(), TerritoryEffectHelper.getEffects(location), runCount);
+  }
+
+  @Setup(Level.Iteration)
+  public void setUpIteration() {
+    // every iteration rolls exactly the same dice, so the iterations (and runs before and after a change) are comparable
+    oddsCalculator.setRandomSource(new SplittableRandomSource(SEED));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDownTrial() {
+    oddsCalculator.shutdown();
+  }
+
+  @Benchmark
+  public AggregateResults calculate() {
+    return oddsCalculator.calculate();
+  }
+}
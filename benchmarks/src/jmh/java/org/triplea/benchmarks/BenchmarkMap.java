@@ -0,0 +1,62 @@
+package org.triplea.benchmarks;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Paths;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameParser;
+
+/**
+ * The maps used by the benchmarks, ordered from the smallest to the largest. The map files are shared with the tests of
+ * the game-core project.
+ */
+public enum BenchmarkMap {
+  REVISED("revised_test.xml"),
+
+  WW2V3_1941("ww2v3_1941_test.xml"),
+
+  BIG_WORLD_1942("big_world_1942_test.xml"),
+
+  GLOBAL1940("ww2_g40_balanced.xml"),
+
+  TWW("Total_World_War_Dec1941.xml");
+
+  /**
+   * The system property that contains the directory of the map files, set by the build when the benchmarks are run.
+   */
+  private static final String MAPS_DIR_PROPERTY = "triplea.benchmark.mapsDir";
+
+  private final String fileName;
+
+  BenchmarkMap(final String fileName) {
+    this.fileName = fileName;
+  }
+
+  @Override
+  public String toString() {
+    return fileName;
+  }
+
+  /**
+   * Opens the map file for reading.
+   *
+   * @throws Exception If an error occurs while opening the map file.
+   */
+  public InputStream openStream() throws Exception {
+    final String mapsDir = System.getProperty(MAPS_DIR_PROPERTY, Paths.get("..", "game-core", "src", "test",
+        "resources").toString());
+    return new FileInputStream(Paths.get(mapsDir, fileName).toFile());
+  }
+
+  /**
+   * Gets the game data for the associated map.
+   *
+   * @throws Exception If an error occurs while loading the map.
+   */
+  public GameData getGameData() throws Exception {
+    try (InputStream is = openStream()) {
+      return GameParser.parse("benchmark", is);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package games.strategy.engine.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A well-known attachment name paired with the type of attachment stored under that name, such as the unit attachment
+ * of a unit type.
+ *
+ * <p>
+ * Each slot is assigned a small, unique index when it is created, which allows {@link NamedAttachable} to look up the
+ * attachment in a slot with an array read instead of hashing the attachment name. Slots are intended to be created
+ * once and kept in constants by the attachment classes; attachments that are not stored under a slot name are still
+ * available through {@link NamedAttachable#getAttachment(String)}.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are immutable.
+ * </p>
+ *
+ * @param <T> The type of attachment stored in the slot.
+ */
+public final class AttachmentSlot<T extends IAttachment> {
+  private static final List<AttachmentSlot<?>> slots = new ArrayList<>();
+
+  private final int index;
+  private final String name;
+  private final Class<T> type;
+
+  private AttachmentSlot(final int index, final String name, final Class<T> type) {
+    this.index = index;
+    this.name = name;
+    this.type = type;
+  }
+
+  /**
+   * Returns the slot for the attachments with the specified name, creating it if it does not yet exist.
+   *
+   * @throws IllegalArgumentException If a slot with the specified name already exists for a different type.
+   */
+  @SuppressWarnings("unchecked")
+  public static synchronized <T extends IAttachment> AttachmentSlot<T> of(final String name, final Class<T> type) {
+    checkNotNull(name);
+    checkNotNull(type);
+
+    for (final AttachmentSlot<?> slot : slots) {
+      if (slot.name.equals(name)) {
+        checkArgument(slot.type.equals(type), "slot '%s' already exists for type %s", name, slot.type);
+        return (AttachmentSlot<T>) slot;
+      }
+    }
+    final AttachmentSlot<T> slot = new AttachmentSlot<>(slots.size(), name, type);
+    slots.add(slot);
+    return slot;
+  }
+
+  /**
+   * Returns all slots created so far, ordered by index.
+   */
+  static synchronized List<AttachmentSlot<?>> getAll() {
+    return Collections.unmodifiableList(new ArrayList<>(slots));
+  }
+
+  int getIndex() {
+    return index;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  T cast(final IAttachment attachment) {
+    return type.cast(attachment);
+  }
+
+  @Override
+  public String toString() {
+    return name + ":" + type.getSimpleName();
+  }
+}
@@ -85,6 +85,9 @@ public class ChangeAttachmentChange extends Change {
               newValue, property, attachmentName, attachedTo),
           e);
     }
+    if (attachedTo instanceof RelationshipType) {
+      data.getRelationshipTracker().relationshipTypesChanged();
+    }
   }
 
   @Override
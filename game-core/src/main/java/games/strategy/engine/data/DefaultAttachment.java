@@ -57,6 +57,30 @@ public abstract class DefaultAttachment extends GameDataComponent implements IAt
                 attachmentName, attachmentType, namedAttachable.getName())));
   }
 
+  /**
+   * Gets the attachment in the specified slot from the specified object.
+   *
+   * @param namedAttachable The object from which the attachment is to be retrieved.
+   * @param slot The slot of the attachment to retrieve.
+   *
+   * @return The requested attachment.
+   *
+   * @throws IllegalStateException If the requested attachment is not found in the specified object.
+   * @throws ClassCastException If the requested attachment is not of the type of the slot.
+   */
+  protected static <T extends IAttachment> T getAttachment(
+      final NamedAttachable namedAttachable,
+      final AttachmentSlot<T> slot) {
+    checkNotNull(namedAttachable);
+    checkNotNull(slot);
+    final T attachment = namedAttachable.getAttachmentInSlot(slot);
+    if (attachment == null) {
+      throw new IllegalStateException(String.format("No attachment in slot '%s' for object named '%s'",
+          slot, namedAttachable.getName()));
+    }
+    return attachment;
+  }
+
   /**
    * Throws an error if format is invalid.
    */
@@ -0,0 +1,165 @@
+package games.strategy.engine.data;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nullable;
+
+/**
+ * An index of the shortest routes between the territories of a {@link GameMap}, used to answer the unconditioned
+ * distance, route and neighbor queries of the map without searching the map each time.
+ *
+ * <p>
+ * The shortest routes from a territory are found with a single breadth-first search the first time the territory is
+ * used as the start of a query, after which any distance from that territory is a lookup and any route from that
+ * territory is built by following the recorded predecessors. Like {@link RouteFinder}, the search is breadth-first,
+ * so the routes have the same length as the routes it finds, though a different route may be chosen among several
+ * routes of the same length.
+ * </p>
+ *
+ * <p>
+ * An index is built on a {@link TerritoryGraph}, which is a snapshot of the territories and connections of the map;
+ * the map must discard both when either changes. Instances of this class are thread-safe.
+ * </p>
+ */
+final class DistanceIndex {
+  /**
+   * The kind of territories that the routes of an index may cover. As with the conditions of {@link GameMap}, the
+   * start of a route is not required to be covered.
+   */
+  enum Mode {
+    ANY {
+      @Override
+      boolean covers(final boolean water) {
+        return true;
+      }
+    },
+
+    LAND {
+      @Override
+      boolean covers(final boolean water) {
+        return !water;
+      }
+    },
+
+    WATER {
+      @Override
+      boolean covers(final boolean water) {
+        return water;
+      }
+    };
+
+    abstract boolean covers(boolean water);
+  }
+
+  private final TerritoryGraph graph;
+  private final Map<Mode, AtomicReferenceArray<Row>> rowsByMode = new EnumMap<>(Mode.class);
+
+  DistanceIndex(final TerritoryGraph graph) {
+    this.graph = graph;
+    for (final Mode mode : Mode.values()) {
+      rowsByMode.put(mode, new AtomicReferenceArray<>(graph.size()));
+    }
+  }
+
+  /**
+   * The shortest routes from a single territory.
+   */
+  private static final class Row {
+    // -1 if the territory cannot be reached
+    private final int[] distances;
+    // -1 for the start and for any territory that cannot be reached
+    private final int[] previous;
+    // all territories that can be reached, except the start, by increasing distance
+    private final int[] reachable;
+
+    Row(final int[] distances, final int[] previous, final int[] reachable) {
+      this.distances = distances;
+      this.previous = previous;
+      this.reachable = reachable;
+    }
+  }
+
+  boolean contains(final Territory territory) {
+    return graph.getIndex(territory) != -1;
+  }
+
+  private Row getRow(final Territory start, final Mode mode) {
+    final int id = graph.getIndex(start);
+    final AtomicReferenceArray<Row> rows = rowsByMode.get(mode);
+    Row row = rows.get(id);
+    if (row == null) {
+      // several threads may compute the same row at the same time, but they will all compute the same result
+      row = newRow(id, mode);
+      rows.set(id, row);
+    }
+    return row;
+  }
+
+  private Row newRow(final int start, final Mode mode) {
+    final int[] distances = new int[graph.size()];
+    final int[] previous = new int[graph.size()];
+    final int[] queue = new int[graph.size()];
+    Arrays.fill(distances, -1);
+    Arrays.fill(previous, -1);
+    distances[start] = 0;
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = start;
+    while (head < tail) {
+      final int current = queue[head++];
+      for (final int neighbor : graph.getNeighbors(current)) {
+        if (distances[neighbor] == -1 && mode.covers(graph.isWater(neighbor))) {
+          distances[neighbor] = distances[current] + 1;
+          previous[neighbor] = current;
+          queue[tail++] = neighbor;
+        }
+      }
+    }
+    return new Row(distances, previous, Arrays.copyOfRange(queue, 1, tail));
+  }
+
+  /**
+   * Returns the distance between two territories of the map or -1 if they are not connected.
+   */
+  int getDistance(final Territory start, final Territory end, final Mode mode) {
+    return getRow(start, mode).distances[graph.getIndex(end)];
+  }
+
+  /**
+   * Returns the shortest route between two territories of the map or null if no route exists.
+   */
+  @Nullable
+  Route getRoute(final Territory start, final Territory end, final Mode mode) {
+    final Row row = getRow(start, mode);
+    final int endId = graph.getIndex(end);
+    final int distance = row.distances[endId];
+    if (distance == -1) {
+      return null;
+    }
+    final Territory[] steps = new Territory[distance];
+    for (int i = distance - 1, current = endId; i >= 0; i--, current = row.previous[current]) {
+      steps[i] = graph.getTerritory(current);
+    }
+    return new Route(start, steps);
+  }
+
+  /**
+   * Returns all territories of the map within the specified distance of the start, not including the start.
+   */
+  Set<Territory> getNeighbors(final Territory start, final int distance, final Mode mode) {
+    final Row row = getRow(start, mode);
+    final Set<Territory> neighbors = new HashSet<>();
+    for (final int id : row.reachable) {
+      if (row.distances[id] > distance) {
+        break;
+      }
+      neighbors.add(graph.getTerritory(id));
+    }
+    return neighbors;
+  }
+}
@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -79,6 +80,8 @@ public class GameData implements Serializable {
   private transient List<TerritoryListener> territoryListeners = new CopyOnWriteArrayList<>();
   private transient List<GameDataChangeListener> dataChangeListeners = new CopyOnWriteArrayList<>();
   private transient Map<String, IDelegate> delegates = new HashMap<>();
+  // incremented whenever a unit changes owner, so that unit collections can tell when their owner counts are stale
+  private transient AtomicInteger unitOwnerChangeCount = new AtomicInteger();
   private final AllianceTracker alliances = new AllianceTracker();
   // Tracks current relationships between players, this is empty if relationships aren't used
   private final RelationshipTracker relationships = new RelationshipTracker(this);
@@ -106,6 +109,7 @@ public class GameData implements Serializable {
   private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
     in.defaultReadObject();
     lockUtil = LockUtil.INSTANCE;
+    unitOwnerChangeCount = new AtomicInteger();
   }
 
   /**
@@ -320,6 +324,14 @@ public class GameData implements Serializable {
     gameHistory = new History(this);
   }
 
+  void notifyUnitOwnerChanged() {
+    unitOwnerChangeCount.incrementAndGet();
+  }
+
+  int getUnitOwnerChangeCount() {
+    return unitOwnerChangeCount.get();
+  }
+
   /**
    * Not to be called by mere mortals.
    */
@@ -3,6 +3,8 @@ package games.strategy.engine.data;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,6 +39,9 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
   // null if the map is not grid-based
   // otherwise, gridDimensions.length is the number of dimensions, and each element is the size of a dimension
   private int[] gridDimensions = null;
+  // built on first use and discarded whenever territories or connections are added
+  private transient volatile @Nullable TerritoryGraph graph;
+  private transient volatile @Nullable DistanceIndex distanceIndex;
 
   GameMap(final GameData data) {
     super(data);
@@ -71,6 +76,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     territories.add(t1);
     connections.put(t1, Collections.emptySet());
     territoryLookup.put(t1.getName(), t1);
+    invalidateGraph();
   }
 
   /**
@@ -85,6 +91,35 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     }
     setConnection(t1, t2);
     setConnection(t2, t1);
+    invalidateGraph();
+  }
+
+  private void invalidateGraph() {
+    graph = null;
+    distanceIndex = null;
+  }
+
+  private TerritoryGraph getGraph() {
+    TerritoryGraph currentGraph = graph;
+    if (currentGraph == null) {
+      currentGraph = new TerritoryGraph(territories, connections);
+      graph = currentGraph;
+    }
+    return currentGraph;
+  }
+
+  private DistanceIndex getDistanceIndex() {
+    DistanceIndex index = distanceIndex;
+    if (index == null) {
+      index = new DistanceIndex(getGraph());
+      distanceIndex = index;
+    }
+    return index;
+  }
+
+  private boolean isIndexed(final Territory t1, final Territory t2) {
+    final DistanceIndex index = getDistanceIndex();
+    return index.contains(t1) && index.contains(t2);
   }
 
   private void setConnection(final Territory from, final Territory to) {
@@ -95,6 +130,40 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     connections.put(from, Collections.unmodifiableSet(modified));
   }
 
+  /**
+   * Returns the index of the specified territory in {@link #getTerritories()} or -1 if the territory is not on this
+   * map. Together with {@link #getNeighborCount(int)} and {@link #getNeighborIndex(int, int)}, territory indexes can be
+   * used to traverse the map without allocating any sets or iterators, e.g.:
+   *
+   * <pre>
+   * final int index = map.getTerritoryIndex(territory);
+   * for (int i = 0; i &lt; map.getNeighborCount(index); i++) {
+   *   final Territory neighbor = map.getTerritories().get(map.getNeighborIndex(index, i));
+   *   ...
+   * }
+   * </pre>
+   */
+  public int getTerritoryIndex(final Territory territory) {
+    return getGraph().getIndex(territory);
+  }
+
+  /**
+   * Returns the number of neighbors of the territory with the specified index.
+   */
+  public int getNeighborCount(final int territoryIndex) {
+    return getGraph().getNeighborCount(territoryIndex);
+  }
+
+  /**
+   * Returns the index of a neighbor of the territory with the specified index.
+   *
+   * @param territoryIndex index of the referring territory
+   * @param neighborNumber number of the neighbor, from 0 (inclusive) to the neighbor count (exclusive)
+   */
+  public int getNeighborIndex(final int territoryIndex, final int neighborNumber) {
+    return getGraph().getNeighbor(territoryIndex, neighborNumber);
+  }
+
   /**
    * Returns the territory with the given name, or null if no territory can be found (case sensitive).
    *
@@ -128,10 +197,18 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (neighborFilter == null) {
       return getNeighbors(territory);
     }
-    return connections.getOrDefault(territory, Collections.emptySet())
-        .parallelStream()
-        .filter(neighborFilter)
-        .collect(Collectors.toSet());
+    final TerritoryGraph currentGraph = getGraph();
+    final int index = currentGraph.getIndex(territory);
+    final Set<Territory> neighbors = new HashSet<>();
+    if (index != -1) {
+      for (final int neighborIndex : currentGraph.getNeighbors(index)) {
+        final Territory neighbor = currentGraph.getTerritory(neighborIndex);
+        if (neighborFilter.test(neighbor)) {
+          neighbors.add(neighbor);
+        }
+      }
+    }
+    return neighbors;
   }
 
   /**
@@ -152,9 +229,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (distance == 1) {
       return start;
     }
-    final Set<Territory> neighbors = getNeighbors(start, new HashSet<>(start), distance - 1);
-    neighbors.remove(territory);
-    return neighbors;
+    return getDistanceIndex().getNeighbors(territory, distance, DistanceIndex.Mode.ANY);
   }
 
   /**
@@ -168,13 +243,10 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (distance == 0) {
       return Collections.emptySet();
     }
-    final Set<Territory> start = getNeighbors(territory, cond);
     if (distance == 1) {
-      return start;
+      return getNeighbors(territory, cond);
     }
-    final Set<Territory> neighbors = getNeighbors(start, new HashSet<>(start), distance - 1, cond);
-    neighbors.remove(territory);
-    return neighbors;
+    return getNeighbors(Collections.singleton(territory), distance, cond);
   }
 
   /**
@@ -182,29 +254,37 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * Does NOT include the original/starting territories in the returned Set, even if they are neighbors of each other.
    */
   public Set<Territory> getNeighbors(final Set<Territory> frontier, final int distance,
-      final Predicate<Territory> cond) {
-    final Set<Territory> neighbors = getNeighbors(frontier, new HashSet<>(frontier), distance, cond);
-    neighbors.removeAll(frontier);
-    return neighbors;
-  }
-
-  private Set<Territory> getNeighbors(final Set<Territory> frontier, final Set<Territory> searched, final int distance,
       @Nullable final Predicate<Territory> cond) {
-    if (distance == 0) {
-      return searched;
+    final TerritoryGraph currentGraph = getGraph();
+    final BitSet searched = new BitSet(currentGraph.size());
+    // every territory is queued at most once, breadth-first, so territories are dequeued by increasing distance
+    final int[] queue = new int[currentGraph.size()];
+    int head = 0;
+    int tail = 0;
+    for (final Territory territory : frontier) {
+      final int index = currentGraph.getIndex(territory);
+      if (index != -1 && !searched.get(index)) {
+        searched.set(index);
+        queue[tail++] = index;
+      }
     }
-    final Set<Territory> newFrontier = frontier.stream()
-        .map(t -> getNeighbors(t, cond))
-        .flatMap(Collection::stream)
-        .filter(t -> !searched.contains(t))
-        .collect(Collectors.toSet());
-    searched.addAll(newFrontier);
-    return getNeighbors(newFrontier, searched, distance - 1, cond);
-  }
-
-  private Set<Territory> getNeighbors(final Set<Territory> frontier, final Set<Territory> searched,
-      final int distance) {
-    return getNeighbors(frontier, searched, distance, null);
+    final Set<Territory> neighbors = new HashSet<>();
+    for (int i = 0; i < distance && head < tail; i++) {
+      final int endOfFrontier = tail;
+      while (head < endOfFrontier) {
+        for (final int neighborIndex : currentGraph.getNeighbors(queue[head++])) {
+          if (!searched.get(neighborIndex)) {
+            final Territory neighbor = currentGraph.getTerritory(neighborIndex);
+            if (cond == null || cond.test(neighbor)) {
+              searched.set(neighborIndex);
+              queue[tail++] = neighborIndex;
+              neighbors.add(neighbor);
+            }
+          }
+        }
+      }
+    }
+    return neighbors;
   }
 
   Set<Territory> getNeighborsValidatingCanals(final Territory territory, final Predicate<Territory> neighborFilter,
@@ -220,7 +300,14 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t1 start territory of the route
    * @param t2 end territory of the route
    */
+  @Nullable
   public Route getRoute(final Territory t1, final Territory t2) {
+    checkNotNull(t1);
+    checkNotNull(t2);
+
+    if (!t1.equals(t2) && isIndexed(t1, t2)) {
+      return getDistanceIndex().getRoute(t1, t2, DistanceIndex.Mode.ANY);
+    }
     return getRoute(t1, t2, Matches.territoryIsLandOrWater());
   }
 
@@ -290,7 +377,15 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t2 end territory of the route
    */
   public int getDistance(final Territory t1, final Territory t2) {
-    return getDistance(t1, t2, Matches.territoryIsLandOrWater());
+    return getDistance(t1, t2, DistanceIndex.Mode.ANY, Matches.territoryIsLandOrWater());
+  }
+
+  private int getDistance(final Territory t1, final Territory t2, final DistanceIndex.Mode mode,
+      final Predicate<Territory> cond) {
+    if (!t1.equals(t2) && isIndexed(t1, t2)) {
+      return getDistanceIndex().getDistance(t1, t2, mode);
+    }
+    return getDistance(t1, t2, cond);
   }
 
   /**
@@ -301,37 +396,37 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t2 end territory of the route
    * @param cond condition that covered territories of the route must match
    */
-  public int getDistance(final Territory t1, final Territory t2, final Predicate<Territory> cond) {
+  public int getDistance(final Territory t1, final Territory t2, @Nullable final Predicate<Territory> cond) {
     if (t1.equals(t2)) {
       return 0;
     }
-    return getDistance(0, new HashSet<>(), Collections.singleton(t1), t2, cond);
-  }
-
-  /**
-   * Guaranteed that frontier doesn't contain target.
-   * Territories on the frontier are not target. They represent the extent of paths already searched.
-   * Territories in searched have already been on the frontier.
-   */
-  private int getDistance(final int distance, final Set<Territory> searched, final Set<Territory> frontier,
-      final Territory target, @Nullable final Predicate<Territory> cond) {
-    // add the frontier to the searched
-    searched.addAll(frontier);
-    // find the new frontier
-
-    final Set<Territory> newFrontier = frontier.stream()
-        .map(connections::get)
-        .flatMap(Collection::stream)
-        .filter(f -> cond == null || cond.test(f))
-        .collect(Collectors.toSet());
-    if (newFrontier.contains(target)) {
-      return distance + 1;
-    }
-    newFrontier.removeAll(searched);
-    if (newFrontier.isEmpty()) {
+    final TerritoryGraph currentGraph = getGraph();
+    final int start = currentGraph.getIndex(t1);
+    final int target = currentGraph.getIndex(t2);
+    if (start == -1 || target == -1) {
       return -1;
     }
-    return getDistance(distance + 1, searched, newFrontier, target, cond);
+    final int[] distances = new int[currentGraph.size()];
+    Arrays.fill(distances, -1);
+    distances[start] = 0;
+    final int[] queue = new int[currentGraph.size()];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = start;
+    while (head < tail) {
+      final int current = queue[head++];
+      for (final int neighborIndex : currentGraph.getNeighbors(current)) {
+        if (distances[neighborIndex] == -1
+            && (cond == null || cond.test(currentGraph.getTerritory(neighborIndex)))) {
+          if (neighborIndex == target) {
+            return distances[current] + 1;
+          }
+          distances[neighborIndex] = distances[current] + 1;
+          queue[tail++] = neighborIndex;
+        }
+      }
+    }
+    return -1;
   }
 
   public IntegerMap<Territory> getDistance(final Territory target, final Collection<Territory> territories,
@@ -353,7 +448,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t2 end territory of the route
    */
   public int getLandDistance(final Territory t1, final Territory t2) {
-    return getDistance(t1, t2, Matches.territoryIsLand());
+    return getDistance(t1, t2, DistanceIndex.Mode.LAND, Matches.territoryIsLand());
   }
 
   /**
@@ -363,7 +458,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    * @param t2 end territory of the route
    */
   public int getWaterDistance(final Territory t1, final Territory t2) {
-    return getDistance(t1, t2, Matches.territoryIsWater());
+    return getDistance(t1, t2, DistanceIndex.Mode.WATER, Matches.territoryIsWater());
   }
 
   /**
@@ -4,6 +4,10 @@ import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.changefactory.CompactChange;
+
 /**
  * To maintain == relationships and the singleton nature of many classes in GameData we do some work in the ObjectSteam.
  * For example, when we serialize a Territory over a GameObjectOutputStream, we do not send an instance of Territory,
@@ -11,11 +15,28 @@ import java.io.OutputStream;
  * GameObjectOutputStream to read the territory on the other side, the territory name is read, and the territory
  * returned by the GameObjectInputStream is the territory with that name belonging to the GameData associated with the
  * GameObjectInputStream. This ensures the state of the territory remains consistent.
+ *
+ * <p>
+ * When created for the GameData the written objects belong to, the stream writes changes in their
+ * {@link CompactChange} form, which refers to territories, players and resources by their index in the GameData.
+ * </p>
  */
 public class GameObjectOutputStream extends ObjectOutputStream {
+  private final @Nullable GameData data;
 
   public GameObjectOutputStream(final OutputStream output) throws IOException {
+    this(output, null);
+  }
+
+  /**
+   * Creates a stream that writes changes in their compact form, if the specified game data is not null.
+   *
+   * @param data The game data to which the written objects belong; it must have been loaded from the same game as the
+   *        game data the stream is read into.
+   */
+  public GameObjectOutputStream(final OutputStream output, final @Nullable GameData data) throws IOException {
     super(output);
+    this.data = data;
     enableReplaceObject(true);
   }
 
@@ -26,6 +47,8 @@ public class GameObjectOutputStream extends ObjectOutputStream {
       if (GameObjectStreamData.canSerialize(named)) {
         return new GameObjectStreamData(named);
       }
+    } else if (obj instanceof Change && data != null) {
+      return CompactChange.replace((Change) obj, data);
     }
     return obj;
   }
@@ -68,6 +68,18 @@ public class GameSequence extends GameDataComponent implements Iterable<GameStep
     return currentIndex;
   }
 
+  /**
+   * Moves this sequence to the specified round and step, for example to match the sequence of the game data from which
+   * this sequence was copied.
+   *
+   * @param round The round, including the round offset of this sequence.
+   * @param stepIndex The index of the step.
+   */
+  public synchronized void setRoundAndStepIndex(final int round, final int stepIndex) {
+    setStepIndex(stepIndex);
+    this.round = round - roundOffset;
+  }
+
   void setStepIndex(final int newIndex) {
     if ((newIndex < 0) || (newIndex >= steps.size())) {
       throw new IllegalArgumentException("New index out of range: " + newIndex);
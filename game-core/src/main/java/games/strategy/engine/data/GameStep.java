@@ -96,6 +96,14 @@ public class GameStep extends GameDataComponent {
     runCount++;
   }
 
+  public int getRunCount() {
+    return runCount;
+  }
+
+  public void setRunCount(final int count) {
+    runCount = count;
+  }
+
   public void setMaxRunCount(final int count) {
     maxRunCount = count;
   }
@@ -2,8 +2,11 @@ package games.strategy.engine.data;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 /**
  * Superclass for named game data components that can host attachments.
  */
@@ -11,6 +14,8 @@ public class NamedAttachable extends DefaultNamed implements Attachable {
   private static final long serialVersionUID = 8597712929519099255L;
 
   private final Map<String, IAttachment> attachments = new HashMap<>();
+  // the attachments stored under each slot name, indexed by slot; null until the first lookup by slot
+  private transient volatile IAttachment[] attachmentsBySlot;
 
   public NamedAttachable(final String name, final GameData data) {
     super(name, data);
@@ -21,6 +26,31 @@ public class NamedAttachable extends DefaultNamed implements Attachable {
     return attachments.get(key);
   }
 
+  /**
+   * Returns the attachment stored under the name of the specified slot or null if there is no such attachment. This is
+   * equivalent to {@link #getAttachment(String)} with the name of the slot, but does not hash the name.
+   *
+   * @throws ClassCastException If the attachment is not of the type of the slot.
+   */
+  @Nullable
+  public <T extends IAttachment> T getAttachmentInSlot(final AttachmentSlot<T> slot) {
+    IAttachment[] currentAttachmentsBySlot = attachmentsBySlot;
+    if (currentAttachmentsBySlot == null || slot.getIndex() >= currentAttachmentsBySlot.length) {
+      currentAttachmentsBySlot = newAttachmentsBySlot();
+      attachmentsBySlot = currentAttachmentsBySlot;
+    }
+    return slot.cast(currentAttachmentsBySlot[slot.getIndex()]);
+  }
+
+  private IAttachment[] newAttachmentsBySlot() {
+    final List<AttachmentSlot<?>> slots = AttachmentSlot.getAll();
+    final IAttachment[] newAttachmentsBySlot = new IAttachment[slots.size()];
+    for (final AttachmentSlot<?> slot : slots) {
+      newAttachmentsBySlot[slot.getIndex()] = attachments.get(slot.getName());
+    }
+    return newAttachmentsBySlot;
+  }
+
   @Override
   public Map<String, IAttachment> getAttachments() {
     return Collections.unmodifiableMap(attachments);
@@ -29,10 +59,12 @@ public class NamedAttachable extends DefaultNamed implements Attachable {
   @Override
   public void addAttachment(final String key, final IAttachment value) {
     attachments.put(key, value);
+    attachmentsBySlot = null;
   }
 
   @Override
   public void removeAttachment(final String keyString) {
     attachments.remove(keyString);
+    attachmentsBySlot = null;
   }
 }
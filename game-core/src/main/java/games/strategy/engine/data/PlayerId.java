@@ -24,6 +24,12 @@ public class PlayerId extends NamedAttachable implements NamedUnitHolder {
 
   private static final String DEFAULT_TYPE_AI = "AI";
   private static final String DEFAULT_TYPE_DOES_NOTHING = "DoesNothing";
+  private static final AttachmentSlot<RulesAttachment> RULES_ATTACHMENT_SLOT =
+      AttachmentSlot.of(Constants.RULES_ATTACHMENT_NAME, RulesAttachment.class);
+  private static final AttachmentSlot<PlayerAttachment> PLAYER_ATTACHMENT_SLOT =
+      AttachmentSlot.of(Constants.PLAYER_ATTACHMENT_NAME, PlayerAttachment.class);
+  private static final AttachmentSlot<TechAttachment> TECH_ATTACHMENT_SLOT =
+      AttachmentSlot.of(Constants.TECH_ATTACHMENT_NAME, TechAttachment.class);
 
   public static final PlayerId NULL_PLAYERID =
       new PlayerId(Constants.PLAYER_NAME_NEUTRAL, true, false, null, false, null) {
@@ -46,6 +52,8 @@ public class PlayerId extends NamedAttachable implements NamedUnitHolder {
   private RepairFrontier repairFrontier;
   private final TechnologyFrontierList technologyFrontiers;
   private String whoAmI = "null:no_one";
+  // the position of this player in the relationship matrix of the game, see RelationshipTracker
+  private transient int relationshipIndex;
 
   public PlayerId(final String name, final GameData data) {
     this(name, false, false, null, false, data);
@@ -111,6 +119,14 @@ public class PlayerId extends NamedAttachable implements NamedUnitHolder {
     return false;
   }
 
+  int getRelationshipIndex() {
+    return relationshipIndex;
+  }
+
+  void setRelationshipIndex(final int relationshipIndex) {
+    this.relationshipIndex = relationshipIndex;
+  }
+
   @Override
   public String toString() {
     return "PlayerId named:" + getName();
@@ -204,15 +220,15 @@ public class PlayerId extends NamedAttachable implements NamedUnitHolder {
   }
 
   public RulesAttachment getRulesAttachment() {
-    return (RulesAttachment) getAttachment(Constants.RULES_ATTACHMENT_NAME);
+    return getAttachmentInSlot(RULES_ATTACHMENT_SLOT);
   }
 
   public PlayerAttachment getPlayerAttachment() {
-    return (PlayerAttachment) getAttachment(Constants.PLAYER_ATTACHMENT_NAME);
+    return getAttachmentInSlot(PLAYER_ATTACHMENT_SLOT);
   }
 
   public TechAttachment getTechAttachment() {
-    return (TechAttachment) getAttachment(Constants.TECH_ATTACHMENT_NAME);
+    return getAttachmentInSlot(TECH_ATTACHMENT_SLOT);
   }
 
   /**
@@ -1,21 +1,33 @@
 package games.strategy.engine.data;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+import javax.annotation.Nullable;
 
 /**
  * A collection of relationships between any two players.
+ *
+ * <p>
+ * The relationship types are also kept in a {@link RelationshipMatrix}, which is indexed by the position of each
+ * player in the player list, so that the type of a relationship and whether it is allied or at war can be looked up
+ * without hashing or allocating. The matrix is built on first use and discarded whenever a relationship or the
+ * attachment of a relationship type changes.
+ * </p>
  */
 public class RelationshipTracker extends RelationshipInterpreter {
   private static final long serialVersionUID = -4740671761925519069L;
 
   // map of "playername:playername" to RelationshipType that exists between those 2 players
   private final Map<RelatedPlayers, Relationship> relationships = new HashMap<>();
+  private transient volatile @Nullable RelationshipMatrix matrix;
 
   public RelationshipTracker(final GameData data) {
     super(data);
@@ -30,6 +42,7 @@ public class RelationshipTracker extends RelationshipInterpreter {
    */
   public void setRelationship(final PlayerId p1, final PlayerId p2, final RelationshipType relationshipType) {
     relationships.put(new RelatedPlayers(p1, p2), new Relationship(relationshipType));
+    matrix = null;
   }
 
   /**
@@ -37,11 +50,46 @@ public class RelationshipTracker extends RelationshipInterpreter {
    */
   protected void setRelationship(final PlayerId p1, final PlayerId p2, final RelationshipType r, final int roundValue) {
     relationships.put(new RelatedPlayers(p1, p2), new Relationship(r, roundValue));
+    matrix = null;
+  }
+
+  /**
+   * Discards the cached relationships so that changes to the attachments of the relationship types are picked up.
+   */
+  void relationshipTypesChanged() {
+    matrix = null;
+  }
+
+  private RelationshipMatrix getMatrix() {
+    RelationshipMatrix currentMatrix = matrix;
+    if (currentMatrix == null) {
+      currentMatrix = new RelationshipMatrix(getData().getPlayerList().getPlayers(), relationships);
+      matrix = currentMatrix;
+    }
+    return currentMatrix;
   }
 
   @Override
   public RelationshipType getRelationshipType(final PlayerId p1, final PlayerId p2) {
-    return getRelationship(p1, p2).getRelationshipType();
+    final RelationshipMatrix currentMatrix = getMatrix();
+    final int cell = currentMatrix.getCell(p1, p2);
+    return (cell == -1)
+        ? getRelationship(p1, p2).getRelationshipType()
+        : currentMatrix.getRelationshipType(cell);
+  }
+
+  @Override
+  public boolean isAllied(final PlayerId p1, final PlayerId p2) {
+    final RelationshipMatrix currentMatrix = getMatrix();
+    final int cell = currentMatrix.getCell(p1, p2);
+    return (cell == -1) ? super.isAllied(p1, p2) : currentMatrix.allied[cell];
+  }
+
+  @Override
+  public boolean isAtWar(final PlayerId p1, final PlayerId p2) {
+    final RelationshipMatrix currentMatrix = getMatrix();
+    final int cell = currentMatrix.getCell(p1, p2);
+    return (cell == -1) ? super.isAtWar(p1, p2) : currentMatrix.atWar[cell];
   }
 
   public Relationship getRelationship(final PlayerId p1, final PlayerId p2) {
@@ -94,6 +142,87 @@ public class RelationshipTracker extends RelationshipInterpreter {
     return getData().getRelationshipTypeList().getNullRelation();
   }
 
+  /**
+   * An immutable copy of the relationship types between all players, including the null player, stored as a
+   * symmetric matrix of relationship type ids together with whether each relationship is allied or at war. Each
+   * player is identified by its position in the matrix, which is recorded in the player so that it can be found
+   * without a lookup; players that were not part of the player list when the matrix was built are looked up by name.
+   */
+  private static final class RelationshipMatrix {
+    private static final int NULL_PLAYER_INDEX = 0;
+
+    private final PlayerId[] players;
+    private final Map<PlayerId, Integer> indexes = new HashMap<>();
+    private final List<RelationshipType> relationshipTypes = new ArrayList<>();
+    // -1 for any two players without a relationship
+    private final int[] relationshipTypeIds;
+    private final boolean[] allied;
+    private final boolean[] atWar;
+
+    RelationshipMatrix(final List<PlayerId> playerList, final Map<RelatedPlayers, Relationship> relationships) {
+      players = new PlayerId[playerList.size() + 1];
+      players[NULL_PLAYER_INDEX] = PlayerId.NULL_PLAYERID;
+      for (int i = 0; i < playerList.size(); i++) {
+        players[i + 1] = playerList.get(i);
+      }
+      for (int i = 0; i < players.length; i++) {
+        indexes.put(players[i], i);
+        players[i].setRelationshipIndex(i);
+      }
+      relationshipTypeIds = new int[players.length * players.length];
+      allied = new boolean[relationshipTypeIds.length];
+      atWar = new boolean[relationshipTypeIds.length];
+      Arrays.fill(relationshipTypeIds, -1);
+      final Map<RelationshipType, Integer> relationshipTypeIdsByType = new HashMap<>();
+      for (int i = 0; i < players.length; i++) {
+        for (int j = 0; j < players.length; j++) {
+          final Relationship relationship = relationships.get(new RelatedPlayers(players[i], players[j]));
+          if (relationship == null) {
+            continue;
+          }
+          final RelationshipType relationshipType = relationship.getRelationshipType();
+          final int cell = i * players.length + j;
+          relationshipTypeIds[cell] = relationshipTypeIdsByType.computeIfAbsent(relationshipType, type -> {
+            relationshipTypes.add(type);
+            return relationshipTypes.size() - 1;
+          });
+          allied[cell] = relationshipType.getRelationshipTypeAttachment().isAllied();
+          atWar[cell] = relationshipType.getRelationshipTypeAttachment().isWar();
+        }
+      }
+    }
+
+    private int indexOf(final @Nullable PlayerId player) {
+      if (player == null) {
+        return -1;
+      }
+      final int index = player.getRelationshipIndex();
+      if (index >= 0 && index < players.length && player.equals(players[index])) {
+        return index;
+      }
+      final Integer foundIndex = indexes.get(player);
+      return (foundIndex == null) ? -1 : foundIndex;
+    }
+
+    /**
+     * Returns the cell of the relationship between the specified players or -1 if either player is not part of the
+     * matrix or the players have no relationship.
+     */
+    int getCell(final @Nullable PlayerId p1, final @Nullable PlayerId p2) {
+      final int index1 = indexOf(p1);
+      final int index2 = indexOf(p2);
+      if (index1 == -1 || index2 == -1) {
+        return -1;
+      }
+      final int cell = index1 * players.length + index2;
+      return (relationshipTypeIds[cell] == -1) ? -1 : cell;
+    }
+
+    RelationshipType getRelationshipType(final int cell) {
+      return relationshipTypes.get(relationshipTypeIds[cell]);
+    }
+  }
+
   /**
    * Two players that are related; used in relationships.
    *
@@ -0,0 +1,78 @@
+package games.strategy.engine.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable, array-based copy of the territories and connections of a {@link GameMap}.
+ *
+ * <p>
+ * Each territory is identified by its index in {@link GameMap#getTerritories()}, and the neighbors of each territory
+ * are stored as an array of such indexes, so the graph can be traversed without hashing territories or allocating
+ * iterators and intermediate sets.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are thread-safe.
+ * </p>
+ */
+final class TerritoryGraph {
+  private final List<Territory> territories;
+  private final Map<Territory, Integer> indexes;
+  private final int[][] neighbors;
+  private final boolean[] water;
+
+  TerritoryGraph(final List<Territory> territories, final Map<Territory, Set<Territory>> connections) {
+    this.territories = new ArrayList<>(territories);
+    indexes = new HashMap<>(territories.size() * 2);
+    for (int i = 0; i < territories.size(); i++) {
+      indexes.put(territories.get(i), i);
+    }
+    neighbors = new int[territories.size()][];
+    water = new boolean[territories.size()];
+    for (int i = 0; i < territories.size(); i++) {
+      final Territory territory = territories.get(i);
+      neighbors[i] = connections.get(territory).stream().mapToInt(indexes::get).toArray();
+      water[i] = territory.isWater();
+    }
+  }
+
+  int size() {
+    return territories.size();
+  }
+
+  /**
+   * Returns the index of the specified territory or -1 if the territory is not part of the graph.
+   */
+  int getIndex(final Territory territory) {
+    final Integer index = indexes.get(territory);
+    return (index == null) ? -1 : index;
+  }
+
+  Territory getTerritory(final int index) {
+    return territories.get(index);
+  }
+
+  boolean isWater(final int index) {
+    return water[index];
+  }
+
+  int getNeighborCount(final int index) {
+    return neighbors[index].length;
+  }
+
+  int getNeighbor(final int index, final int neighborNumber) {
+    return neighbors[index][neighborNumber];
+  }
+
+  /**
+   * Returns the indexes of the neighbors of the specified territory. The returned array is shared and must not be
+   * modified.
+   */
+  int[] getNeighbors(final int index) {
+    return neighbors[index];
+  }
+}
@@ -71,7 +71,11 @@ public class Unit extends GameDataComponent implements DynamicallyModifiable {
   }
 
   public void setOwner(final @Nullable PlayerId player) {
-    owner = Optional.ofNullable(player).orElse(PlayerId.NULL_PLAYERID);
+    final PlayerId newOwner = Optional.ofNullable(player).orElse(PlayerId.NULL_PLAYERID);
+    if (owner != null && !owner.equals(newOwner) && getData() != null) {
+      getData().notifyUnitOwnerChanged();
+    }
+    owner = newOwner;
   }
 
   @Override
@@ -4,33 +4,121 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
 
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
 
 /**
  * A collection of units.
+ *
+ * <p>
+ * Besides the units themselves, the collection keeps an index of its units by owner and type, and of the units it
+ * contains, which is updated as units are added and removed. This makes counting units by owner or type and testing
+ * whether a unit is in the collection independent of the size of the collection, which matters for the stacks of
+ * hundreds of units found in late game territories and sea zones. As units can change owner while they are in the
+ * collection, the index is rebuilt on its next use whenever any unit of the game has changed owner.
+ * </p>
  */
 public class UnitCollection extends GameDataComponent implements Collection<Unit> {
   private static final long serialVersionUID = -3534037864426122864L;
 
   private final List<Unit> units = new ArrayList<>();
   private final NamedUnitHolder holder;
+  private transient volatile @Nullable Index index;
 
   public UnitCollection(final NamedUnitHolder holder, final GameData data) {
     super(data);
     this.holder = holder;
   }
 
+  /**
+   * The number of units by owner and type, and the multiplicity of each unit, for the units of the collection at the
+   * time the owners of the units were last known.
+   */
+  private static final class Index {
+    private final int unitOwnerChangeCount;
+    private final Map<Unit, Integer> unitCounts = new HashMap<>();
+    private final Map<PlayerId, IntegerMap<UnitType>> unitCountsByOwner = new LinkedHashMap<>();
+
+    Index(final int unitOwnerChangeCount, final Collection<Unit> units) {
+      this.unitOwnerChangeCount = unitOwnerChangeCount;
+      units.forEach(this::add);
+    }
+
+    void add(final Unit unit) {
+      unitCounts.merge(unit, 1, Integer::sum);
+      unitCountsByOwner.computeIfAbsent(unit.getOwner(), owner -> new IntegerMap<>()).add(unit.getType(), 1);
+    }
+
+    void remove(final Unit unit) {
+      unitCounts.computeIfPresent(unit, (u, count) -> (count == 1) ? null : count - 1);
+      final IntegerMap<UnitType> unitCountsByType = unitCountsByOwner.get(unit.getOwner());
+      if (unitCountsByType == null) {
+        return;
+      }
+      unitCountsByType.add(unit.getType(), -1);
+      if (unitCountsByType.getInt(unit.getType()) <= 0) {
+        unitCountsByType.removeKey(unit.getType());
+        if (unitCountsByType.isEmpty()) {
+          unitCountsByOwner.remove(unit.getOwner());
+        }
+      }
+    }
+
+    boolean contains(final Object unit) {
+      return unitCounts.containsKey(unit);
+    }
+
+    IntegerMap<UnitType> getUnitCountsByType(final PlayerId owner) {
+      return unitCountsByOwner.getOrDefault(owner, new IntegerMap<>());
+    }
+  }
+
+  private int getUnitOwnerChangeCount() {
+    final GameData data = getData();
+    return (data == null) ? 0 : data.getUnitOwnerChangeCount();
+  }
+
+  private Index getIndex() {
+    final int unitOwnerChangeCount = getUnitOwnerChangeCount();
+    Index currentIndex = index;
+    if (currentIndex == null || currentIndex.unitOwnerChangeCount != unitOwnerChangeCount) {
+      currentIndex = new Index(unitOwnerChangeCount, units);
+      index = currentIndex;
+    }
+    return currentIndex;
+  }
+
+  /**
+   * Returns the index if it is up to date so that it can be updated along with the units, otherwise discards it so
+   * that it is rebuilt on its next use.
+   */
+  private @Nullable Index getIndexToUpdate() {
+    final Index currentIndex = index;
+    if (currentIndex != null && currentIndex.unitOwnerChangeCount == getUnitOwnerChangeCount()) {
+      return currentIndex;
+    }
+    index = null;
+    return null;
+  }
+
   @Override
   public boolean add(final Unit unit) {
     units.add(unit);
+    final Index currentIndex = getIndexToUpdate();
+    if (currentIndex != null) {
+      currentIndex.add(unit);
+    }
     holder.notifyChanged();
     return true;
   }
@@ -38,40 +126,67 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   @Override
   public boolean addAll(final Collection<? extends Unit> units) {
     final boolean result = this.units.addAll(units);
+    final Index currentIndex = getIndexToUpdate();
+    if (currentIndex != null) {
+      units.forEach(currentIndex::add);
+    }
     holder.notifyChanged();
     return result;
   }
 
   @Override
   public boolean removeAll(final Collection<?> units) {
-    final boolean result = this.units.removeAll(units);
+    final boolean result = removeUnitsIf(new HashSet<>(units)::contains);
     holder.notifyChanged();
     return result;
   }
 
+  @Override
+  public boolean removeIf(final Predicate<? super Unit> filter) {
+    final boolean result = removeUnitsIf(filter);
+    if (result) {
+      holder.notifyChanged();
+    }
+    return result;
+  }
+
+  private boolean removeUnitsIf(final Predicate<? super Unit> filter) {
+    final Index currentIndex = getIndexToUpdate();
+    return units.removeIf(unit -> {
+      if (!filter.test(unit)) {
+        return false;
+      }
+      if (currentIndex != null) {
+        currentIndex.remove(unit);
+      }
+      return true;
+    });
+  }
+
   public int getUnitCount() {
     return units.size();
   }
 
   int getUnitCount(final UnitType type) {
-    return (int) units.stream().filter(u -> u.getType().equals(type)).count();
+    int count = 0;
+    for (final IntegerMap<UnitType> unitCountsByType : getIndex().unitCountsByOwner.values()) {
+      count += unitCountsByType.getInt(type);
+    }
+    return count;
   }
 
   public int getUnitCount(final UnitType type, final PlayerId owner) {
-    return (int) units.stream().filter(u -> u.getType().equals(type) && u.getOwner().equals(owner)).count();
+    return getIndex().getUnitCountsByType(owner).getInt(type);
   }
 
   int getUnitCount(final PlayerId owner) {
-    return (int) units.stream().filter(u -> u.getOwner().equals(owner)).count();
+    return getIndex().getUnitCountsByType(owner).totalValues();
   }
 
   @Override
   public boolean containsAll(final Collection<?> units) {
-    // much faster for large sets
-    if (this.units.size() > 500 && units.size() > 500) {
-      return new HashSet<>(this.units).containsAll(units);
-    }
-    return this.units.containsAll(units);
+    final Index currentIndex = getIndex();
+    return units.stream().allMatch(currentIndex::contains);
   }
 
   /**
@@ -136,9 +251,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
    * @param id referring player ID
    */
   public IntegerMap<UnitType> getUnitsByType(final PlayerId id) {
-    final IntegerMap<UnitType> count = new IntegerMap<>();
-    units.stream().filter(unit -> unit.getOwner().equals(id)).forEach(unit -> count.add(unit.getType(), 1));
-    return count;
+    return new IntegerMap<>(getIndex().getUnitCountsByType(id));
   }
 
   @Override
@@ -156,7 +269,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
    */
   public Set<PlayerId> getPlayersWithUnits() {
     // note nulls are handled by PlayerId.NULL_PLAYERID
-    return units.stream().map(Unit::getOwner).collect(Collectors.toSet());
+    return new HashSet<>(getIndex().unitCountsByOwner.keySet());
   }
 
   /**
@@ -164,7 +277,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
    */
   public IntegerMap<PlayerId> getPlayerUnitCounts() {
     final IntegerMap<PlayerId> count = new IntegerMap<>();
-    units.forEach(unit -> count.add(unit.getOwner(), 1));
+    getIndex().unitCountsByOwner.forEach((owner, unitCountsByType) -> count.put(owner, unitCountsByType.totalValues()));
     return count;
   }
 
@@ -176,7 +289,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   }
 
   public boolean hasUnitsFromMultiplePlayers() {
-    return getPlayersWithUnits().size() > 1;
+    return getIndex().unitCountsByOwner.size() > 1;
   }
 
   public NamedUnitHolder getHolder() {
@@ -218,7 +331,7 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
 
   @Override
   public boolean contains(final Object object) {
-    return units.contains(object);
+    return getIndex().contains(object);
   }
 
   @Override
@@ -234,18 +347,26 @@ public class UnitCollection extends GameDataComponent implements Collection<Unit
   @Override
   public boolean remove(final Object object) {
     final boolean result = units.remove(object);
+    if (result) {
+      final Index currentIndex = getIndexToUpdate();
+      if (currentIndex != null) {
+        currentIndex.remove((Unit) object);
+      }
+    }
     holder.notifyChanged();
     return result;
   }
 
   @Override
   public boolean retainAll(final Collection<?> collection) {
-    return units.retainAll(collection);
+    final Set<?> retained = new HashSet<>(collection);
+    return removeIf(unit -> !retained.contains(unit));
   }
 
   @Override
   public void clear() {
     units.clear();
+    index = null;
     holder.notifyChanged();
   }
 }
@@ -28,6 +28,10 @@ public class UnitsList implements Serializable, Iterable<Unit> {
     allUnits.put(unit.getId(), unit);
   }
 
+  public void remove(final GUID id) {
+    allUnits.remove(id);
+  }
+
   /**
    * Gets all units currently in the game.
    */
@@ -8,6 +8,8 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitCollection;
 import games.strategy.engine.data.UnitHolder;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /**
  * Add units.
@@ -15,8 +17,11 @@ import games.strategy.engine.data.UnitHolder;
 class AddUnits extends Change {
   private static final long serialVersionUID = 2694342784633196289L;
 
+  @Getter(AccessLevel.PACKAGE)
   private final String name;
+  @Getter(AccessLevel.PACKAGE)
   private final Collection<Unit> units;
+  @Getter(AccessLevel.PACKAGE)
   private final String type;
 
   AddUnits(final UnitCollection collection, final Collection<Unit> units) {
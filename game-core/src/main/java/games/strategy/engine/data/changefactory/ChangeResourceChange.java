@@ -5,6 +5,8 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.data.Resource;
 import games.strategy.engine.data.ResourceCollection;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /**
  * Adds/removes resource from a player.
@@ -12,8 +14,11 @@ import games.strategy.engine.data.ResourceCollection;
 class ChangeResourceChange extends Change {
   private static final long serialVersionUID = -2304294240555842126L;
 
+  @Getter(AccessLevel.PACKAGE)
   private final String playerName;
+  @Getter(AccessLevel.PACKAGE)
   private final String resourceName;
+  @Getter(AccessLevel.PACKAGE)
   private final int quantity;
 
   ChangeResourceChange(final PlayerId player, final Resource resource, final int quantity) {
@@ -22,7 +27,7 @@ class ChangeResourceChange extends Change {
     this.quantity = quantity;
   }
 
-  private ChangeResourceChange(final String playerName, final String resourceName, final int quantity) {
+  ChangeResourceChange(final String playerName, final String resourceName, final int quantity) {
     this.playerName = playerName;
     this.resourceName = resourceName;
     this.quantity = quantity;
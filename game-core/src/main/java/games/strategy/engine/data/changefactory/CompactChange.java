@@ -0,0 +1,342 @@
+package games.strategy.engine.data.changefactory;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectInputStream;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.data.Named;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitHolder;
+import games.strategy.net.GUID;
+
+/**
+ * The serialized form of the most common changes within a game object stream.
+ *
+ * <p>
+ * Instead of serializing the class descriptors and object graphs of a change, the changes created by
+ * {@link ChangeFactory} for adding and removing units, changing territory owners, resources and unit properties, and
+ * composites of those, are written as a type tag followed by their fields, with territories, players and resources
+ * referenced by their index in the game data and units that the receiving game data already knows referenced by their
+ * id. Any other change is written with Java serialization, so it does not have to be known to this class.
+ * </p>
+ *
+ * <p>
+ * Indexes are only valid between game data loaded from the same game, so a {@link GameObjectOutputStream} only uses
+ * this form when it was created for a game data. A name that is not found in that game data is written as is.
+ * </p>
+ */
+public final class CompactChange implements Externalizable {
+  private static final long serialVersionUID = -3601384312519368318L;
+
+  private static final byte SERIALIZED = 0;
+  private static final byte COMPOSITE = 1;
+  private static final byte ADD_UNITS = 2;
+  private static final byte REMOVE_UNITS = 3;
+  private static final byte OWNER = 4;
+  private static final byte RESOURCE = 5;
+  private static final byte UNIT_PROPERTY = 6;
+
+  private static final int NULL_REFERENCE = -1;
+  private static final int NAME_REFERENCE = -2;
+
+  private static final byte UNIT_ID = 0;
+  private static final byte UNIT_OBJECT = 1;
+
+  private transient @Nullable GameData data;
+  private Change change;
+
+  /**
+   * Creates an uninitialized instance for deserialization.
+   */
+  public CompactChange() {}
+
+  private CompactChange(final Change change, final GameData data) {
+    this.change = change;
+    this.data = data;
+  }
+
+  /**
+   * Returns the compact form of the specified change, or the change itself if it has no compact form.
+   *
+   * @param change The change to be written.
+   * @param data The game data to which the game objects referenced by the change belong.
+   */
+  public static Object replace(final Change change, final GameData data) {
+    checkNotNull(change);
+    checkNotNull(data);
+
+    return getTag(change) == SERIALIZED ? change : new CompactChange(change, data);
+  }
+
+  private static byte getTag(final Change change) {
+    final Class<?> changeClass = change.getClass();
+    if (changeClass == CompositeChange.class) {
+      return COMPOSITE;
+    } else if (changeClass == AddUnits.class) {
+      return ADD_UNITS;
+    } else if (changeClass == RemoveUnits.class) {
+      return REMOVE_UNITS;
+    } else if (changeClass == OwnerChange.class) {
+      return OWNER;
+    } else if (changeClass == ChangeResourceChange.class) {
+      return RESOURCE;
+    } else if (changeClass == ObjectPropertyChange.class) {
+      return UNIT_PROPERTY;
+    }
+    return SERIALIZED;
+  }
+
+  @Override
+  public void writeExternal(final ObjectOutput out) throws IOException {
+    if (data == null) {
+      throw new IOException("Compact change has no game data");
+    }
+    new Writer(out, data).writeChange(change);
+  }
+
+  @Override
+  public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+    final @Nullable GameData gameData =
+        in instanceof GameObjectInputStream ? ((GameObjectInputStream) in).getData() : null;
+    if (gameData == null) {
+      throw new InvalidObjectException("Compact change must be read from a game object stream with game data");
+    }
+    change = new Reader(in, gameData).readChange();
+  }
+
+  private Object readResolve() {
+    return change;
+  }
+
+  private static final class Writer {
+    private final ObjectOutput out;
+    private final GameData data;
+    private final List<? extends Named> players;
+    private final List<? extends Named> resources;
+    // the units that the reader will have resolved before reading the next unit
+    private final Set<GUID> knownUnitIds = new HashSet<>();
+
+    Writer(final ObjectOutput out, final GameData data) {
+      this.out = out;
+      this.data = data;
+      players = data.getPlayerList().getPlayers();
+      resources = data.getResourceList().getResources();
+    }
+
+    void writeChange(final Change change) throws IOException {
+      final byte tag = getTag(change);
+      out.writeByte(tag);
+      switch (tag) {
+        case COMPOSITE:
+          final List<Change> changes = ((CompositeChange) change).getChanges();
+          out.writeInt(changes.size());
+          for (final Change child : changes) {
+            writeChange(child);
+          }
+          break;
+        case ADD_UNITS:
+          final AddUnits addUnits = (AddUnits) change;
+          writeUnitHolder(addUnits.getName(), addUnits.getType());
+          writeUnits(addUnits.getUnits(), false);
+          break;
+        case REMOVE_UNITS:
+          final RemoveUnits removeUnits = (RemoveUnits) change;
+          writeUnitHolder(removeUnits.getName(), removeUnits.getType());
+          // the reader must already know the units that are removed from one of its unit holders
+          writeUnits(removeUnits.getUnits(), true);
+          break;
+        case OWNER:
+          final OwnerChange ownerChange = (OwnerChange) change;
+          writeTerritory(ownerChange.getTerritoryName());
+          writeReference(ownerChange.getNewOwnerName(), players);
+          writeReference(ownerChange.getOldOwnerName(), players);
+          break;
+        case RESOURCE:
+          final ChangeResourceChange resourceChange = (ChangeResourceChange) change;
+          writeReference(resourceChange.getPlayerName(), players);
+          writeReference(resourceChange.getResourceName(), resources);
+          out.writeInt(resourceChange.getQuantity());
+          break;
+        case UNIT_PROPERTY:
+          final ObjectPropertyChange propertyChange = (ObjectPropertyChange) change;
+          writeUnit(propertyChange.getObject(), false);
+          out.writeUTF(propertyChange.getProperty());
+          out.writeObject(propertyChange.getNewValue());
+          out.writeObject(propertyChange.getOldValue());
+          break;
+        default:
+          out.writeObject(change);
+          break;
+      }
+    }
+
+    private void writeUnitHolder(final String name, final String type) throws IOException {
+      out.writeUTF(type);
+      if (UnitHolder.TERRITORY.equals(type)) {
+        writeTerritory(name);
+      } else {
+        writeReference(name, players);
+      }
+    }
+
+    private void writeTerritory(final String name) throws IOException {
+      final @Nullable Territory territory = data.getMap().getTerritory(name);
+      writeIndex(territory == null ? NAME_REFERENCE : data.getMap().getTerritoryIndex(territory), name);
+    }
+
+    private void writeReference(final @Nullable String name, final List<? extends Named> objects) throws IOException {
+      if (name == null) {
+        out.writeInt(NULL_REFERENCE);
+        return;
+      }
+      int index = NAME_REFERENCE;
+      for (int i = 0; i < objects.size(); i++) {
+        if (name.equals(objects.get(i).getName())) {
+          index = i;
+          break;
+        }
+      }
+      writeIndex(index, name);
+    }
+
+    private void writeIndex(final int index, final String name) throws IOException {
+      out.writeInt(index < 0 ? NAME_REFERENCE : index);
+      if (index < 0) {
+        out.writeUTF(name);
+      }
+    }
+
+    private void writeUnits(final Collection<Unit> units, final boolean known) throws IOException {
+      out.writeInt(units.size());
+      for (final Unit unit : units) {
+        writeUnit(unit, known);
+      }
+    }
+
+    private void writeUnit(final Unit unit, final boolean known) throws IOException {
+      if (known || knownUnitIds.contains(unit.getId())) {
+        out.writeByte(UNIT_ID);
+        out.writeObject(unit.getId());
+      } else {
+        out.writeByte(UNIT_OBJECT);
+        out.writeObject(unit);
+      }
+      knownUnitIds.add(unit.getId());
+    }
+  }
+
+  private static final class Reader {
+    private final ObjectInput in;
+    private final GameData data;
+    private final List<? extends Named> territories;
+    private final List<? extends Named> players;
+    private final List<? extends Named> resources;
+
+    Reader(final ObjectInput in, final GameData data) {
+      this.in = in;
+      this.data = data;
+      territories = data.getMap().getTerritories();
+      players = data.getPlayerList().getPlayers();
+      resources = data.getResourceList().getResources();
+    }
+
+    Change readChange() throws IOException, ClassNotFoundException {
+      final byte tag = in.readByte();
+      switch (tag) {
+        case SERIALIZED:
+          return (Change) in.readObject();
+        case COMPOSITE:
+          final int count = in.readInt();
+          final List<Change> changes = new ArrayList<>(count);
+          for (int i = 0; i < count; i++) {
+            changes.add(readChange());
+          }
+          return new CompositeChange(changes);
+        case ADD_UNITS: {
+          final String type = in.readUTF();
+          final String name = readUnitHolderName(type);
+          return new AddUnits(name, type, readUnits());
+        }
+        case REMOVE_UNITS: {
+          final String type = in.readUTF();
+          final String name = readUnitHolderName(type);
+          return new RemoveUnits(name, type, readUnits());
+        }
+        case OWNER:
+          final String territoryName = readReference(territories);
+          final String newOwnerName = readReference(players);
+          return new OwnerChange(territoryName, newOwnerName, readReference(players));
+        case RESOURCE:
+          final String playerName = readReference(players);
+          final String resourceName = readReference(resources);
+          return new ChangeResourceChange(playerName, resourceName, in.readInt());
+        case UNIT_PROPERTY:
+          final Unit unit = readUnit();
+          final String property = in.readUTF();
+          final Object newValue = in.readObject();
+          return new ObjectPropertyChange(unit, property, newValue, in.readObject());
+        default:
+          throw new InvalidObjectException("Unknown change tag: " + tag);
+      }
+    }
+
+    private String readUnitHolderName(final String type) throws IOException {
+      return readReference(UnitHolder.TERRITORY.equals(type) ? territories : players);
+    }
+
+    private @Nullable String readReference(final List<? extends Named> objects) throws IOException {
+      final int index = in.readInt();
+      if (index == NULL_REFERENCE) {
+        return null;
+      } else if (index == NAME_REFERENCE) {
+        return in.readUTF();
+      } else if (index < 0 || index >= objects.size()) {
+        throw new InvalidObjectException("Game object index out of range: " + index);
+      }
+      return objects.get(index).getName();
+    }
+
+    private List<Unit> readUnits() throws IOException, ClassNotFoundException {
+      final int count = in.readInt();
+      final List<Unit> units = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        units.add(readUnit());
+      }
+      return units;
+    }
+
+    private Unit readUnit() throws IOException, ClassNotFoundException {
+      if (in.readByte() == UNIT_OBJECT) {
+        return (Unit) in.readObject();
+      }
+      final GUID id = (GUID) in.readObject();
+      data.acquireReadLock();
+      try {
+        final @Nullable Unit unit = data.getUnits().get(id);
+        if (unit == null) {
+          throw new InvalidObjectException("Unknown unit: " + id);
+        }
+        return unit;
+      } finally {
+        data.releaseReadLock();
+      }
+    }
+  }
+}
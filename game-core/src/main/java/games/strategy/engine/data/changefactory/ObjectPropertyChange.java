@@ -7,6 +7,8 @@ import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.MutableProperty;
 import games.strategy.engine.data.Unit;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /**
  * A game data change that captures a change to an object property value.
@@ -14,9 +16,13 @@ import games.strategy.engine.data.Unit;
 public class ObjectPropertyChange extends Change {
   private static final long serialVersionUID = 4218093376094170940L;
 
+  @Getter(AccessLevel.PACKAGE)
   private final Unit object;
+  @Getter(AccessLevel.PACKAGE)
   private String property;
+  @Getter(AccessLevel.PACKAGE)
   private final Object newValue;
+  @Getter(AccessLevel.PACKAGE)
   private final Object oldValue;
 
   ObjectPropertyChange(final Unit object, final String property, final Object newValue) {
@@ -26,7 +32,7 @@ public class ObjectPropertyChange extends Change {
     oldValue = object.getPropertyOrThrow(property).getValue();
   }
 
-  private ObjectPropertyChange(final Unit object, final String property, final Object newValue,
+  ObjectPropertyChange(final Unit object, final String property, final Object newValue,
       final Object oldValue) {
     this.object = object;
     // prevent multiple copies of the property names being held in the game
@@ -4,6 +4,8 @@ import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.data.Territory;
+import lombok.AccessLevel;
+import lombok.Getter;
 
 /**
  * Changes ownership of a territory.
@@ -14,8 +16,11 @@ class OwnerChange extends Change {
   /**
    * Either new or old owner can be null.
    */
+  @Getter(AccessLevel.PACKAGE)
   private final String oldOwnerName;
+  @Getter(AccessLevel.PACKAGE)
   private final String newOwnerName;
+  @Getter(AccessLevel.PACKAGE)
   private final String territoryName;
 
   /**
@@ -27,7 +32,7 @@ class OwnerChange extends Change {
     oldOwnerName = getName(territory.getOwner());
   }
 
-  private OwnerChange(final String territoryName, final String newOwnerName, final String oldOwnerName) {
+  OwnerChange(final String territoryName, final String newOwnerName, final String oldOwnerName) {
     this.territoryName = territoryName;
     this.newOwnerName = newOwnerName;
     this.oldOwnerName = oldOwnerName;
@@ -0,0 +1,124 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import games.strategy.engine.data.GameData;
+import lombok.extern.java.Log;
+
+/**
+ * Writes autosaves on a background thread, so that the game only has to be paused while the game data is serialized
+ * into memory, and not while the save game is compressed and written to disk.
+ *
+ * <p>
+ * Autosaves are {@link JournaledSaveGame journaled save games}, so that saving to the same autosave file again only
+ * needs to serialize what happened in the game since the previous autosave to that file.
+ * </p>
+ *
+ * <p>
+ * Autosaves are written one at a time in the order in which they were submitted. The time the game was paused for
+ * each autosave and the time spent writing it are logged and accumulated, so that the two can be compared.
+ * </p>
+ */
+@Log
+final class AutoSaveWriter {
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(
+      new ThreadFactoryBuilder()
+          .setDaemon(true)
+          .setNameFormat("AutoSave Writer-%d")
+          .build());
+  private final JournaledSaveGame journaledSaveGame;
+  private final AtomicLong saveCount = new AtomicLong();
+  private final AtomicLong compactionCount = new AtomicLong();
+  private final AtomicLong totalPauseNanos = new AtomicLong();
+  private final AtomicLong maxPauseNanos = new AtomicLong();
+  private final AtomicLong totalWriteNanos = new AtomicLong();
+  private final AtomicLong maxWriteNanos = new AtomicLong();
+
+  AutoSaveWriter(final JournaledSaveGame journaledSaveGame) {
+    this.journaledSaveGame = checkNotNull(journaledSaveGame);
+  }
+
+  /**
+   * Prepares an autosave of the specified game data to the specified file.
+   * <strong>Delegate execution must be blocked while calling this method</strong>
+   *
+   * @throws IOException If an error occurs while serializing the game data.
+   */
+  JournaledSaveGame.Write prepare(final GameData data, final File file) throws IOException {
+    return journaledSaveGame.prepareWrite(data, file);
+  }
+
+  /**
+   * Performs the specified autosave in the background.
+   *
+   * @param write The autosave, as prepared by {@link #prepare(GameData, File)}.
+   * @param pauseNanos The time for which the game was paused to prepare the autosave.
+   */
+  void write(final JournaledSaveGame.Write write, final long pauseNanos) {
+    checkNotNull(write);
+
+    totalPauseNanos.addAndGet(pauseNanos);
+    maxPauseNanos.accumulateAndGet(pauseNanos, Math::max);
+    executor.execute(() -> {
+      final File file = write.getFile();
+      final long start = System.nanoTime();
+      try {
+        journaledSaveGame.write(write);
+      } catch (final IOException e) {
+        log.log(Level.SEVERE, "Failed to write autosave to file: " + file.getAbsolutePath(), e);
+        return;
+      }
+      final long writeNanos = System.nanoTime() - start;
+      saveCount.incrementAndGet();
+      if (write.isCompaction()) {
+        compactionCount.incrementAndGet();
+      }
+      totalWriteNanos.addAndGet(writeNanos);
+      maxWriteNanos.accumulateAndGet(writeNanos, Math::max);
+      log.fine(() -> String.format("Autosaved %s (%s, %d bytes): game paused for %d ms, written in %d ms",
+          file.getName(), write.isCompaction() ? "snapshot" : "journal entry", write.getSize(),
+          TimeUnit.NANOSECONDS.toMillis(pauseNanos), TimeUnit.NANOSECONDS.toMillis(writeNanos)));
+    });
+  }
+
+  /**
+   * Waits for the autosaves that have already been submitted to be written and stops the background thread.
+   */
+  void shutDown() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        log.warning("Timed out waiting for autosaves to be written");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    log.info(this::getMetrics);
+  }
+
+  /**
+   * Returns a summary of the time the game was paused for autosaves and of the time spent writing them.
+   */
+  String getMetrics() {
+    return String.format(
+        "Autosaves written: %d (%d snapshots), game paused: %d ms total, %d ms max, writing: %d ms total, %d ms max",
+        saveCount.get(),
+        compactionCount.get(),
+        TimeUnit.NANOSECONDS.toMillis(totalPauseNanos.get()),
+        TimeUnit.NANOSECONDS.toMillis(maxPauseNanos.get()),
+        TimeUnit.NANOSECONDS.toMillis(totalWriteNanos.get()),
+        TimeUnit.NANOSECONDS.toMillis(maxWriteNanos.get()));
+  }
+}
@@ -0,0 +1,153 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.history.History;
+import games.strategy.io.IoUtils;
+
+/**
+ * The changes made to a {@link GameData} instance since a given {@link Position}, which can be used to bring private
+ * copies of the game data up to date without copying the game data again.
+ *
+ * <p>
+ * The changes are taken from the history of the game data and are serialized once, in the same way as changes sent to
+ * remote players, so that they can be replayed on any number of copies, each of which resolves the territories, units
+ * and other game objects referenced by the changes to its own objects. A delta is only available when the changes
+ * since the position are still known; when they are not, for example because the history of the game data was replaced
+ * or has been rewound, the copies must be created again from a {@link GameDataSnapshot}.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are immutable.
+ * </p>
+ */
+public final class GameDataDelta {
+  private final byte[] changes;
+  private final int changeCount;
+  private final int round;
+  private final int stepIndex;
+  private final Position position;
+
+  private GameDataDelta(
+      final byte[] changes,
+      final int changeCount,
+      final int round,
+      final int stepIndex,
+      final Position position) {
+    this.changes = changes;
+    this.changeCount = changeCount;
+    this.round = round;
+    this.stepIndex = stepIndex;
+    this.position = position;
+  }
+
+  /**
+   * A point in the history of a game data instance.
+   */
+  public static final class Position {
+    private final History history;
+    private final int changeCount;
+    private final @Nullable Change lastChange;
+
+    private Position(final History history, final int changeCount, final @Nullable Change lastChange) {
+      this.history = history;
+      this.changeCount = changeCount;
+      this.lastChange = lastChange;
+    }
+  }
+
+  /**
+   * Returns the current position of the specified game data.
+   * <strong>You should have the game data's read or write lock before calling this method</strong>
+   */
+  public static Position getPosition(final GameData data) {
+    checkNotNull(data);
+
+    final History history = data.getHistory();
+    return new Position(history, history.getChangeCount(), history.getMostRecentChange());
+  }
+
+  /**
+   * Captures the changes made to the specified game data since the specified position.
+   * <strong>You should have the game data's read or write lock before calling this method</strong>
+   *
+   * @param data The game data whose changes are to be captured.
+   * @param since A position of the specified game data.
+   *
+   * @return The captured changes, or empty if the changes since the specified position are no longer known.
+   *
+   * @throws IOException If an error occurs while capturing the changes.
+   */
+  public static Optional<GameDataDelta> capture(final GameData data, final Position since) throws IOException {
+    checkNotNull(data);
+    checkNotNull(since);
+
+    final History history = data.getHistory();
+    if (history != since.history) {
+      return Optional.empty();
+    }
+    final Optional<List<Change>> changes = history.getChangesSince(since.changeCount, since.lastChange);
+    if (!changes.isPresent()) {
+      return Optional.empty();
+    }
+    final byte[] bytes = IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream out = new GameObjectOutputStream(os)) {
+        out.writeObject(new CompositeChange(changes.get()));
+      }
+    });
+    return Optional.of(new GameDataDelta(
+        bytes,
+        changes.get().size(),
+        data.getSequence().getRound(),
+        data.getSequence().getStepIndex(),
+        getPosition(data)));
+  }
+
+  /**
+   * Replays the captured changes on the specified copy of the game data, which must be at the position from which the
+   * changes were captured.
+   *
+   * @throws IOException If an error occurs while replaying the changes.
+   */
+  public void applyTo(final GameData copy) throws IOException {
+    checkNotNull(copy);
+
+    if (changeCount > 0) {
+      final Change change = IoUtils.readFromMemory(changes, is -> {
+        try (ObjectInputStream in = new GameObjectStreamFactory(copy).create(is)) {
+          return (Change) in.readObject();
+        } catch (final ClassNotFoundException e) {
+          throw new IOException(e);
+        }
+      });
+      copy.performChange(change);
+    }
+    copy.getSequence().setRoundAndStepIndex(round, stepIndex);
+  }
+
+  /**
+   * Returns the number of captured changes.
+   */
+  public int getChangeCount() {
+    return changeCount;
+  }
+
+  /**
+   * Returns the position of the game data after the captured changes.
+   */
+  public Position getPosition() {
+    return position;
+  }
+}
@@ -28,6 +28,7 @@ import games.strategy.engine.ClientContext;
 import games.strategy.engine.GameEngineVersion;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.delegate.IDelegate;
+import games.strategy.io.IoUtils;
 import games.strategy.triplea.UrlConstants;
 
 /**
@@ -59,7 +60,7 @@ public final class GameDataManager {
   }
 
   /**
-   * Loads game data from the specified stream.
+   * Loads game data from the specified stream, which contains either a regular or a journaled save game.
    *
    * @param is The stream from which the game data will be loaded. The caller is responsible for closing this stream; it
    *        will not be closed when this method returns.
@@ -71,7 +72,11 @@ public final class GameDataManager {
   public static GameData loadGame(final InputStream is) throws IOException {
     checkNotNull(is);
 
-    final ObjectInputStream input = new ObjectInputStream(new GZIPInputStream(is));
+    final InputStream markableIs = is.markSupported() ? is : new BufferedInputStream(is);
+    if (JournaledSaveGame.isJournaled(markableIs)) {
+      return JournaledSaveGame.load(markableIs);
+    }
+    final ObjectInputStream input = new ObjectInputStream(new GZIPInputStream(markableIs));
     try {
       final Version readVersion = (Version) input.readObject();
       final boolean headless = HeadlessGameServer.headless();
@@ -89,15 +94,24 @@ public final class GameDataManager {
         }
       }
 
-      final GameData data = (GameData) input.readObject();
-      data.postDeSerialize();
-      loadDelegates(input, data);
-      return data;
+      return readGameData(input);
     } catch (final ClassNotFoundException cnfe) {
       throw new IOException(cnfe.getMessage());
     }
   }
 
+  /**
+   * Reads game data (and any delegates that were saved with it) from the specified stream. Unlike
+   * {@link #loadGame(InputStream)}, the stream is expected to be neither compressed nor prefixed with an engine
+   * version.
+   */
+  static GameData readGameData(final ObjectInputStream input) throws ClassNotFoundException, IOException {
+    final GameData data = (GameData) input.readObject();
+    data.postDeSerialize();
+    loadDelegates(input, data);
+    return data;
+  }
+
   private static boolean promptToLoadNewerSaveGame(final Version saveGameVersion) {
     final int answer = Interruptibles.awaitResult(() -> SwingAction.invokeAndWaitResult(() -> {
       final String message = "Your TripleA engine is OUT OF DATE. "
@@ -165,17 +179,7 @@ public final class GameDataManager {
           OutputStream zippedOutStream = new GZIPOutputStream(bufferedOutStream);
           ObjectOutputStream outStream = new ObjectOutputStream(zippedOutStream)) {
         outStream.writeObject(ClientContext.engineVersion());
-        data.acquireReadLock();
-        try {
-          outStream.writeObject(data);
-          if (saveDelegateInfo) {
-            writeDelegates(data, outStream);
-          } else {
-            outStream.writeObject(DELEGATE_LIST_END);
-          }
-        } finally {
-          data.releaseReadLock();
-        }
+        writeGameData(outStream, data, saveDelegateInfo);
       }
 
       // now write to sink (ensure sink is closed per method contract)
@@ -188,6 +192,43 @@ public final class GameDataManager {
     }
   }
 
+  /**
+   * Serializes the specified game data and its delegates into memory in the format of a save game, but without
+   * compressing them, so that the game only needs to be paused while the game data is serialized, and not while it is
+   * compressed and written to disk.
+   *
+   * @throws IOException If an error occurs while serializing the game data.
+   */
+  static byte[] serializeGame(final GameData data) throws IOException {
+    checkNotNull(data);
+
+    return IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream outStream = new ObjectOutputStream(os)) {
+        outStream.writeObject(ClientContext.engineVersion());
+        writeGameData(outStream, data, true);
+      }
+    });
+  }
+
+  /**
+   * Writes the specified game data (and optionally its delegates) to the specified stream while holding the game data's
+   * read lock. The output can be read back with {@link #readGameData(ObjectInputStream)}.
+   */
+  static void writeGameData(final ObjectOutputStream outStream, final GameData data, final boolean saveDelegateInfo)
+      throws IOException {
+    data.acquireReadLock();
+    try {
+      outStream.writeObject(data);
+      if (saveDelegateInfo) {
+        writeDelegates(data, outStream);
+      } else {
+        outStream.writeObject(DELEGATE_LIST_END);
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
   private static void writeDelegates(final GameData data, final ObjectOutputStream out) throws IOException {
     for (final IDelegate delegate : data.getDelegates()) {
       out.writeObject(DELEGATE_START);
@@ -0,0 +1,103 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.history.History;
+import games.strategy.io.IoUtils;
+
+/**
+ * An immutable, in-memory image of a {@link GameData} instance that can be used to cheaply create any number of
+ * private, mutable copies of the game data.
+ *
+ * <p>
+ * Unlike {@link GameDataUtils#cloneGameData(GameData)}, the game data is only serialized once, regardless of how many
+ * copies are later created, and the image is neither compressed nor staged through a temporary file. The source game
+ * data only needs to be locked while the snapshot is being captured; copies may then be created concurrently from any
+ * thread without touching the source game data again.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are thread-safe.
+ * </p>
+ */
+public final class GameDataSnapshot {
+  private final byte[] bytes;
+
+  private GameDataSnapshot(final byte[] bytes) {
+    this.bytes = bytes;
+  }
+
+  /**
+   * Captures a snapshot of the specified game data, including its history.
+   * <strong>You should have the game data's read or write lock before calling this method</strong>
+   *
+   * @param data The game data to capture.
+   * @param copyDelegates {@code true} if the delegates should be included in the snapshot; otherwise {@code false}.
+   *
+   * @return The captured snapshot.
+   *
+   * @throws IOException If an error occurs while capturing the snapshot.
+   */
+  public static GameDataSnapshot capture(final GameData data, final boolean copyDelegates) throws IOException {
+    checkNotNull(data);
+
+    return new GameDataSnapshot(IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream out = new ObjectOutputStream(os)) {
+        GameDataManager.writeGameData(out, data, copyDelegates);
+      }
+    }));
+  }
+
+  /**
+   * Captures a snapshot of the specified game data without its history as it can get large.
+   * <strong>You should have the game data's write lock before calling this method</strong>
+   *
+   * @param data The game data to capture.
+   * @param copyDelegates {@code true} if the delegates should be included in the snapshot; otherwise {@code false}.
+   *
+   * @return The captured snapshot.
+   *
+   * @throws IOException If an error occurs while capturing the snapshot.
+   */
+  public static GameDataSnapshot captureWithoutHistory(final GameData data, final boolean copyDelegates)
+      throws IOException {
+    checkNotNull(data);
+
+    final History history = data.getHistory();
+    data.resetHistory();
+    try {
+      return capture(data, copyDelegates);
+    } finally {
+      data.setHistory(history);
+    }
+  }
+
+  /**
+   * Creates a new, independent copy of the game data captured by this snapshot.
+   *
+   * @return A new copy of the captured game data.
+   *
+   * @throws IOException If an error occurs while creating the copy.
+   */
+  public GameData newGameData() throws IOException {
+    return IoUtils.readFromMemory(bytes, is -> {
+      try (ObjectInputStream in = new ObjectInputStream(is)) {
+        return GameDataManager.readGameData(in);
+      } catch (final ClassNotFoundException e) {
+        throw new IOException(e);
+      }
+    });
+  }
+
+  /**
+   * Returns the size of this snapshot in bytes, which can be used as a rough estimate of the cost of each copy.
+   */
+  public int size() {
+    return bytes.length;
+  }
+}
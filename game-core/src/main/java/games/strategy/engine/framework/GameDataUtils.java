@@ -40,8 +40,7 @@ public final class GameDataUtils {
    */
   public static GameData cloneGameData(final GameData data, final boolean copyDelegates) {
     try {
-      final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data, copyDelegates));
-      return IoUtils.readFromMemory(bytes, GameDataManager::loadGame);
+      return GameDataSnapshot.capture(data, copyDelegates).newGameData();
     } catch (final IOException e) {
       log.log(Level.SEVERE, "Failed to clone game data", e);
       return null;
@@ -50,12 +49,13 @@ public final class GameDataUtils {
 
   /**
    * Translate units, territories and other game data objects from one game data into another.
+   * Both game data must have been loaded from the same game.
    */
   @SuppressWarnings("unchecked")
   public static <T> T translateIntoOtherGameData(final T object, final GameData translateInto) {
     try {
       final byte[] bytes = IoUtils.writeToMemory(os -> {
-        try (ObjectOutputStream out = new GameObjectOutputStream(os)) {
+        try (ObjectOutputStream out = new GameObjectOutputStream(os, translateInto)) {
           out.writeObject(object);
         }
       });
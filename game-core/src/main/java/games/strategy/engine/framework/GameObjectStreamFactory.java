@@ -31,7 +31,7 @@ public class GameObjectStreamFactory implements IObjectStreamFactory {
 
   @Override
   public ObjectOutputStream create(final OutputStream stream) throws IOException {
-    return new GameObjectOutputStream(stream);
+    return new GameObjectOutputStream(stream, gameData);
   }
 
   public void setData(final GameData data) {
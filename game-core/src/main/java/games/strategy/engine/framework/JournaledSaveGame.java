@@ -0,0 +1,389 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.data.GameSequence;
+import games.strategy.engine.delegate.IDelegate;
+import games.strategy.engine.history.HistoryWriter;
+import games.strategy.engine.history.SerializationWriter;
+import games.strategy.io.IoUtils;
+import lombok.extern.java.Log;
+
+/**
+ * A save game made of a full snapshot of the game followed by an append-only journal of what happened in the game since
+ * the snapshot was taken, so that saving the same game to the same file again only needs to append what happened
+ * since the previous save.
+ *
+ * <p>
+ * The file starts with a magic number followed by records, each of which is prefixed with its length and checksum.
+ * The first record is the snapshot, in the format of a regular save game. Each further record is a compressed journal
+ * entry holding the operations performed on the game's {@link HistoryWriter} since the previous record, which include
+ * the changes made to the game data, together with the state of the game sequence and of the delegates. A record that
+ * was not completely written, for example because the game was terminated while it was being appended, ends the
+ * journal when the save game is loaded.
+ * </p>
+ *
+ * <p>
+ * An instance remembers, for each file it has prepared a write for, the position of the history journal at the time
+ * of the write. The next write to the same file is an append, unless the journal is no longer available (for example
+ * because the history was rewound) or has grown too large compared to the snapshot, in which case the file is
+ * compacted by replacing it with a new snapshot.
+ * </p>
+ *
+ * <p>
+ * As each write trims the history journal up to the oldest position still needed by any file of the instance, all
+ * files written from the same game data must be written with the same instance. A file that will not be written
+ * anymore must be {@link #forget(File) forgotten}, so that it does not keep the journal from being trimmed.
+ * </p>
+ */
+@Log
+final class JournaledSaveGame {
+  private static final byte[] MAGIC = {'T', 'A', 'J', 'S', 'A', 'V', 'E', '1'};
+  private static final int MAX_ENTRY_COUNT = 50;
+
+  private final Map<File, Journal> journalsByFile = new HashMap<>();
+
+  /**
+   * The state of the journal of a file at the time of the last prepared write.
+   */
+  private static final class Journal {
+    private final HistoryWriter.JournalPosition position;
+    private final int snapshotSize;
+    private final int entriesSize;
+    private final int entryCount;
+
+    Journal(
+        final HistoryWriter.JournalPosition position,
+        final int snapshotSize,
+        final int entriesSize,
+        final int entryCount) {
+      this.position = position;
+      this.snapshotSize = snapshotSize;
+      this.entriesSize = entriesSize;
+      this.entryCount = entryCount;
+    }
+
+    boolean needsCompaction() {
+      return entryCount >= MAX_ENTRY_COUNT || entriesSize >= snapshotSize;
+    }
+
+    Journal append(final HistoryWriter.JournalPosition newPosition, final int entrySize) {
+      return new Journal(newPosition, snapshotSize, entriesSize + entrySize, entryCount + 1);
+    }
+
+    Journal withPosition(final HistoryWriter.JournalPosition newPosition) {
+      return new Journal(newPosition, snapshotSize, entriesSize, entryCount);
+    }
+  }
+
+  /**
+   * A write to a journaled save game, prepared by {@link #prepareWrite(GameData, File)}.
+   */
+  static final class Write {
+    private final File file;
+    private final byte[] record;
+    private final boolean compaction;
+
+    private Write(final File file, final byte[] record, final boolean compaction) {
+      this.file = file;
+      this.record = record;
+      this.compaction = compaction;
+    }
+
+    File getFile() {
+      return file;
+    }
+
+    /**
+     * Returns the size of the uncompressed record to be written.
+     */
+    int getSize() {
+      return record.length;
+    }
+
+    /**
+     * Returns true if the file will be replaced with a new snapshot or false if a journal entry will be appended to it.
+     */
+    boolean isCompaction() {
+      return compaction;
+    }
+  }
+
+  /**
+   * A journal entry, holding what happened in a game between two writes.
+   */
+  private static final class Entry implements Serializable {
+    private static final long serialVersionUID = -1404591458313398036L;
+
+    private final List<SerializationWriter> historyOperations;
+    private final int round;
+    private final int stepIndex;
+    private final int[] stepRunCounts;
+    private final Map<String, Serializable> delegateStates = new HashMap<>();
+
+    Entry(final GameData data, final List<SerializationWriter> historyOperations) {
+      this.historyOperations = historyOperations;
+      final GameSequence sequence = data.getSequence();
+      round = sequence.getRound();
+      stepIndex = sequence.getStepIndex();
+      stepRunCounts = new int[sequence.size()];
+      for (int i = 0; i < stepRunCounts.length; i++) {
+        stepRunCounts[i] = sequence.getStep(i).getRunCount();
+      }
+      for (final IDelegate delegate : data.getDelegates()) {
+        delegateStates.put(delegate.getName(), delegate.saveState());
+      }
+    }
+
+    void applyTo(final GameData data) throws IOException {
+      data.getHistory().getHistoryWriter().replay(historyOperations);
+      final GameSequence sequence = data.getSequence();
+      sequence.setRoundAndStepIndex(round, stepIndex);
+      for (int i = 0; i < stepRunCounts.length; i++) {
+        sequence.getStep(i).setRunCount(stepRunCounts[i]);
+      }
+      for (final Map.Entry<String, Serializable> delegateState : delegateStates.entrySet()) {
+        final IDelegate delegate = data.getDelegate(delegateState.getKey());
+        if (delegate == null) {
+          throw new IOException("Journal entry refers to unknown delegate: " + delegateState.getKey());
+        }
+        delegate.loadState(delegateState.getValue());
+      }
+    }
+  }
+
+  /**
+   * Prepares a write of the specified game data to the specified file, which is either the append of a journal entry
+   * or, if the file must be compacted, a new snapshot. The returned write is performed by {@link #write(Write)}, which
+   * does not require the game data.
+   * <strong>Delegate execution must be blocked while calling this method</strong>
+   *
+   * @throws IOException If an error occurs while serializing the game data.
+   */
+  synchronized Write prepareWrite(final GameData data, final File file) throws IOException {
+    checkNotNull(data);
+    checkNotNull(file);
+
+    final HistoryWriter historyWriter = data.getHistory().getHistoryWriter();
+    historyWriter.startJournal();
+    final @Nullable Journal journal = journalsByFile.get(file);
+    if (journal != null && !journal.needsCompaction()) {
+      final Optional<List<SerializationWriter>> operations = historyWriter.getJournalSince(journal.position);
+      if (operations.isPresent()) {
+        final HistoryWriter.JournalPosition position = historyWriter.getJournalPosition();
+        final byte[] entry = serializeEntry(data, operations.get());
+        journalsByFile.put(file, journal.append(position, entry.length));
+        trimJournal(historyWriter);
+        return new Write(file, entry, false);
+      }
+    }
+    final HistoryWriter.JournalPosition position = historyWriter.getJournalPosition();
+    final byte[] snapshot = GameDataManager.serializeGame(data);
+    journalsByFile.put(file, new Journal(position, snapshot.length, 0, 0));
+    trimJournal(historyWriter);
+    return new Write(file, snapshot, true);
+  }
+
+  /**
+   * Discards the operations of the history journal that no file will append anymore, so that the journal does not keep
+   * all operations since the start of the game.
+   */
+  private void trimJournal(final HistoryWriter historyWriter) {
+    final List<File> files = new ArrayList<>(journalsByFile.keySet());
+    final List<HistoryWriter.JournalPosition> positions = historyWriter.trimJournal(files.stream()
+        .map(file -> journalsByFile.get(file).position)
+        .collect(Collectors.toList()));
+    for (int i = 0; i < files.size(); i++) {
+      journalsByFile.put(files.get(i), journalsByFile.get(files.get(i)).withPosition(positions.get(i)));
+    }
+  }
+
+  private static byte[] serializeEntry(final GameData data, final List<SerializationWriter> operations)
+      throws IOException {
+    data.acquireReadLock();
+    try {
+      return IoUtils.writeToMemory(os -> {
+        try (ObjectOutputStream out = new GameObjectOutputStream(os)) {
+          out.writeObject(new Entry(data, operations));
+        }
+      });
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
+  /**
+   * Performs the specified write. If the write fails, the next write to the same file is a compaction.
+   *
+   * @throws IOException If an error occurs while writing the file.
+   */
+  void write(final Write write) throws IOException {
+    checkNotNull(write);
+
+    try {
+      if (write.compaction) {
+        writeSnapshot(write.record, write.file);
+      } else {
+        appendEntry(write.record, write.file);
+      }
+    } catch (final IOException e) {
+      forget(write.file);
+      throw e;
+    }
+  }
+
+  /**
+   * Forgets the journal position of the specified file, so that the next write to it is a compaction and the history
+   * journal is no longer kept for it.
+   */
+  synchronized void forget(final File file) {
+    journalsByFile.remove(file);
+  }
+
+  private static void writeSnapshot(final byte[] snapshot, final File file) throws IOException {
+    final File tempFile = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+    try {
+      try (OutputStream os = new FileOutputStream(tempFile);
+          DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+        out.write(MAGIC);
+        writeRecord(out, snapshot);
+      }
+      try {
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tempFile.toPath());
+    }
+  }
+
+  private static void appendEntry(final byte[] entry, final File file) throws IOException {
+    if (!file.isFile()) {
+      throw new IOException("Journaled save game no longer exists: " + file.getAbsolutePath());
+    }
+    try (OutputStream os = new FileOutputStream(file, true);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+      writeRecord(out, entry);
+    }
+  }
+
+  private static void writeRecord(final DataOutputStream out, final byte[] record) throws IOException {
+    final byte[] compressedRecord = IoUtils.writeToMemory(os -> {
+      try (OutputStream zippedOutStream = new GZIPOutputStream(os)) {
+        zippedOutStream.write(record);
+      }
+    });
+    out.writeInt(compressedRecord.length);
+    out.writeLong(checksum(compressedRecord));
+    out.write(compressedRecord);
+  }
+
+  private static long checksum(final byte[] bytes) {
+    final CRC32 crc = new CRC32();
+    crc.update(bytes, 0, bytes.length);
+    return crc.getValue();
+  }
+
+  /**
+   * Returns true if the specified stream contains a journaled save game. The stream must support
+   * {@link InputStream#mark(int)}; it is reset to its current position before this method returns.
+   */
+  static boolean isJournaled(final InputStream is) throws IOException {
+    checkNotNull(is);
+
+    is.mark(MAGIC.length);
+    try {
+      final byte[] magic = new byte[MAGIC.length];
+      return new DataInputStream(is).read(magic) == MAGIC.length && Arrays.equals(magic, MAGIC);
+    } finally {
+      is.reset();
+    }
+  }
+
+  /**
+   * Loads the game data from the specified journaled save game by loading the snapshot and replaying the journal
+   * entries appended to it.
+   *
+   * @return The loaded game data or null if the user declined to load the snapshot.
+   *
+   * @throws IOException If an error occurs while loading the game.
+   */
+  static @Nullable GameData load(final InputStream is) throws IOException {
+    checkNotNull(is);
+
+    final DataInputStream in = new DataInputStream(is);
+    in.readFully(new byte[MAGIC.length]);
+    final byte[] snapshot = readRecord(in)
+        .orElseThrow(() -> new IOException("Journaled save game does not contain a snapshot"));
+    final @Nullable GameData data = IoUtils.readFromMemory(snapshot, GameDataManager::loadGame);
+    if (data == null) {
+      return null;
+    }
+    for (Optional<byte[]> record = readRecord(in); record.isPresent(); record = readRecord(in)) {
+      readEntry(record.get(), data).applyTo(data);
+    }
+    return data;
+  }
+
+  private static Optional<byte[]> readRecord(final DataInputStream in) throws IOException {
+    try {
+      final int length = in.readInt();
+      final long checksum = in.readLong();
+      if (length < 0) {
+        log.warning("Ignoring corrupt journal record");
+        return Optional.empty();
+      }
+      final byte[] compressedRecord = new byte[length];
+      in.readFully(compressedRecord);
+      if (checksum(compressedRecord) != checksum) {
+        log.warning("Ignoring corrupt journal record");
+        return Optional.empty();
+      }
+      return Optional.of(compressedRecord);
+    } catch (final EOFException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static Entry readEntry(final byte[] record, final GameData data) throws IOException {
+    return IoUtils.readFromMemory(record, is -> {
+      try (ObjectInputStream in = new GameObjectStreamFactory(data).create(new GZIPInputStream(is))) {
+        return (Entry) in.readObject();
+      } catch (final ClassNotFoundException e) {
+        throw new IOException(e);
+      }
+    });
+  }
+}
@@ -0,0 +1,126 @@
+package games.strategy.engine.framework;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.logging.Level;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.framework.startup.mc.IObserverWaitingToJoin;
+import games.strategy.engine.message.ConnectionLostException;
+import games.strategy.net.INode;
+import lombok.extern.java.Log;
+
+/**
+ * Transfers the saved game of a game in progress to an observer joining the game, in chunks.
+ *
+ * <p>
+ * The saved game is written to a temporary file as a {@link JournaledSaveGame journaled save game}, so that delegate
+ * execution only needs to be blocked while the game data is serialized. The game can go on while the snapshot, which
+ * is the bulk of the saved game, is sent; what happened in the meantime is then appended as a journal entry, which is
+ * small enough to be sent while delegate execution is blocked for the observer to join the game.
+ * </p>
+ *
+ * <p>
+ * The file is sent in chunks of at most {@link #CHUNK_SIZE} bytes. Each chunk is acknowledged with the number of bytes
+ * the observer has received so far, from which the transfer resumes, so that a chunk whose transfer failed is sent
+ * again.
+ * </p>
+ */
+@Log
+final class ObserverGameTransfer implements Closeable {
+  static final int CHUNK_SIZE = 256 * 1024;
+  private static final int MAX_ATTEMPTS_PER_CHUNK = 3;
+
+  private final JournaledSaveGame journaledSaveGame;
+  private final IObserverWaitingToJoin observer;
+  private final File file;
+  // the number of bytes of the file the observer has received
+  private long offset = 0;
+
+  /**
+   * Creates a new transfer to the specified observer that writes the saved game with the specified journaled save
+   * game, which must be the one used for the other save games of the same game, e.g. autosaves.
+   */
+  ObserverGameTransfer(final JournaledSaveGame journaledSaveGame, final IObserverWaitingToJoin observer)
+      throws IOException {
+    this.journaledSaveGame = checkNotNull(journaledSaveGame);
+    this.observer = checkNotNull(observer);
+    file = File.createTempFile("triplea-observer", GameDataFileUtils.getExtension());
+  }
+
+  /**
+   * Writes the specified game data to the saved game to transfer: the first time as a snapshot, and then as a journal
+   * entry holding what happened since the previous write.
+   * <strong>Delegate execution must be blocked while calling this method</strong>
+   */
+  void write(final GameData data) throws IOException {
+    final JournaledSaveGame.Write write = journaledSaveGame.prepareWrite(data, file);
+    journaledSaveGame.write(write);
+    if (write.isCompaction()) {
+      // the file has been replaced, so the transfer has to start over
+      offset = 0;
+    }
+  }
+
+  /**
+   * Sends the part of the saved game that the observer has not received yet.
+   *
+   * @throws IOException If the file cannot be read or a chunk cannot be sent.
+   */
+  void send() throws IOException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      final long size = channel.size();
+      int failedAttempts = 0;
+      while (offset < size) {
+        final ByteBuffer chunk = ByteBuffer.allocate((int) Math.min(CHUNK_SIZE, size - offset));
+        while (chunk.hasRemaining()) {
+          if (channel.read(chunk, offset + chunk.position()) < 0) {
+            throw new EOFException("Saved game was truncated while being sent: " + file.getAbsolutePath());
+          }
+        }
+        final long received;
+        try {
+          received = observer.receiveGameDataChunk(offset, chunk.array());
+        } catch (final ConnectionLostException e) {
+          throw e;
+        } catch (final RuntimeException e) {
+          if (++failedAttempts >= MAX_ATTEMPTS_PER_CHUNK) {
+            throw new IOException("Failed to send game data chunk at offset " + offset, e);
+          }
+          log.log(Level.WARNING, "Failed to send game data chunk at offset " + offset + ", trying again", e);
+          continue;
+        }
+        if (received <= offset && ++failedAttempts >= MAX_ATTEMPTS_PER_CHUNK) {
+          throw new IOException("Observer did not accept game data chunk at offset " + offset);
+        } else if (received > offset) {
+          failedAttempts = 0;
+        }
+        offset = received;
+      }
+    }
+  }
+
+  /**
+   * Lets the observer join the game with the saved game sent so far. Returns when the observer is ready.
+   */
+  void join(final Map<String, INode> players) {
+    observer.joinGameFromChunks(offset, players);
+  }
+
+  @Override
+  public void close() {
+    // the journal no longer has to be kept for this file
+    journaledSaveGame.forget(file);
+    if (!file.delete()) {
+      log.warning("Failed to delete temporary game data file: " + file.getAbsolutePath());
+    }
+  }
+}
@@ -34,6 +34,7 @@ import games.strategy.engine.delegate.IPersistentDelegate;
 import games.strategy.engine.framework.startup.mc.IObserverWaitingToJoin;
 import games.strategy.engine.framework.startup.ui.InGameLobbyWatcherWrapper;
 import games.strategy.engine.history.DelegateHistoryWriter;
+import games.strategy.engine.history.DiceRolls;
 import games.strategy.engine.history.Event;
 import games.strategy.engine.history.EventChild;
 import games.strategy.engine.history.HistoryNode;
@@ -51,7 +52,6 @@ import games.strategy.io.IoUtils;
 import games.strategy.net.INode;
 import games.strategy.net.Messengers;
 import games.strategy.triplea.TripleAPlayer;
-import games.strategy.triplea.delegate.DiceRoll;
 import games.strategy.triplea.settings.ClientSetting;
 import lombok.extern.java.Log;
 
@@ -69,6 +69,9 @@ public class ServerGame extends AbstractGame {
   private IRandomSource randomSource = new PlainRandomSource();
   private IRandomSource delegateRandomSource;
   private final DelegateExecutionManager delegateExecutionManager = new DelegateExecutionManager();
+  // shared by autosaves and observer transfers, so that trimming the history journal accounts for the files of both
+  private final JournaledSaveGame journaledSaveGame = new JournaledSaveGame();
+  private final AutoSaveWriter autoSaveWriter = new AutoSaveWriter(journaledSaveGame);
   private InGameLobbyWatcherWrapper inGameLobbyWatcher;
   private boolean needToInitialize = true;
   private final boolean headless;
@@ -160,70 +163,78 @@ public class ServerGame extends AbstractGame {
   }
 
   private void importDiceStats(final HistoryNode node) {
-    if (node instanceof EventChild) {
-      final EventChild childNode = (EventChild) node;
-      if (childNode.getRenderingData() instanceof DiceRoll) {
-        final String playerName = DiceRoll.getPlayerNameFromAnnotation(childNode.getTitle());
-        final PlayerId playerId = gameData.getPlayerList().getPlayerId(playerName);
-
-        final DiceRoll diceRoll = (DiceRoll) childNode.getRenderingData();
-        final int[] rolls = new int[diceRoll.size()];
-        for (int i = 0; i < rolls.length; i++) {
-          rolls[i] = diceRoll.getDie(i).getValue();
-        }
-        randomStats.addRandom(rolls, playerId, RandomStats.DiceType.COMBAT);
-      }
-    }
-
-    for (int i = 0; i < node.getChildCount(); i++) {
-      importDiceStats((HistoryNode) node.getChildAt(i));
-    }
+    DiceRolls.of(node).getRollsByPlayerName().forEach((playerName, rolls) -> randomStats.addRandom(
+        rolls, gameData.getPlayerList().getPlayerId(playerName), RandomStats.DiceType.COMBAT));
   }
 
   /**
-   * Adds a new observer (non-participant) node to this server game.
+   * Adds a new observer (non-participant) node to this server game. The saved game is sent to the observer in chunks
+   * by an {@link ObserverGameTransfer}, and delegate execution is only blocked while the game data is serialized and
+   * while the observer joins the game.
    */
   public void addObserver(final IObserverWaitingToJoin blockingObserver,
       final IObserverWaitingToJoin nonBlockingObserver, final INode newNode) {
-    try {
-      if (!delegateExecutionManager.blockDelegateExecution(2000)) {
-        nonBlockingObserver.cannotJoinGame("Could not block delegate execution");
+    try (ObserverGameTransfer transfer = new ObserverGameTransfer(journaledSaveGame, blockingObserver)) {
+      if (!blockDelegateExecutionForObserver(nonBlockingObserver)) {
+        return;
+      }
+      try {
+        transfer.write(gameData);
+      } finally {
+        delegateExecutionManager.resumeDelegateExecution();
+      }
+      transfer.send();
+
+      if (!blockDelegateExecutionForObserver(nonBlockingObserver)) {
         return;
       }
-    } catch (final InterruptedException e) {
-      Thread.currentThread().interrupt();
-      nonBlockingObserver.cannotJoinGame(e.getMessage());
-      return;
-    }
-    try {
-      final CountDownLatch waitOnObserver = new CountDownLatch(1);
-      final byte[] bytes = IoUtils.writeToMemory(this::saveGame);
-      new Thread(() -> {
-        try {
-          blockingObserver.joinGame(bytes, playerManager.getPlayerMapping());
-          waitOnObserver.countDown();
-        } catch (final ConnectionLostException cle) {
-          log.log(Level.SEVERE, "Connection lost to observer while joining: " + newNode.getName(), cle);
-        } catch (final Exception e) {
-          log.log(Level.SEVERE, "Failed to join game", e);
-        }
-      }, "Waiting on observer to finish joining: " + newNode.getName()).start();
       try {
-        if (!waitOnObserver.await(ClientSetting.serverObserverJoinWaitTime.getValueOrThrow(), TimeUnit.SECONDS)) {
-          nonBlockingObserver.cannotJoinGame("Taking too long to join.");
+        // send what happened while the snapshot was sent
+        transfer.write(gameData);
+        transfer.send();
+        final CountDownLatch waitOnObserver = new CountDownLatch(1);
+        final Map<String, INode> players = playerManager.getPlayerMapping();
+        new Thread(() -> {
+          try {
+            transfer.join(players);
+            waitOnObserver.countDown();
+          } catch (final ConnectionLostException cle) {
+            log.log(Level.SEVERE, "Connection lost to observer while joining: " + newNode.getName(), cle);
+          } catch (final Exception e) {
+            log.log(Level.SEVERE, "Failed to join game", e);
+          }
+        }, "Waiting on observer to finish joining: " + newNode.getName()).start();
+        try {
+          if (!waitOnObserver.await(ClientSetting.serverObserverJoinWaitTime.getValueOrThrow(), TimeUnit.SECONDS)) {
+            nonBlockingObserver.cannotJoinGame("Taking too long to join.");
+          }
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          nonBlockingObserver.cannotJoinGame(e.getMessage());
         }
-      } catch (final InterruptedException e) {
-        Thread.currentThread().interrupt();
-        nonBlockingObserver.cannotJoinGame(e.getMessage());
+      } finally {
+        delegateExecutionManager.resumeDelegateExecution();
       }
     } catch (final Exception e) {
       log.log(Level.SEVERE, "Failed to join game", e);
       nonBlockingObserver.cannotJoinGame(e.getMessage());
-    } finally {
-      delegateExecutionManager.resumeDelegateExecution();
     }
   }
 
+  private boolean blockDelegateExecutionForObserver(final IObserverWaitingToJoin nonBlockingObserver) {
+    try {
+      if (!delegateExecutionManager.blockDelegateExecution(2000)) {
+        nonBlockingObserver.cannotJoinGame("Could not block delegate execution");
+        return false;
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      nonBlockingObserver.cannotJoinGame(e.getMessage());
+      return false;
+    }
+    return true;
+  }
+
   private void setupDelegateMessaging(final GameData data) {
     for (final IDelegate delegate : data.getDelegates()) {
       addDelegateMessenger(delegate);
@@ -348,30 +359,72 @@ public class ServerGame extends AbstractGame {
     } finally {
       delegateExecutionManager.resumeDelegateExecution();
     }
+    autoSaveWriter.shutDown();
     gameData.getGameLoader().shutDown();
   }
 
   private void autoSaveBefore(final IDelegate delegate) {
-    saveGame(AutoSaveFileUtils.getBeforeStepAutoSaveFile(delegate.getName(), headless));
+    autoSave(AutoSaveFileUtils.getBeforeStepAutoSaveFile(delegate.getName(), headless));
   }
 
   @Override
   public void saveGame(final File file) {
     checkNotNull(file);
 
+    createSaveGameDirectory(file);
+    try (OutputStream fout = new FileOutputStream(file)) {
+      saveGame(fout);
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to save game to file: " + file.getAbsolutePath(), e);
+    }
+  }
+
+  private static void createSaveGameDirectory(final File file) {
     final File parentDir = file.getParentFile();
     if (!parentDir.exists() && !parentDir.mkdirs()) {
       log.severe("Failed to create save game directory (or one of its ancestors): " + parentDir.getAbsolutePath());
     }
+  }
 
-    try (OutputStream fout = new FileOutputStream(file)) {
-      saveGame(fout);
+  private void saveGame(final OutputStream out) throws IOException {
+    if (!blockDelegateExecutionForSave()) {
+      return;
+    }
+
+    try {
+      GameDataManager.saveGame(out, gameData);
+    } finally {
+      delegateExecutionManager.resumeDelegateExecution();
+    }
+  }
+
+  /**
+   * Saves the game to the specified file without waiting for the file to be written. Delegate execution is only
+   * blocked while the game data, or what happened since the previous autosave to the same file, is serialized into
+   * memory; compressing and writing the save game is left to {@link #autoSaveWriter}.
+   */
+  private void autoSave(final File file) {
+    if (!blockDelegateExecutionForSave()) {
+      return;
+    }
+
+    final long start = System.nanoTime();
+    final JournaledSaveGame.Write write;
+    try {
+      write = autoSaveWriter.prepare(gameData, file);
     } catch (final IOException e) {
       log.log(Level.SEVERE, "Failed to save game to file: " + file.getAbsolutePath(), e);
+      return;
+    } finally {
+      delegateExecutionManager.resumeDelegateExecution();
     }
+    final long pauseNanos = System.nanoTime() - start;
+
+    createSaveGameDirectory(file);
+    autoSaveWriter.write(write, pauseNanos);
   }
 
-  private void saveGame(final OutputStream out) throws IOException {
+  private boolean blockDelegateExecutionForSave() {
     final String errorMessage = "Error saving game.. ";
 
     try {
@@ -380,19 +433,14 @@ public class ServerGame extends AbstractGame {
         // try again
         if (!delegateExecutionManager.blockDelegateExecution(6000)) {
           log.severe(errorMessage + " could not lock delegate execution");
-          return;
+          return false;
         }
       }
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
-      return;
-    }
-
-    try {
-      GameDataManager.saveGame(out, gameData);
-    } finally {
-      delegateExecutionManager.resumeDelegateExecution();
+      return false;
     }
+    return true;
   }
 
 
@@ -441,7 +489,7 @@ public class ServerGame extends AbstractGame {
     }
     if (gameData.getSequence().next()) {
       gameData.getHistory().getHistoryWriter().startNextRound(gameData.getSequence().getRound());
-      saveGame(gameData.getSequence().getRound() % 2 == 0
+      autoSave(gameData.getSequence().getRound() % 2 == 0
           ? AutoSaveFileUtils.getEvenRoundAutoSaveFile(headless)
           : AutoSaveFileUtils.getOddRoundAutoSaveFile(headless));
     }
@@ -451,13 +499,13 @@ public class ServerGame extends AbstractGame {
   }
 
   private void autoSaveAfter(final String stepName, final boolean headless) {
-    saveGame(AutoSaveFileUtils.getAfterStepAutoSaveFile(stepName, headless));
+    autoSave(AutoSaveFileUtils.getAfterStepAutoSaveFile(stepName, headless));
   }
 
   private void autoSaveAfter(final IDelegate delegate, final boolean headless) {
     final String typeName = delegate.getClass().getTypeName();
     final String stepName = typeName.substring(typeName.lastIndexOf('.') + 1).replaceFirst("Delegate$", "");
-    saveGame(AutoSaveFileUtils.getAfterStepAutoSaveFile(stepName, headless));
+    autoSave(AutoSaveFileUtils.getAfterStepAutoSaveFile(stepName, headless));
   }
 
   private void endStep() {
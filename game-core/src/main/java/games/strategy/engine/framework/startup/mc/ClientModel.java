@@ -6,7 +6,9 @@ import static games.strategy.engine.framework.CliProperties.TRIPLEA_NAME;
 import static games.strategy.engine.framework.CliProperties.TRIPLEA_PORT;
 
 import java.awt.Component;
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -27,6 +29,7 @@ import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 
 import org.triplea.java.Interruptibles;
+import org.triplea.java.function.ThrowingSupplier;
 import org.triplea.swing.EventThreadJOptionPane;
 import org.triplea.swing.SwingAction;
 
@@ -96,12 +99,47 @@ public class ClientModel implements IMessengerErrorListener {
   // however, if we cancel, we want to restore the old game data.
   private GameData gameDataOnStartup;
   private Map<String, String> playersToNodes = new HashMap<>();
+  private final GameDataChunkReceiver gameDataChunkReceiver = new GameDataChunkReceiver();
   private final IObserverWaitingToJoin observerWaitingToJoin = new IObserverWaitingToJoin() {
     @Override
     public void joinGame(final byte[] gameData, final Map<String, INode> players) {
+      joinRunningGame(() -> IoUtils.readFromMemory(gameData, GameDataManager::loadGame), players);
+    }
+
+    @Override
+    public long receiveGameDataChunk(final long offset, final byte[] chunk) {
+      try {
+        return gameDataChunkReceiver.receive(offset, chunk);
+      } catch (final IOException e) {
+        gameDataChunkReceiver.discard();
+        throw new UncheckedIOException("Failed to store game data chunk", e);
+      }
+    }
+
+    @Override
+    public void joinGameFromChunks(final long size, final Map<String, INode> players) {
+      final File file;
+      try {
+        file = gameDataChunkReceiver.complete(size);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      joinRunningGame(() -> {
+        try {
+          return GameDataManager.loadGame(file);
+        } finally {
+          if (!file.delete()) {
+            log.warning("Failed to delete temporary game data file: " + file.getAbsolutePath());
+          }
+        }
+      }, players);
+    }
+
+    private void joinRunningGame(final ThrowingSupplier<GameData, IOException> gameDataLoader,
+        final Map<String, INode> players) {
       remoteMessenger.unregisterRemote(ServerModel.getObserverWaitingToStartName(messenger.getLocalNode()));
       final CountDownLatch latch = new CountDownLatch(1);
-      startGame(gameData, players, latch, true);
+      startGame(gameDataLoader, players, latch, true);
       try {
         latch.await(GameRunner.MINIMUM_CLIENT_GAMEDATA_LOAD_GRACE_TIME, TimeUnit.SECONDS);
       } catch (final InterruptedException e) {
@@ -111,6 +149,7 @@ public class ClientModel implements IMessengerErrorListener {
 
     @Override
     public void cannotJoinGame(final String reason) {
+      gameDataChunkReceiver.discard();
       SwingUtilities.invokeLater(() -> {
         typePanelModel.showSelectType();
         EventThreadJOptionPane.showMessageDialog(ui, "Could not join game: " + reason);
@@ -135,7 +174,7 @@ public class ClientModel implements IMessengerErrorListener {
     @Override
     public void doneSelectingPlayers(final byte[] gameData, final Map<String, INode> players) {
       final CountDownLatch latch = new CountDownLatch(1);
-      startGame(gameData, players, latch, false);
+      startGame(() -> IoUtils.readFromMemory(gameData, GameDataManager::loadGame), players, latch, false);
       try {
         latch.await(GameRunner.MINIMUM_CLIENT_GAMEDATA_LOAD_GRACE_TIME, TimeUnit.SECONDS);
       } catch (final InterruptedException e) {
@@ -280,15 +319,15 @@ public class ClientModel implements IMessengerErrorListener {
     }
   }
 
-  private void startGame(final byte[] gameData, final Map<String, INode> players, final CountDownLatch onDone,
-      final boolean gameRunning) {
+  private void startGame(final ThrowingSupplier<GameData, IOException> gameDataLoader,
+      final Map<String, INode> players, final CountDownLatch onDone, final boolean gameRunning) {
     SwingUtilities.invokeLater(() -> {
       gameLoadingWindow.setVisible(true);
       gameLoadingWindow.setLocationRelativeTo(JOptionPane.getFrameForComponent(ui));
       gameLoadingWindow.showWait();
     });
     try {
-      startGameInNewThread(gameData, players, gameRunning);
+      startGameInNewThread(gameDataLoader, players, gameRunning);
     } catch (final RuntimeException e) {
       gameLoadingWindow.doneWait();
       throw e;
@@ -299,12 +338,12 @@ public class ClientModel implements IMessengerErrorListener {
     }
   }
 
-  private void startGameInNewThread(final byte[] gameData, final Map<String, INode> players,
-      final boolean gameRunning) {
+  private void startGameInNewThread(final ThrowingSupplier<GameData, IOException> gameDataLoader,
+      final Map<String, INode> players, final boolean gameRunning) {
     final GameData data;
     try {
       // this normally takes a couple seconds, but can take up to 60 seconds for a freaking huge game
-      data = IoUtils.readFromMemory(gameData, GameDataManager::loadGame);
+      data = gameDataLoader.get();
     } catch (final IOException ex) {
       log.log(Level.SEVERE, "Failed to load game", ex);
       return;
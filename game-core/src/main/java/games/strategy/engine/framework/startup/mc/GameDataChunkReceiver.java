@@ -0,0 +1,73 @@
+package games.strategy.engine.framework.startup.mc;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.annotation.Nullable;
+
+import games.strategy.engine.framework.GameDataFileUtils;
+import lombok.extern.java.Log;
+
+/**
+ * Collects the chunks of a saved game sent by the server to an observer joining a game in progress in a temporary file,
+ * so that the saved game never has to be held in memory as a whole.
+ */
+@Log
+final class GameDataChunkReceiver {
+  private @Nullable File file;
+  private long size;
+
+  /**
+   * Appends the specified chunk to the saved game, if it starts at the end of the saved game received so far. A chunk
+   * at offset 0 discards any saved game received before.
+   *
+   * @return The number of bytes of the saved game received so far.
+   */
+  synchronized long receive(final long offset, final byte[] chunk) throws IOException {
+    if (offset == 0) {
+      discard();
+      file = File.createTempFile("triplea-observer", GameDataFileUtils.getExtension());
+      file.deleteOnExit();
+    }
+    if (file == null || offset != size) {
+      log.fine(() -> "Ignoring game data chunk at offset " + offset + ", received so far: " + size);
+      return size;
+    }
+    try (OutputStream os = new FileOutputStream(file, true)) {
+      os.write(chunk);
+    }
+    size += chunk.length;
+    return size;
+  }
+
+  /**
+   * Returns the file holding the received saved game and hands it over to the caller, who must delete it.
+   *
+   * @param expectedSize The size of the saved game as sent.
+   *
+   * @throws IOException If not all of the saved game has been received.
+   */
+  synchronized File complete(final long expectedSize) throws IOException {
+    final @Nullable File completedFile = file;
+    if (completedFile == null || size != expectedSize) {
+      discard();
+      throw new IOException("Incomplete game data, received " + size + " of " + expectedSize + " bytes");
+    }
+    file = null;
+    size = 0;
+    return completedFile;
+  }
+
+  /**
+   * Deletes the saved game received so far, if any.
+   */
+  synchronized void discard() {
+    if (file != null && !file.delete()) {
+      log.warning("Failed to delete temporary game data file: " + file.getAbsolutePath());
+    }
+    file = null;
+    size = 0;
+  }
+}
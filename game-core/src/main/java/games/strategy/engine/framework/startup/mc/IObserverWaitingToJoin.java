@@ -16,6 +16,29 @@ public interface IObserverWaitingToJoin extends IRemote {
    */
   void joinGame(byte[] gameData, Map<String, INode> players);
 
+  /**
+   * Receives a chunk of the saved game of the game in progress. Large saved games are sent in chunks, in order, so that
+   * neither a single large message nor a single large buffer is needed to transfer them.
+   *
+   * <p>
+   * A chunk at offset 0 starts a new transfer. A chunk that does not start at the number of bytes received so far is
+   * ignored, so that a chunk can be sent again after a failed call.
+   * </p>
+   *
+   * @param offset The offset of the chunk within the saved game.
+   * @param chunk The content of the chunk.
+   * @return The number of bytes of the saved game received so far, which is the offset of the next chunk to send.
+   */
+  long receiveGameDataChunk(long offset, byte[] chunk);
+
+  /**
+   * Like {@link #joinGame(byte[], Map)}, but for the saved game that was received with
+   * {@link #receiveGameDataChunk(long, byte[])}.
+   *
+   * @param size The size of the saved game.
+   */
+  void joinGameFromChunks(long size, Map<String, INode> players);
+
   /**
    * You could not join the game, usually this is due to an error.
    */
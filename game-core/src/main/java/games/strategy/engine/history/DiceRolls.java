@@ -0,0 +1,61 @@
+package games.strategy.engine.history;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.primitives.Ints;
+
+import games.strategy.triplea.delegate.DiceRoll;
+
+/**
+ * The values of the dice rolled in a part of a history, by the name of the player who rolled them. Completed rounds
+ * that have not been loaded contribute the dice rolls recorded in their {@link RoundSegment}, so that the dice rolls of
+ * a whole history can be collected without loading all of its rounds.
+ */
+public final class DiceRolls implements Serializable {
+  private static final long serialVersionUID = -3490370163312781287L;
+
+  private final Map<String, int[]> rollsByPlayerName = new HashMap<>();
+
+  private DiceRolls() {}
+
+  /**
+   * Collects the dice rolled in the subtree of the specified history node.
+   */
+  public static DiceRolls of(final HistoryNode node) {
+    final DiceRolls diceRolls = new DiceRolls();
+    diceRolls.addAll(node);
+    return diceRolls;
+  }
+
+  private void addAll(final HistoryNode node) {
+    if (node instanceof Round && !((Round) node).isContentLoaded()) {
+      ((Round) node).getUnloadedDiceRolls().rollsByPlayerName.forEach(this::add);
+      return;
+    }
+    if (node instanceof EventChild && ((EventChild) node).getRenderingData() instanceof DiceRoll) {
+      final DiceRoll diceRoll = (DiceRoll) ((EventChild) node).getRenderingData();
+      final int[] rolls = new int[diceRoll.size()];
+      for (int i = 0; i < rolls.length; i++) {
+        rolls[i] = diceRoll.getDie(i).getValue();
+      }
+      add(DiceRoll.getPlayerNameFromAnnotation(node.getTitle()), rolls);
+    }
+    for (int i = 0; i < node.getChildCount(); i++) {
+      addAll((HistoryNode) node.getChildAt(i));
+    }
+  }
+
+  private void add(final String playerName, final int[] rolls) {
+    rollsByPlayerName.merge(playerName, rolls, Ints::concat);
+  }
+
+  /**
+   * Returns the values of the dice rolled by each player, by the name of the player.
+   */
+  public Map<String, int[]> getRollsByPlayerName() {
+    return Collections.unmodifiableMap(rollsByPlayerName);
+  }
+}
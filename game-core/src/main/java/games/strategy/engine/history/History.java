@@ -3,7 +3,9 @@ package games.strategy.engine.history;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Optional;
 
+import javax.annotation.Nullable;
 import javax.swing.SwingUtilities;
 import javax.swing.tree.DefaultMutableTreeNode;
 import javax.swing.tree.DefaultTreeModel;
@@ -97,12 +99,29 @@ public class History extends DefaultTreeModel {
     if (firstChange == lastChange) {
       return null;
     }
+    loadChanges(Math.min(firstChange, lastChange), Math.max(firstChange, lastChange));
     final List<Change> deltaChanges =
         changes.subList(Math.min(firstChange, lastChange), Math.max(firstChange, lastChange));
     final Change compositeChange = new CompositeChange(deltaChanges);
     return (lastChange >= firstChange) ? compositeChange : compositeChange.invert();
   }
 
+  /**
+   * Loads the content of the rounds that made any of the changes in the specified range, so that the range no longer
+   * contains placeholders for changes of rounds that have not been loaded yet.
+   */
+  private void loadChanges(final int fromIndex, final int toIndex) {
+    final HistoryNode root = (HistoryNode) getRoot();
+    for (int i = 0; i < root.getChildCount(); i++) {
+      final Round round = (Round) root.getChildAt(i);
+      if (!round.isContentLoaded()
+          && round.getChangeStartIndex() < toIndex
+          && round.getChangeEndIndex() > fromIndex) {
+        round.loadContent();
+      }
+    }
+  }
+
   /**
    * Changes the game state to reflect the historical state at {@code node}.
    */
@@ -155,6 +174,11 @@ public class History extends DefaultTreeModel {
       while (!nodesToRemove.isEmpty()) {
         this.removeNodeFromParent(nodesToRemove.remove(0));
       }
+      writer.resetJournal();
+      final HistoryNode root = (HistoryNode) getRoot();
+      for (int i = 0; i < root.getChildCount(); i++) {
+        ((Round) root.getChildAt(i)).invalidateSegment();
+      }
     } finally {
       getGameData().releaseWriteLock();
     }
@@ -170,6 +194,49 @@ public class History extends DefaultTreeModel {
     }
   }
 
+  /**
+   * Returns the number of changes recorded in this history.
+   */
+  public synchronized int getChangeCount() {
+    return changes.size();
+  }
+
+  /**
+   * Returns the most recent change recorded in this history or null if no change has been recorded.
+   */
+  @Nullable
+  public synchronized Change getMostRecentChange() {
+    if (changes.isEmpty()) {
+      return null;
+    }
+    loadChanges(changes.size() - 1, changes.size());
+    return changes.get(changes.size() - 1);
+  }
+
+  /**
+   * Returns the changes recorded after the first {@code changeCount} changes of this history, provided the game data
+   * reflects the most recent change and the changes up to {@code changeCount} are still the ones that were recorded
+   * when {@code lastChange} was the most recent change.
+   *
+   * @param changeCount The number of changes that have already been accounted for.
+   * @param lastChange The most recent change when {@code changeCount} changes were recorded, or null if
+   *        {@code changeCount} is zero.
+   *
+   * @return The changes recorded since, or empty if changes were removed from this history since or if the game data
+   *         is showing an earlier point of this history.
+   */
+  public synchronized Optional<List<Change>> getChangesSince(final int changeCount, final @Nullable Change lastChange) {
+    if (changeCount <= changes.size()) {
+      loadChanges(Math.max(changeCount - 1, 0), changes.size());
+    }
+    if (changeCount > changes.size()
+        || (changeCount > 0 && changes.get(changeCount - 1) != lastChange)
+        || (currentNode != null && currentNode != getLastChildInternal((HistoryNode) getRoot()))) {
+      return Optional.empty();
+    }
+    return Optional.of(new ArrayList<>(changes.subList(changeCount, changes.size())));
+  }
+
   private Object writeReplace() {
     return new SerializedHistory(this, gameData, changes);
   }
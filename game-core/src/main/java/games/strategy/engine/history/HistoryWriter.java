@@ -1,7 +1,13 @@
 package games.strategy.engine.history;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
 import javax.swing.SwingUtilities;
 
 import games.strategy.engine.data.Change;
@@ -17,11 +23,131 @@ public class HistoryWriter implements Serializable {
 
   private final History history;
   private HistoryNode current;
+  // the operations performed on this writer since journaling was started, or null if journaling has not been started
+  private transient @Nullable List<SerializationWriter> journal;
+  // incremented whenever the journal is discarded, so that positions in the discarded journal can be recognized
+  private transient int journalGeneration;
 
   public HistoryWriter(final History history) {
     this.history = history;
   }
 
+  /**
+   * A point in the journal of a history writer.
+   */
+  public static final class JournalPosition {
+    private final HistoryWriter writer;
+    private final int journalGeneration;
+    private final int operationCount;
+
+    private JournalPosition(final HistoryWriter writer, final int journalGeneration, final int operationCount) {
+      this.writer = writer;
+      this.journalGeneration = journalGeneration;
+      this.operationCount = operationCount;
+    }
+  }
+
+  /**
+   * Starts recording the operations performed on this writer, so that they can later be retrieved with
+   * {@link #getJournalSince(JournalPosition)} and replayed with {@link #replay(List)}. Does nothing if journaling has
+   * already been started.
+   */
+  public synchronized void startJournal() {
+    if (journal == null) {
+      journal = new ArrayList<>();
+    }
+  }
+
+  /**
+   * Returns the current position of the journal of this writer.
+   *
+   * @throws IllegalStateException If journaling has not been started.
+   */
+  public synchronized JournalPosition getJournalPosition() {
+    if (journal == null) {
+      throw new IllegalStateException("Journaling has not been started");
+    }
+    return new JournalPosition(this, journalGeneration, journal.size());
+  }
+
+  /**
+   * Returns the operations performed on this writer since the specified position of its journal.
+   *
+   * @return The operations performed since, or empty if the position is not a position of the current journal of this
+   *         writer, for example because the history has been rewritten since.
+   */
+  public synchronized Optional<List<SerializationWriter>> getJournalSince(final JournalPosition position) {
+    if (!isCurrentJournalPosition(position)) {
+      return Optional.empty();
+    }
+    return Optional.of(new ArrayList<>(journal.subList(position.operationCount, journal.size())));
+  }
+
+  private boolean isCurrentJournalPosition(final JournalPosition position) {
+    return journal != null && position.writer == this && position.journalGeneration == journalGeneration;
+  }
+
+  /**
+   * Discards the operations of the journal of this writer that precede all of the specified positions, which are the
+   * positions that operations may still be retrieved from. If there are no such positions, the whole journal is
+   * discarded. As the trimmed journal is a new generation of the journal, the specified positions are no longer valid
+   * afterwards.
+   *
+   * @return The positions in the trimmed journal corresponding to the specified positions, in the same order. Positions
+   *         that are not positions of the current journal of this writer are returned unchanged.
+   */
+  public synchronized List<JournalPosition> trimJournal(final List<JournalPosition> outstandingPositions) {
+    if (journal == null) {
+      return outstandingPositions;
+    }
+    final int trimmedOperationCount = outstandingPositions.stream()
+        .filter(this::isCurrentJournalPosition)
+        .mapToInt(position -> position.operationCount)
+        .min()
+        .orElse(journal.size());
+    if (trimmedOperationCount == 0) {
+      return outstandingPositions;
+    }
+    final int previousJournalGeneration = journalGeneration;
+    journal = new ArrayList<>(journal.subList(trimmedOperationCount, journal.size()));
+    journalGeneration++;
+    return outstandingPositions.stream()
+        .map(position -> (position.writer == this && position.journalGeneration == previousJournalGeneration)
+            ? new JournalPosition(this, journalGeneration, position.operationCount - trimmedOperationCount)
+            : position)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Discards the journal of this writer, because the history was rewritten in a way the journal cannot express.
+   */
+  synchronized void resetJournal() {
+    if (journal != null) {
+      journal = new ArrayList<>();
+      journalGeneration++;
+    }
+  }
+
+  private synchronized void journal(final SerializationWriter operation) {
+    if (journal != null) {
+      journal.add(operation);
+    }
+  }
+
+  /**
+   * Performs the specified operations, which were retrieved from the journal of a writer for a copy of the history of
+   * this writer, on this writer. Unlike {@link #addChange(Change)}, the changes added by the operations are also
+   * performed on the game data.
+   */
+  public void replay(final List<SerializationWriter> operations) {
+    for (final SerializationWriter operation : operations) {
+      if (operation instanceof ChangeSerializationWriter) {
+        history.getGameData().performChange(((ChangeSerializationWriter) operation).getChange());
+      }
+      operation.write(this);
+    }
+  }
+
   private void assertCorrectThread() {
     if (history.getGameData().areChangesOnlyInSwingEventThread() && !SwingUtilities.isEventDispatchThread()) {
       throw new IllegalStateException("Wrong thread");
@@ -34,9 +160,10 @@ public class HistoryWriter implements Serializable {
   public void startNextStep(final String stepName, final String delegateName, final PlayerId player,
       final String stepDisplayName) {
     assertCorrectThread();
+    journal(new StepHistorySerializer(stepName, delegateName, player, stepDisplayName));
     // we are being called for the first time
     if (current == null) {
-      startNextRound(history.getGameData().getCurrentRound());
+      startRound(history.getGameData().getCurrentRound());
     }
     if (isCurrentEvent()) {
       closeCurrent();
@@ -59,6 +186,11 @@ public class HistoryWriter implements Serializable {
    */
   public void startNextRound(final int round) {
     assertCorrectThread();
+    journal(new RoundHistorySerializer(round));
+    startRound(round);
+  }
+
+  private void startRound(final int round) {
     if (isCurrentEvent()) {
       closeCurrent();
     }
@@ -73,6 +205,28 @@ public class HistoryWriter implements Serializable {
     addToAndSetCurrent(currentRound);
   }
 
+  /**
+   * Adds a completed round whose content has not been loaded yet. Placeholders are added for the changes of the round,
+   * which are replaced by the actual changes when the content of the round is loaded.
+   */
+  void addUnloadedRound(final RoundSegment segment) {
+    if (isCurrentEvent()) {
+      closeCurrent();
+    }
+    if (isCurrentStep()) {
+      closeCurrent();
+    }
+    if (isCurrentRound()) {
+      closeCurrent();
+    }
+    final Round round = new Round(segment.getRoundNo(), history.getChanges().size());
+    history.getChanges().addAll(Collections.nCopies(segment.getChangeCount(), null));
+    round.setChangeEndIndex(history.getChanges().size());
+    round.setUnloadedContent(segment, history);
+    current = (HistoryNode) history.getRoot();
+    addToCurrent(round);
+  }
+
   private void closeCurrent() {
     assertCorrectThread();
     final HistoryNode old = current;
@@ -113,6 +267,11 @@ public class HistoryWriter implements Serializable {
 
   public void startEvent(final String eventName) {
     assertCorrectThread();
+    journal(new EventHistorySerializer(eventName, null));
+    startEventNode(eventName);
+  }
+
+  private void startEventNode(final String eventName) {
     if (isCurrentEvent()) {
       closeCurrent();
     }
@@ -141,9 +300,10 @@ public class HistoryWriter implements Serializable {
    */
   public void addChildToEvent(final EventChild node) {
     assertCorrectThread();
+    journal(node.getWriter());
     if (!isCurrentEvent()) {
       log.severe("Not in an event, but trying to add child: " + node + ". Current history node is: " + current);
-      startEvent("Filler event for child: " + node);
+      startEventNode("Filler event for child: " + node);
     }
     addToCurrent(node);
   }
@@ -153,10 +313,11 @@ public class HistoryWriter implements Serializable {
    */
   public void addChange(final Change change) {
     assertCorrectThread();
+    journal(new ChangeSerializationWriter(change));
     if (!isCurrentEvent() && !isCurrentStep()) {
       log.severe(
           "Not in an event or step, but trying to add change: " + change + ". Current history node is: " + current);
-      startEvent("Filler event for change: " + change);
+      startEventNode("Filler event for change: " + change);
     }
     history.changeAdded(change);
   }
@@ -166,9 +327,10 @@ public class HistoryWriter implements Serializable {
    */
   public void setRenderingData(final Object details) {
     assertCorrectThread();
+    journal(new RenderingDataSerializer(details));
     if (!isCurrentEvent()) {
       log.severe("Not in an event, but trying to set details: " + details + ". Current history node is: " + current);
-      startEvent("Filler event for details: " + details);
+      startEventNode("Filler event for details: " + details);
     }
     history.getGameData().acquireWriteLock();
     try {
@@ -0,0 +1,16 @@
+package games.strategy.engine.history;
+
+class RenderingDataSerializer implements SerializationWriter {
+  private static final long serialVersionUID = -2290478403768364425L;
+
+  private final Object renderingData;
+
+  RenderingDataSerializer(final Object renderingData) {
+    this.renderingData = renderingData;
+  }
+
+  @Override
+  public void write(final HistoryWriter writer) {
+    writer.setRenderingData(renderingData);
+  }
+}
@@ -1,11 +1,29 @@
 package games.strategy.engine.history;
 
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.swing.tree.TreeNode;
+
+import games.strategy.engine.data.Change;
+
 /**
  * A history node that represents an entire game round.
+ *
+ * <p>
+ * A completed round loaded from a saved game starts out without child nodes; they are loaded from its
+ * {@link RoundSegment} the first time they are accessed.
+ * </p>
  */
 public class Round extends IndexedHistoryNode {
   private static final long serialVersionUID = 7645058269791039043L;
   private final int roundNo;
+  // the serialized content of this round, or null if it has not been serialized since this round was last changed
+  private transient @Nullable RoundSegment segment;
+  // the history into which the content of this round is to be loaded, or null if the content has been loaded
+  private transient volatile @Nullable History unloadedHistory;
 
   Round(final int round, final int changeStartIndex) {
     super("Round: " + round, changeStartIndex);
@@ -20,4 +38,94 @@ public class Round extends IndexedHistoryNode {
   public SerializationWriter getWriter() {
     return new RoundHistorySerializer(roundNo);
   }
+
+  void setUnloadedContent(final RoundSegment segment, final History history) {
+    this.segment = segment;
+    unloadedHistory = history;
+  }
+
+  boolean isContentLoaded() {
+    return unloadedHistory == null;
+  }
+
+  /**
+   * Returns the dice rolled in this round as recorded in its segment, which must not have been loaded.
+   */
+  DiceRolls getUnloadedDiceRolls() {
+    return segment.getDiceRolls();
+  }
+
+  /**
+   * Loads the child nodes and changes of this round from its segment, if they have not been loaded yet.
+   */
+  void loadContent() {
+    final @Nullable History history = unloadedHistory;
+    if (history == null) {
+      return;
+    }
+    synchronized (history) {
+      if (unloadedHistory == null) {
+        return;
+      }
+      unloadedHistory = null;
+      try {
+        segment.loadInto(this, history);
+      } catch (final IOException e) {
+        throw new IllegalStateException("Failed to load history of round " + roundNo, e);
+      }
+    }
+  }
+
+  /**
+   * Returns the segment holding the content of this round, which must be completed.
+   *
+   * @param changes All changes of the history of this round.
+   */
+  RoundSegment getSegment(final List<Change> changes) {
+    if (segment == null) {
+      segment = RoundSegment.of(this, changes);
+    }
+    return segment;
+  }
+
+  /**
+   * Discards the segment of this round, because the content of this round has changed.
+   */
+  void invalidateSegment() {
+    if (isContentLoaded()) {
+      segment = null;
+    }
+  }
+
+  @Override
+  public boolean isLeaf() {
+    // a completed round always has child nodes, so there is no need to load them just to tell that, e.g. when the
+    // round is rendered collapsed in the history tree
+    return isContentLoaded() && super.isLeaf();
+  }
+
+  @Override
+  public int getChildCount() {
+    loadContent();
+    return super.getChildCount();
+  }
+
+  @Override
+  public TreeNode getChildAt(final int index) {
+    loadContent();
+    return super.getChildAt(index);
+  }
+
+  @Override
+  public int getIndex(final TreeNode child) {
+    loadContent();
+    return super.getIndex(child);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Enumeration<TreeNode> children() {
+    loadContent();
+    return super.children();
+  }
 }
@@ -0,0 +1,162 @@
+package games.strategy.engine.history;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.MutableTreeNode;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.framework.GameObjectStreamFactory;
+import games.strategy.io.IoUtils;
+
+/**
+ * A completed round of a history, serialized separately from the rest of the history so that the steps, events and
+ * changes of the round only need to be deserialized when they are first accessed, for example when the round is
+ * expanded in the history panel or the game data is moved to a point of the round.
+ *
+ * <p>
+ * The content of the round is stored as the compressed writers of the nodes below the round node and of the changes
+ * made during the round, serialized with a {@link GameObjectOutputStream} so that the game objects they refer to are
+ * resolved against the game data of the history they are loaded into. The dice rolled during the round are stored
+ * uncompressed alongside, so that the dice statistics of a game can be restored without loading all of its rounds.
+ * </p>
+ */
+class RoundSegment implements SerializationWriter {
+  private static final long serialVersionUID = 2838218633358513047L;
+
+  private final int roundNo;
+  private final int changeCount;
+  private final DiceRolls diceRolls;
+  // the writers of the content of the round, until the content is serialized
+  private transient @Nullable List<SerializationWriter> writers;
+  private @Nullable byte[] content;
+
+  private RoundSegment(
+      final int roundNo,
+      final int changeCount,
+      final DiceRolls diceRolls,
+      final List<SerializationWriter> writers) {
+    this.roundNo = roundNo;
+    this.changeCount = changeCount;
+    this.diceRolls = diceRolls;
+    this.writers = writers;
+  }
+
+  /**
+   * Creates a segment holding the content of the specified completed round.
+   *
+   * @param round The round, whose content must be loaded.
+   * @param changes All changes of the history of the round.
+   */
+  static RoundSegment of(final Round round, final List<Change> changes) {
+    final int changeEndIndex = round.getChangeEndIndex();
+    final List<SerializationWriter> writers = new ArrayList<>();
+    final Enumeration<?> enumeration = round.preorderEnumeration();
+    enumeration.nextElement();
+    int changeIndex = round.getChangeStartIndex();
+    while (enumeration.hasMoreElements()) {
+      final HistoryNode node = (HistoryNode) enumeration.nextElement();
+      if (node instanceof IndexedHistoryNode) {
+        while (changeIndex < ((IndexedHistoryNode) node).getChangeStartIndex()) {
+          writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
+          changeIndex++;
+        }
+      }
+      writers.add(node.getWriter());
+    }
+    while (changeIndex < changeEndIndex) {
+      writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
+      changeIndex++;
+    }
+    return new RoundSegment(
+        round.getRoundNo(), changeEndIndex - round.getChangeStartIndex(), DiceRolls.of(round), writers);
+  }
+
+  int getRoundNo() {
+    return roundNo;
+  }
+
+  int getChangeCount() {
+    return changeCount;
+  }
+
+  DiceRolls getDiceRolls() {
+    return diceRolls;
+  }
+
+  @Override
+  public void write(final HistoryWriter writer) {
+    writer.addUnloadedRound(this);
+  }
+
+  /**
+   * Adds the nodes of this segment to the specified round, which was created for this segment, and replaces the
+   * placeholders for the changes of this segment in the specified history with the actual changes.
+   */
+  void loadInto(final Round round, final History history) throws IOException {
+    final List<SerializationWriter> contentWriters = readContent(history.getGameData());
+    final int changeStartIndex = round.getChangeStartIndex();
+
+    // replay the round in a scratch history whose change indexes match those of the actual history, and then move the
+    // resulting nodes over; the scratch history does not use the actual game data, so that loading a round neither
+    // requires the game data lock nor is restricted to the thread in which the game data may be changed
+    final History scratchHistory = new History(new GameData());
+    scratchHistory.getChanges().addAll(Collections.nCopies(changeStartIndex, null));
+    final HistoryWriter scratchWriter = scratchHistory.getHistoryWriter();
+    scratchWriter.startNextRound(roundNo);
+    for (final SerializationWriter contentWriter : contentWriters) {
+      contentWriter.write(scratchWriter);
+    }
+    // closes the nodes of the round in the same way as starting the next round did in the actual history
+    scratchWriter.startNextRound(roundNo + 1);
+
+    final DefaultMutableTreeNode scratchRound = (DefaultMutableTreeNode) scratchHistory.getRoot().getChildAt(0);
+    while (scratchRound.getChildCount() > 0) {
+      round.add((MutableTreeNode) scratchRound.getChildAt(0));
+    }
+    final List<Change> changes = history.getChanges();
+    for (int i = changeStartIndex; i < changeStartIndex + changeCount; i++) {
+      changes.set(i, scratchHistory.getChanges().get(i));
+    }
+  }
+
+  private List<SerializationWriter> readContent(final GameData data) throws IOException {
+    if (content == null) {
+      throw new IOException("Round segment has not been serialized");
+    }
+    return IoUtils.readFromMemory(content, is -> {
+      try (ObjectInputStream in = new GameObjectStreamFactory(data).create(new GZIPInputStream(is))) {
+        @SuppressWarnings("unchecked")
+        final List<SerializationWriter> contentWriters = (List<SerializationWriter>) in.readObject();
+        return contentWriters;
+      } catch (final ClassNotFoundException e) {
+        throw new IOException(e);
+      }
+    });
+  }
+
+  private synchronized void writeObject(final ObjectOutputStream out) throws IOException {
+    if (content == null) {
+      content = IoUtils.writeToMemory(os -> {
+        try (OutputStream zippedOutStream = new GZIPOutputStream(os);
+            ObjectOutputStream contentOut = new GameObjectOutputStream(zippedOutStream)) {
+          contentOut.writeObject(writers);
+        }
+      });
+      writers = null;
+    }
+    out.defaultWriteObject();
+  }
+}
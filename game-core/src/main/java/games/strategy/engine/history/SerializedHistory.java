@@ -5,14 +5,17 @@ import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
 
-import javax.swing.tree.DefaultMutableTreeNode;
-
 import games.strategy.engine.data.Change;
 import games.strategy.engine.data.GameData;
 
 /**
  * DefaultTreeModel is not serializable across jdk versions
  * Instead we use an instance of this class to store our data.
+ *
+ * <p>
+ * Completed rounds are stored as {@link RoundSegment}s, so that only the current round is deserialized when the
+ * history is loaded.
+ * </p>
  */
 class SerializedHistory implements Serializable {
   private static final long serialVersionUID = -5808427923253751651L;
@@ -22,26 +25,47 @@ class SerializedHistory implements Serializable {
 
   SerializedHistory(final History history, final GameData data, final List<Change> changes) {
     gameData = data;
-    final Enumeration<?> enumeration = ((DefaultMutableTreeNode) history.getRoot()).preorderEnumeration();
-    enumeration.nextElement();
+    final HistoryNode root = (HistoryNode) history.getRoot();
     int changeIndex = 0;
+    for (int i = 0; i < root.getChildCount(); i++) {
+      final HistoryNode node = (HistoryNode) root.getChildAt(i);
+      final boolean isLastNode = i == root.getChildCount() - 1;
+      if (!isLastNode && node instanceof Round && ((Round) node).getChangeEndIndex() != -1) {
+        // completed rounds are written as separate segments, which are only loaded when they are accessed
+        final Round round = (Round) node;
+        changeIndex = writeChanges(changes, changeIndex, round.getChangeStartIndex());
+        writers.add(round.getSegment(changes));
+        changeIndex = round.getChangeEndIndex();
+      } else {
+        changeIndex = writeNodes(node, changes, changeIndex);
+      }
+    }
+    // write out remaining changes
+    writeChanges(changes, changeIndex, changes.size());
+  }
+
+  private int writeNodes(final HistoryNode subtreeRoot, final List<Change> changes, final int firstChangeIndex) {
+    final Enumeration<?> enumeration = subtreeRoot.preorderEnumeration();
+    int changeIndex = firstChangeIndex;
     while (enumeration.hasMoreElements()) {
       final HistoryNode node = (HistoryNode) enumeration.nextElement();
       // write the changes to the start of the node
       if (node instanceof IndexedHistoryNode) {
-        while (changeIndex < ((IndexedHistoryNode) node).getChangeStartIndex()) {
-          writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
-          changeIndex++;
-        }
+        changeIndex = writeChanges(changes, changeIndex, ((IndexedHistoryNode) node).getChangeStartIndex());
       }
       // write the node itself
       writers.add(node.getWriter());
     }
-    // write out remaining changes
-    while (changeIndex < changes.size()) {
+    return changeIndex;
+  }
+
+  private int writeChanges(final List<Change> changes, final int fromIndex, final int toIndex) {
+    int changeIndex = fromIndex;
+    while (changeIndex < toIndex) {
       writers.add(new ChangeSerializationWriter(changes.get(changeIndex)));
       changeIndex++;
     }
+    return changeIndex;
   }
 
   public Object readResolve() {
@@ -25,6 +25,8 @@ public class RemoteMethodCall implements Externalizable {
   private int methodNumber;
   // stored as a String[] so we can be serialized
   private String[] argTypes;
+  // the remote interface, which is not transmitted, so it is only known once the call has been resolved
+  private transient @Nullable Class<?> remoteInterface;
 
   public RemoteMethodCall() {}
 
@@ -42,6 +44,7 @@ public class RemoteMethodCall implements Externalizable {
     this.args = args;
     this.argTypes = classesToString(argTypes, args);
     methodNumber = RemoteInterfaceHelper.getNumber(methodName, argTypes, remoteInterface);
+    this.remoteInterface = remoteInterface;
   }
 
   public String getRemoteName() {
@@ -52,6 +55,14 @@ public class RemoteMethodCall implements Externalizable {
     return methodName;
   }
 
+  /**
+   * Returns the remote interface of the called method, or {@code null} if this call has been deserialized and not been
+   * resolved since.
+   */
+  public @Nullable Class<?> getRemoteInterface() {
+    return remoteInterface;
+  }
+
   public Object[] getArgs() {
     return args;
   }
@@ -155,6 +166,7 @@ public class RemoteMethodCall implements Externalizable {
     if (methodName != null) {
       return;
     }
+    remoteInterface = remoteType;
     final Method method = RemoteInterfaceHelper.getMethod(methodNumber, remoteType);
     methodName = method.getName();
     argTypes = classesToString(method.getParameterTypes(), args);
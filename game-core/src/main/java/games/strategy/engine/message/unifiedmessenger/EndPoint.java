@@ -46,6 +46,10 @@ class EndPoint {
     }
   }
 
+  boolean isSingleThreaded() {
+    return singleThreaded;
+  }
+
   public long takeANumber() {
     return nextGivenNumber.getAndIncrement();
   }
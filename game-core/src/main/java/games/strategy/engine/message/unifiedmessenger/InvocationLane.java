@@ -0,0 +1,89 @@
+package games.strategy.engine.message.unifiedmessenger;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import javax.annotation.Nullable;
+
+import lombok.extern.java.Log;
+
+/**
+ * Runs the invocations received for one end point on a thread pool shared by all end points, with at most a fixed
+ * number of them running at the same time. Further invocations wait in the queue of the lane, so that a slow end point
+ * only delays its own invocations and cannot occupy the threads needed by the other end points.
+ */
+@Log
+final class InvocationLane {
+  // the queue depth at which a warning is logged that the end point cannot keep up with its invocations
+  private static final int QUEUE_DEPTH_WARNING_THRESHOLD = 100;
+
+  private final String name;
+  private final Executor executor;
+  private final int maxRunning;
+  private final Queue<Runnable> queue = new ArrayDeque<>();
+  // the number of threads running invocations of this lane, guarded by this
+  private int running = 0;
+
+  InvocationLane(final String name, final Executor executor, final int maxRunning) {
+    this.name = name;
+    this.executor = executor;
+    this.maxRunning = maxRunning;
+  }
+
+  /**
+   * Runs the specified invocation as soon as fewer than the maximum number of invocations of this lane are running.
+   * Invocations start in the order in which they are submitted.
+   */
+  void execute(final Runnable invocation) {
+    executeCreatedBy(() -> invocation);
+  }
+
+  /**
+   * Runs the invocation created by the specified factory as soon as fewer than the maximum number of invocations of
+   * this lane are running. The factory is called while no other invocation can be submitted to this lane, so that
+   * anything it takes in order, e.g. the run number of a single threaded end point, is taken in the same order in which
+   * the invocations start.
+   */
+  void executeCreatedBy(final Supplier<Runnable> invocationFactory) {
+    final Runnable invocation;
+    synchronized (this) {
+      invocation = invocationFactory.get();
+      if (running >= maxRunning) {
+        queue.add(invocation);
+        if (queue.size() % QUEUE_DEPTH_WARNING_THRESHOLD == 0) {
+          log.warning("Invocations of " + name + " are queuing up, queue depth: " + queue.size());
+        }
+        return;
+      }
+      running++;
+    }
+    executor.execute(() -> runAll(invocation));
+  }
+
+  private void runAll(final Runnable firstInvocation) {
+    @Nullable Runnable invocation = firstInvocation;
+    while (invocation != null) {
+      try {
+        invocation.run();
+      } catch (final RuntimeException e) {
+        log.log(Level.SEVERE, "Invocation of " + name + " failed", e);
+      }
+      synchronized (this) {
+        invocation = queue.poll();
+        if (invocation == null) {
+          running--;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the number of invocations waiting for one of the running invocations of this lane to finish.
+   */
+  synchronized int getQueueDepth() {
+    return queue.size();
+  }
+}
@@ -0,0 +1,20 @@
+package games.strategy.engine.message.unifiedmessenger;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A snapshot of the counters of the invocations of one end point run by a {@link UnifiedMessenger}.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class InvocationMetrics {
+  private final long invocationCount;
+  // the total time from receiving the invocations to finishing them
+  private final long totalLatencyNanos;
+  private final long maxLatencyNanos;
+  // the number of invocations waiting to be run
+  private final int queueDepth;
+}
@@ -6,15 +6,20 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 
-import org.triplea.java.Interruptibles;
+import javax.annotation.Nullable;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import games.strategy.engine.message.HubInvocationResults;
 import games.strategy.engine.message.HubInvoke;
@@ -32,10 +37,28 @@ import lombok.extern.java.Log;
 
 /**
  * A messenger general enough that both Channel and Remote messenger can be based on it.
+ *
+ * <p>
+ * Invocations received from remote nodes are run on a thread pool of this messenger, in an {@link InvocationLane} per
+ * end point, so that a slow end point cannot hold up the invocations of the other end points. The number of
+ * invocations run for each end point and the time from receiving them to finishing them are counted, see
+ * {@link #getInvocationMetrics()}.
+ * </p>
  */
 @Log
 public class UnifiedMessenger {
-  private static final ExecutorService threadPool = Executors.newFixedThreadPool(15);
+  // the maximum number of invocations of an end point that is not single threaded running at the same time
+  private static final int MAX_RUNNING_INVOCATIONS_PER_END_POINT = 15;
+
+  private final ExecutorService threadPool = Executors.newCachedThreadPool(
+      new ThreadFactoryBuilder()
+          .setDaemon(true)
+          .setNameFormat("Unified Messenger-%d")
+          .build());
+  // the invocation lanes of the local end points, by end point name
+  private final Map<String, InvocationLane> invocationLanes = new ConcurrentHashMap<>();
+  // the counters of the invocations run by this messenger, by end point name
+  private final Map<String, InvocationCounters> invocationCounters = new ConcurrentHashMap<>();
   // the messenger we are based on
   private final IMessenger messenger;
   // lock on this for modifications to create or remove local end points
@@ -43,15 +66,9 @@ public class UnifiedMessenger {
   // maps String -> EndPoint
   // these are the end points that have local implementors
   private final Map<String, EndPoint> localEndPoints = new HashMap<>();
-  private final Object pendingLock = new Object();
-  // threads wait on these latches for the hub to return invocations
-  // the latch should be removed from the map when you countdown the last result
-  // access should be synchronized on pendingLock
-  // TODO: how do these get shutdown when we exit a game or close triplea?
-  private final Map<GUID, CountDownLatch> pendingInvocations = new HashMap<>();
-  // after the remote has invoked, the results are placed here
-  // access should be synchronized on pendingLock
-  private final Map<GUID, RemoteMethodCallResults> results = new HashMap<>();
+  // threads wait on these futures for the hub to return the results of invocations
+  // the future is removed from the map when it is completed
+  private final Map<GUID, CompletableFuture<RemoteMethodCallResults>> pendingInvocations = new ConcurrentHashMap<>();
   // only non null for the server
   private UnifiedMessengerHub hub;
 
@@ -69,12 +86,26 @@ public class UnifiedMessenger {
     return hub;
   }
 
+  /**
+   * The counters of the invocations of one end point.
+   */
+  private static final class InvocationCounters {
+    final LongAdder count = new LongAdder();
+    final LongAdder totalNanos = new LongAdder();
+    final AtomicLong maxNanos = new AtomicLong();
+
+    void add(final long nanos) {
+      count.increment();
+      totalNanos.add(nanos);
+      maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+  }
+
   private void messengerInvalid(final Throwable cause) {
-    synchronized (pendingLock) {
-      for (final GUID id : pendingInvocations.keySet()) {
-        final CountDownLatch latch = pendingInvocations.remove(id);
-        latch.countDown();
-        results.put(id, new RemoteMethodCallResults(cause));
+    for (final GUID id : pendingInvocations.keySet()) {
+      final @Nullable CompletableFuture<RemoteMethodCallResults> pendingInvocation = pendingInvocations.remove(id);
+      if (pendingInvocation != null) {
+        pendingInvocation.complete(new RemoteMethodCallResults(cause));
       }
     }
   }
@@ -105,24 +136,23 @@ public class UnifiedMessenger {
 
   private RemoteMethodCallResults invokeAndWaitRemote(final RemoteMethodCall remoteCall) {
     final GUID methodCallId = new GUID();
-    final CountDownLatch latch = new CountDownLatch(1);
-    synchronized (pendingLock) {
-      pendingInvocations.put(methodCallId, latch);
-    }
+    final CompletableFuture<RemoteMethodCallResults> pendingInvocation = new CompletableFuture<>();
+    pendingInvocations.put(methodCallId, pendingInvocation);
     // invoke remotely
     final Invoke invoke = new HubInvoke(methodCallId, true, remoteCall);
     send(invoke, messenger.getServerNode());
 
-    Interruptibles.await(latch);
-
-    synchronized (pendingLock) {
-      final RemoteMethodCallResults methodCallResults = results.remove(methodCallId);
-      if (methodCallResults == null) {
-        throw new IllegalStateException(
-            "No results from remote call. Method returned:" + remoteCall.getMethodName() + " for remote name:"
-                + remoteCall.getRemoteName() + " with id:" + methodCallId);
-      }
-      return methodCallResults;
+    try {
+      return pendingInvocation.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      pendingInvocations.remove(methodCallId);
+      throw new IllegalStateException(
+          "Interrupted while waiting for results of remote call. Method:" + remoteCall.getMethodName()
+              + " for remote name:" + remoteCall.getRemoteName() + " with id:" + methodCallId,
+          e);
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException(e);
     }
   }
 
@@ -189,6 +219,7 @@ public class UnifiedMessenger {
       final boolean noneLeft = endPoint.removeImplementor(implementor);
       if (noneLeft) {
         localEndPoints.remove(name);
+        invocationLanes.remove(name);
         send(new NoLongerHasEndPointImplementor(name), messenger.getServerNode());
       }
     }
@@ -257,24 +288,32 @@ public class UnifiedMessenger {
       // we are guaranteed that here messages will be read in the same order that they are sent from the client
       // however, once we delegate to the thread pool, there is no guarantee that the thread pool task will run before
       // we get the next message notification
-      // get the number for the invocation here
-      final long methodRunNumber = local.takeANumber();
+      // get the number for the invocation when submitting it to the lane of the end point, so that invocations of a
+      // single threaded end point, which run one at a time, start in the order of their numbers; otherwise an
+      // invocation could occupy the lane waiting for the number of an invocation queued behind it
       // we don't want to block the message thread, only one thread is
-      // reading messages per connection, so run with out thread pool
+      // reading messages per connection, so run in the lane of the end point
       final EndPoint localFinal = local;
-      threadPool.execute(() -> {
-        final List<RemoteMethodCallResults> results =
-            localFinal.invokeLocal(invoke.call, methodRunNumber, invoke.getInvoker());
-        if (invoke.needReturnValues) {
-          final RemoteMethodCallResults result;
-          if (results.size() == 1) {
-            result = results.get(0);
-          } else {
-            result = new RemoteMethodCallResults(
-                new IllegalStateException("Invalid result count" + results.size()) + " for end point:" + localFinal);
+      final String endPointName = invoke.call.getRemoteName();
+      final long receivedNanos = System.nanoTime();
+      getInvocationLane(endPointName, local).executeCreatedBy(() -> {
+        final long methodRunNumber = localFinal.takeANumber();
+        return () -> {
+          final List<RemoteMethodCallResults> results =
+              localFinal.invokeLocal(invoke.call, methodRunNumber, invoke.getInvoker());
+          invocationCounters.computeIfAbsent(endPointName, name -> new InvocationCounters())
+              .add(System.nanoTime() - receivedNanos);
+          if (invoke.needReturnValues) {
+            final RemoteMethodCallResults result;
+            if (results.size() == 1) {
+              result = results.get(0);
+            } else {
+              result = new RemoteMethodCallResults(
+                  new IllegalStateException("Invalid result count" + results.size()) + " for end point:" + localFinal);
+            }
+            send(new HubInvocationResults(result, invoke.methodCallId), from);
           }
-          send(new HubInvocationResults(result, invoke.methodCallId), from);
-        }
+        };
       });
     } else if (msg instanceof SpokeInvocationResults) { // a remote machine is returning results
       // if this isn't the server, something is wrong
@@ -282,19 +321,37 @@ public class UnifiedMessenger {
       assertIsServer(from);
       final SpokeInvocationResults spokeInvocationResults = (SpokeInvocationResults) msg;
       final GUID methodId = spokeInvocationResults.methodCallId;
-      // both of these should already be populated
-      // this list should be a synchronized list so we can do the add all
-      synchronized (pendingLock) {
-        results.put(methodId, spokeInvocationResults.results);
-        final CountDownLatch latch = pendingInvocations.remove(methodId);
-        Preconditions.checkNotNull(latch, String.format(
-            "method id: %s, was not present in pending invocations: %s, unified messenger addr: %s",
-            methodId, pendingInvocations, super.toString()));
-        latch.countDown();
-      }
+      final @Nullable CompletableFuture<RemoteMethodCallResults> pendingInvocation =
+          pendingInvocations.remove(methodId);
+      Preconditions.checkNotNull(pendingInvocation, String.format(
+          "method id: %s, was not present in pending invocations: %s, unified messenger addr: %s",
+          methodId, pendingInvocations.keySet(), super.toString()));
+      pendingInvocation.complete(spokeInvocationResults.results);
     }
   }
 
+  private InvocationLane getInvocationLane(final String endPointName, final EndPoint endPoint) {
+    return invocationLanes.computeIfAbsent(endPointName, name -> new InvocationLane(
+        name, threadPool, endPoint.isSingleThreaded() ? 1 : MAX_RUNNING_INVOCATIONS_PER_END_POINT));
+  }
+
+  /**
+   * Returns the counters of the invocations received from remote nodes that this messenger has run, by end point name.
+   * The latency of an invocation includes the time it waited in the lane of its end point.
+   */
+  public Map<String, InvocationMetrics> getInvocationMetrics() {
+    final Map<String, InvocationMetrics> metrics = new HashMap<>();
+    invocationCounters.forEach((name, counters) -> {
+      final @Nullable InvocationLane lane = invocationLanes.get(name);
+      metrics.put(name, new InvocationMetrics(
+          counters.count.sum(),
+          counters.totalNanos.sum(),
+          counters.maxNanos.get(),
+          lane == null ? 0 : lane.getQueueDepth()));
+    });
+    return metrics;
+  }
+
   private void assertIsServer(final INode from) {
     Preconditions.checkState(
         from.equals(messenger.getServerNode()), "Not from server!  Instead from:" + from);
@@ -16,12 +16,24 @@ public final class PlainRandomSource implements IRandomSource {
   private final Object lock = new Object();
 
   @GuardedBy("lock")
-  private final RandomGenerator random = new MersenneTwister();
+  private final RandomGenerator random;
+
+  public PlainRandomSource() {
+    random = new MersenneTwister();
+  }
+
+  /**
+   * Creates a new random source whose sequence of numbers is fully determined by the specified seed. Intended for
+   * simulations and benchmarks that must be reproducible.
+   */
+  public PlainRandomSource(final long seed) {
+    random = new MersenneTwister(seed);
+  }
 
   @Override
   public int[] getRandom(final int max, final int count, final String annotation) {
-    checkArgument(max > 0, String.format("max must be > 0 (%s)", annotation));
-    checkArgument(count > 0, String.format("count must be > 0 (%s)", annotation));
+    checkArgument(max > 0, "max must be > 0 (%s)", annotation);
+    checkArgument(count > 0, "count must be > 0 (%s)", annotation);
 
     final int[] numbers = new int[count];
     for (int i = 0; i < count; i++) {
@@ -32,7 +44,7 @@ public final class PlainRandomSource implements IRandomSource {
 
   @Override
   public int getRandom(final int max, final String annotation) {
-    checkArgument(max > 0, String.format("max must be > 0 (%s)", annotation));
+    checkArgument(max > 0, "max must be > 0 (%s)", annotation);
 
     synchronized (lock) {
       return random.nextInt(max);
@@ -0,0 +1,80 @@
+package games.strategy.engine.random;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+import java.util.SplittableRandom;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A source of random numbers for simulations, e.g. by the battle calculator and the AI. It must not be used for the
+ * dice of real games.
+ *
+ * <p>
+ * Unlike {@link PlainRandomSource}, this source is not thread safe and does not lock. Each thread that rolls dice must
+ * use its own source, which can be {@link #split()} off another source. A source created with a seed, and the sources
+ * split off it in the same order, always produce the same sequence of numbers.
+ * </p>
+ */
+@NotThreadSafe
+public final class SplittableRandomSource implements IRandomSource {
+  private final SplittableRandom random;
+
+  public SplittableRandomSource() {
+    this(new SplittableRandom());
+  }
+
+  /**
+   * Creates a new random source whose sequence of numbers is fully determined by the specified seed. Intended for
+   * simulations and benchmarks that must be reproducible.
+   */
+  public SplittableRandomSource(final long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  private SplittableRandomSource(final SplittableRandom random) {
+    this.random = random;
+  }
+
+  /**
+   * Returns a new random source, for use by another thread, whose sequence of numbers is independent of the sequence of
+   * this source.
+   */
+  public SplittableRandomSource split() {
+    return new SplittableRandomSource(random.split());
+  }
+
+  @Override
+  public int[] getRandom(final int max, final int count, final String annotation) {
+    checkArgument(max > 0, "max must be > 0 (%s)", annotation);
+    checkArgument(count > 0, "count must be > 0 (%s)", annotation);
+
+    final int[] numbers = new int[count];
+    fill(max, numbers, 0, count);
+    return numbers;
+  }
+
+  @Override
+  public int getRandom(final int max, final String annotation) {
+    checkArgument(max > 0, "max must be > 0 (%s)", annotation);
+
+    return random.nextInt(max);
+  }
+
+  /**
+   * Fills the specified range of the specified array with random numbers from 0 (inclusive) to {@code max}
+   * (exclusive).
+   *
+   * @param fromIndex The index of the first element to fill (inclusive).
+   * @param toIndex The index of the last element to fill (exclusive).
+   */
+  public void fill(final int max, final int[] numbers, final int fromIndex, final int toIndex) {
+    checkArgument(max > 0, "max must be > 0");
+    checkPositionIndexes(fromIndex, toIndex, numbers.length);
+
+    for (int i = fromIndex; i < toIndex; i++) {
+      numbers[i] = random.nextInt(max);
+    }
+  }
+}
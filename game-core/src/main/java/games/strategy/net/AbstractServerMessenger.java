@@ -78,6 +78,7 @@ public abstract class AbstractServerMessenger implements IServerMessenger, NioSo
     socketChannel.socket().bind(new InetSocketAddress(port), 10);
     final int boundPort = socketChannel.socket().getLocalPort();
     nioSocket = new NioSocket(objectStreamFactory, this, "Server");
+    nioSocket.setNetworkMetrics(new AggregateNetworkMetrics());
     acceptorSelector = Selector.open();
     node = new Node(name, IpFinder.findInetAddress(), boundPort);
     new Thread(new ConnectionHandler(), "Server Messenger Connection Handler").start();
@@ -471,11 +472,8 @@ public abstract class AbstractServerMessenger implements IServerMessenger, NioSo
     final SocketChannel fromChannel = nodeToChannel.get(msg.getFrom());
     final List<SocketChannel> nodes = new ArrayList<>(nodeToChannel.values());
     log.finest(() -> "broadcasting to" + nodes);
-    for (final SocketChannel channel : nodes) {
-      if (channel != fromChannel) {
-        nioSocket.send(channel, msg);
-      }
-    }
+    nodes.remove(fromChannel);
+    nioSocket.send(nodes, msg);
   }
 
   private boolean isNameTaken(final String nodeName) {
@@ -555,6 +553,28 @@ public abstract class AbstractServerMessenger implements IServerMessenger, NioSo
     return node;
   }
 
+  @Override
+  public NetworkMetrics getNetworkMetrics() {
+    return nioSocket.getNetworkMetrics();
+  }
+
+  @Override
+  public void setNetworkMetrics(final NetworkMetrics networkMetrics) {
+    nioSocket.setNetworkMetrics(networkMetrics);
+  }
+
+  @Override
+  public Map<INode, Long> getQueuedBytes() {
+    final Map<INode, Long> queuedBytes = new HashMap<>();
+    nodeToChannel.forEach((remoteNode, channel) -> queuedBytes.put(remoteNode, nioSocket.getQueuedBytes(channel)));
+    return queuedBytes;
+  }
+
+  @Override
+  public int getDecodeQueueDepth() {
+    return nioSocket.getDecoderMetrics().getQueueDepth();
+  }
+
   private class ConnectionHandler implements Runnable {
     @Override
     public void run() {
@@ -642,6 +662,7 @@ public abstract class AbstractServerMessenger implements IServerMessenger, NioSo
     }
     channelToNode.remove(channel);
     nioSocket.close(channel);
+    nioSocket.getNetworkMetrics().connectionClosed(nodeToRemove);
     notifyConnectionsChanged(false, nodeToRemove);
     log.info("Connection removed:" + nodeToRemove);
   }
@@ -0,0 +1,157 @@
+package games.strategy.net;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * The network metrics installed by default on a server messenger. Counts the messages and bytes sent to and received
+ * from each connected node and of each message type, and keeps histograms of the encode and decode times, since the
+ * server messenger was created.
+ *
+ * <p>
+ * The traffic of a node is discarded when its connection is closed. Message types beyond a fixed maximum count are
+ * counted together, as the type of an invocation that is only forwarded contains its remote name, which may contain
+ * the name of a node.
+ * </p>
+ */
+@ThreadSafe
+public final class AggregateNetworkMetrics implements NetworkMetrics {
+  private static final String UNKNOWN_NODE = "(not logged in)";
+  private static final String OTHER_TYPES = "(other)";
+  @VisibleForTesting
+  static final int MAX_TYPE_COUNT = 500;
+  // the exclusive upper bounds of the histogram buckets, the last bucket holds all longer times
+  private static final long[] BUCKET_BOUNDS_NANOS = {
+      TimeUnit.MICROSECONDS.toNanos(100),
+      TimeUnit.MILLISECONDS.toNanos(1),
+      TimeUnit.MILLISECONDS.toNanos(10),
+      TimeUnit.MILLISECONDS.toNanos(100),
+      TimeUnit.SECONDS.toNanos(1)
+  };
+  private static final String[] BUCKET_NAMES = {"<0.1ms", "<1ms", "<10ms", "<100ms", "<1s", ">=1s"};
+
+  private final Map<String, Traffic> trafficByNode = new ConcurrentHashMap<>();
+  private final Map<String, Traffic> trafficByType = new ConcurrentHashMap<>();
+  private final AtomicLongArray encodeTimes = new AtomicLongArray(BUCKET_NAMES.length);
+  private final AtomicLongArray decodeTimes = new AtomicLongArray(BUCKET_NAMES.length);
+
+  @VisibleForTesting
+  static final class Traffic {
+    final LongAdder sentMessages = new LongAdder();
+    final LongAdder sentBytes = new LongAdder();
+    final LongAdder receivedMessages = new LongAdder();
+    final LongAdder receivedBytes = new LongAdder();
+
+    void addSent(final int bytes) {
+      sentMessages.increment();
+      sentBytes.add(bytes);
+    }
+
+    void addReceived(final int bytes) {
+      receivedMessages.increment();
+      receivedBytes.add(bytes);
+    }
+
+    long getTotalBytes() {
+      return sentBytes.sum() + receivedBytes.sum();
+    }
+
+    @Override
+    public String toString() {
+      return "sent " + sentMessages.sum() + " messages / " + sentBytes.sum() + " bytes, received "
+          + receivedMessages.sum() + " messages / " + receivedBytes.sum() + " bytes";
+    }
+  }
+
+  @Override
+  public void messageEncoded(final String messageType, final long encodeNanos) {
+    encodeTimes.incrementAndGet(getBucket(encodeNanos));
+  }
+
+  @Override
+  public void messageSent(final @Nullable INode to, final String messageType, final int bytes) {
+    getNodeTraffic(to).addSent(bytes);
+    getTypeTraffic(messageType).addSent(bytes);
+  }
+
+  @Override
+  public void messageDecoded(final String messageType, final long decodeNanos) {
+    decodeTimes.incrementAndGet(getBucket(decodeNanos));
+  }
+
+  @Override
+  public void messageReceived(final @Nullable INode from, final String messageType, final int bytes) {
+    getNodeTraffic(from).addReceived(bytes);
+    getTypeTraffic(messageType).addReceived(bytes);
+  }
+
+  @Override
+  public void connectionClosed(final INode node) {
+    trafficByNode.remove(node.getName());
+  }
+
+  @VisibleForTesting
+  Traffic getNodeTraffic(final @Nullable INode node) {
+    return trafficByNode.computeIfAbsent(node == null ? UNKNOWN_NODE : node.getName(), name -> new Traffic());
+  }
+
+  @VisibleForTesting
+  Traffic getTypeTraffic(final String messageType) {
+    final @Nullable Traffic traffic = trafficByType.get(messageType);
+    if (traffic != null) {
+      return traffic;
+    }
+    // the maximum may be exceeded slightly by concurrent calls, which does not matter
+    final String key = (trafficByType.size() < MAX_TYPE_COUNT) ? messageType : OTHER_TYPES;
+    return trafficByType.computeIfAbsent(key, type -> new Traffic());
+  }
+
+  @VisibleForTesting
+  static int getBucket(final long nanos) {
+    int bucket = 0;
+    while (bucket < BUCKET_BOUNDS_NANOS.length && nanos >= BUCKET_BOUNDS_NANOS[bucket]) {
+      bucket++;
+    }
+    return bucket;
+  }
+
+  /**
+   * Returns a human readable report of the traffic counted so far, with the nodes and message types that caused the
+   * most traffic first.
+   */
+  public String getReport() {
+    final StringBuilder report = new StringBuilder();
+    appendTraffic(report, "Traffic by node:", trafficByNode);
+    appendTraffic(report, "Traffic by message type:", trafficByType);
+    appendHistogram(report, "Encode times:", encodeTimes);
+    appendHistogram(report, "Decode times:", decodeTimes);
+    return report.toString();
+  }
+
+  private static void appendTraffic(
+      final StringBuilder report, final String title, final Map<String, Traffic> trafficByKey) {
+    report.append(title).append('\n');
+    trafficByKey.entrySet().stream()
+        .sorted(Comparator.comparingLong((Map.Entry<String, Traffic> entry) -> entry.getValue().getTotalBytes())
+            .reversed())
+        .forEach(entry -> report.append("  ").append(entry.getKey()).append(": ").append(entry.getValue())
+            .append('\n'));
+  }
+
+  private static void appendHistogram(final StringBuilder report, final String title, final AtomicLongArray counts) {
+    report.append(title);
+    for (int i = 0; i < counts.length(); i++) {
+      report.append(' ').append(BUCKET_NAMES[i]).append(": ").append(counts.get(i));
+    }
+    report.append('\n');
+  }
+}
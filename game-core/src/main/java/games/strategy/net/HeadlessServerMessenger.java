@@ -4,6 +4,8 @@ import java.io.Serializable;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nullable;
@@ -14,6 +16,7 @@ import javax.annotation.Nullable;
 public class HeadlessServerMessenger implements IServerMessenger {
 
   private final INode node;
+  private NetworkMetrics networkMetrics = NetworkMetrics.NONE;
 
   public HeadlessServerMessenger() {
     try {
@@ -125,4 +128,24 @@ public class HeadlessServerMessenger implements IServerMessenger {
   public boolean isMacMiniBanned(final String mac) {
     return false;
   }
+
+  @Override
+  public NetworkMetrics getNetworkMetrics() {
+    return networkMetrics;
+  }
+
+  @Override
+  public void setNetworkMetrics(final NetworkMetrics networkMetrics) {
+    this.networkMetrics = networkMetrics;
+  }
+
+  @Override
+  public Map<INode, Long> getQueuedBytes() {
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public int getDecodeQueueDepth() {
+    return 0;
+  }
 }
@@ -3,6 +3,7 @@ package games.strategy.net;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.time.Instant;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nullable;
@@ -89,6 +90,28 @@ public interface IServerMessenger extends IMessenger {
 
   boolean isMacMiniBanned(String mac);
 
+  /**
+   * Returns the network metrics that are told about each message sent and received by this messenger. A messenger
+   * accepting connections counts its traffic in an {@link AggregateNetworkMetrics} by default.
+   */
+  NetworkMetrics getNetworkMetrics();
+
+  /**
+   * Replaces the network metrics that are told about each message sent and received by this messenger, e.g. to feed
+   * the traffic into an external monitoring system.
+   */
+  void setNetworkMetrics(NetworkMetrics networkMetrics);
+
+  /**
+   * Returns the number of bytes queued to be written to each connected node.
+   */
+  Map<INode, Long> getQueuedBytes();
+
+  /**
+   * Returns the number of messages that have been read but not yet decoded.
+   */
+  int getDecodeQueueDepth();
+
   /**
    * Returns the real username for the specified (possibly unique) username.
    *
@@ -0,0 +1,64 @@
+package games.strategy.net;
+
+import javax.annotation.Nullable;
+
+/**
+ * Receives the traffic of a messenger message by message, e.g. to find out which nodes and which kinds of messages
+ * dominate the bandwidth of a server. Implementations are called by the threads encoding and decoding the messages, so
+ * they must be thread safe and should return quickly.
+ *
+ * <p>
+ * The type of a message is the name of the remote method for remote method invocations, and the simple name of the
+ * message class for any other message.
+ * </p>
+ */
+public interface NetworkMetrics {
+  /**
+   * An instance that ignores all traffic.
+   */
+  NetworkMetrics NONE = new NetworkMetrics() {
+    @Override
+    public void messageEncoded(final String messageType, final long encodeNanos) {}
+
+    @Override
+    public void messageSent(final @Nullable INode to, final String messageType, final int bytes) {}
+
+    @Override
+    public void messageDecoded(final String messageType, final long decodeNanos) {}
+
+    @Override
+    public void messageReceived(final @Nullable INode from, final String messageType, final int bytes) {}
+
+    @Override
+    public void connectionClosed(final INode node) {}
+  };
+
+  /**
+   * Invoked after a message has been serialized. A broadcast is serialized once, no matter to how many nodes it is
+   * sent.
+   */
+  void messageEncoded(String messageType, long encodeNanos);
+
+  /**
+   * Invoked after a serialized message has been queued to be written to the specified node, which is {@code null} if
+   * the connection has not logged in yet.
+   */
+  void messageSent(@Nullable INode to, String messageType, int bytes);
+
+  /**
+   * Invoked after a message has been deserialized.
+   */
+  void messageDecoded(String messageType, long decodeNanos);
+
+  /**
+   * Invoked after a message has been read from the specified node, which is {@code null} if the connection has not
+   * logged in yet.
+   */
+  void messageReceived(@Nullable INode from, String messageType, int bytes);
+
+  /**
+   * Invoked after the connection to the specified node has been closed. No more messages are sent to or received from
+   * the node, so implementations may discard what they keep about it.
+   */
+  void connectionClosed(INode node);
+}
@@ -7,26 +7,44 @@ import java.io.Serializable;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
+import javax.annotation.Nullable;
+
 import games.strategy.engine.message.HubInvocationResults;
 import games.strategy.engine.message.HubInvoke;
+import games.strategy.engine.message.RemoteMethodCall;
 import games.strategy.engine.message.SpokeInvocationResults;
 import games.strategy.engine.message.SpokeInvoke;
+import games.strategy.engine.message.unifiedmessenger.Invoke;
 import games.strategy.io.IoUtils;
 import games.strategy.net.CouldNotLogInException;
 import games.strategy.net.INode;
 import games.strategy.net.IObjectStreamFactory;
 import games.strategy.net.MessageHeader;
+import games.strategy.net.NetworkMetrics;
 import games.strategy.net.Node;
 import games.strategy.net.nio.QuarantineConversation.Action;
 import lombok.extern.java.Log;
 
 /**
  * A thread to Decode messages from a reader.
+ *
+ * <p>
+ * The packets taken from the reader are decoded by a pool of workers, so that decoding a large message does not delay
+ * the messages of other connections. All packets read from the same channel are decoded by the same worker, so the
+ * messages of each connection are still delivered in the order in which they were read.
+ * </p>
  */
 @Log
 class Decoder {
+  private static final int MAX_WORKER_COUNT = 4;
+
   private final NioReader reader;
   private volatile boolean running = true;
   private final ErrorReporter errorReporter;
@@ -39,6 +57,11 @@ class Decoder {
   private final ConcurrentHashMap<SocketChannel, QuarantineConversation> quarantine =
       new ConcurrentHashMap<>();
   private final Thread thread;
+  private final ExecutorService[] workers;
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicLong decodedPacketCount = new AtomicLong();
+  private final AtomicLong totalDecodeNanos = new AtomicLong();
+  private final AtomicLong maxDecodeNanos = new AtomicLong();
 
   Decoder(final NioSocket nioSocket, final NioReader reader, final ErrorReporter reporter,
       final IObjectStreamFactory objectStreamFactory, final String threadSuffix) {
@@ -46,6 +69,15 @@ class Decoder {
     errorReporter = reporter;
     this.objectStreamFactory = objectStreamFactory;
     this.nioSocket = nioSocket;
+    workers = new ExecutorService[Math.max(2, Math.min(MAX_WORKER_COUNT, Runtime.getRuntime().availableProcessors()))];
+    for (int i = 0; i < workers.length; i++) {
+      final String workerName = "Decoder -" + threadSuffix + " worker " + i;
+      workers[i] = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread worker = new Thread(runnable, workerName);
+        worker.setDaemon(true);
+        return worker;
+      });
+    }
     thread = new Thread(this::loop, "Decoder -" + threadSuffix);
     thread.start();
   }
@@ -53,6 +85,14 @@ class Decoder {
   void shutDown() {
     running = false;
     thread.interrupt();
+    for (final ExecutorService worker : workers) {
+      worker.shutdownNow();
+    }
+  }
+
+  DecoderMetrics getMetrics() {
+    return new DecoderMetrics(
+        queueDepth.get(), decodedPacketCount.get(), totalDecodeNanos.get(), maxDecodeNanos.get());
   }
 
   private void loop() {
@@ -62,37 +102,18 @@ class Decoder {
         if (data == null || !running) {
           continue;
         }
-
+        queueDepth.incrementAndGet();
         try {
-          final MessageHeader header = IoUtils.readFromMemory(data.getData(), is -> {
+          getWorker(data.getChannel()).execute(() -> {
             try {
-              return readMessageHeader(data.getChannel(), objectStreamFactory.create(is));
-            } catch (final ClassNotFoundException e) {
-              throw new IOException(e);
+              decode(data);
+            } finally {
+              queueDepth.decrementAndGet();
             }
           });
-          // make sure we are still open
-          final Socket s = data.getChannel().socket();
-          if (!running || s == null || s.isInputShutdown()) {
-            continue;
-          }
-          final QuarantineConversation conversation = quarantine.get(data.getChannel());
-          if (conversation != null) {
-            sendQuarantine(data.getChannel(), conversation, header);
-          } else {
-            if (nioSocket.getLocalNode() == null) {
-              throw new IllegalStateException("we are writing messages, but no local node");
-            }
-            if (header.getFrom() == null) {
-              throw new IllegalArgumentException("Null from:" + header);
-            }
-            nioSocket.messageReceived(header, data.getChannel());
-          }
-        } catch (final IOException | RuntimeException e) {
-          // we are reading from memory here
-          // there should be no network errors, something is odd
-          log.log(Level.SEVERE, "error reading object", e);
-          errorReporter.error(data.getChannel(), e);
+        } catch (final RejectedExecutionException e) {
+          // we are shutting down
+          queueDepth.decrementAndGet();
         }
       } catch (final InterruptedException e) {
         // Do nothing if we were interrupted due to an explicit shutdown because the thread will terminate normally;
@@ -104,6 +125,60 @@ class Decoder {
     }
   }
 
+  private ExecutorService getWorker(final SocketChannel channel) {
+    return workers[Math.floorMod(System.identityHashCode(channel), workers.length)];
+  }
+
+  private void decode(final SocketReadData data) {
+    if (!running) {
+      return;
+    }
+    final long start = System.nanoTime();
+    try {
+      final MessageHeader header = IoUtils.readFromMemory(data.getData(), is -> {
+        try {
+          return readMessageHeader(data.getChannel(), objectStreamFactory.create(is));
+        } catch (final ClassNotFoundException e) {
+          throw new IOException(e);
+        }
+      });
+      final long decodeNanos = System.nanoTime() - start;
+      recordDecodeTime(decodeNanos);
+      final String messageType = getMessageType(header.getMessage());
+      final NetworkMetrics networkMetrics = nioSocket.getNetworkMetrics();
+      networkMetrics.messageDecoded(messageType, decodeNanos);
+      networkMetrics.messageReceived(nioSocket.getRemoteNode(data.getChannel()), messageType, data.size());
+      // make sure we are still open
+      final Socket s = data.getChannel().socket();
+      if (!running || s == null || s.isInputShutdown()) {
+        return;
+      }
+      final QuarantineConversation conversation = quarantine.get(data.getChannel());
+      if (conversation != null) {
+        sendQuarantine(data.getChannel(), conversation, header);
+      } else {
+        if (nioSocket.getLocalNode() == null) {
+          throw new IllegalStateException("we are writing messages, but no local node");
+        }
+        if (header.getFrom() == null) {
+          throw new IllegalArgumentException("Null from:" + header);
+        }
+        nioSocket.messageReceived(header, data.getChannel());
+      }
+    } catch (final IOException | RuntimeException e) {
+      // we are reading from memory here
+      // there should be no network errors, something is odd
+      log.log(Level.SEVERE, "error reading object", e);
+      errorReporter.error(data.getChannel(), e);
+    }
+  }
+
+  private void recordDecodeTime(final long decodeNanos) {
+    decodedPacketCount.incrementAndGet();
+    totalDecodeNanos.addAndGet(decodeNanos);
+    maxDecodeNanos.accumulateAndGet(decodeNanos, Math::max);
+  }
+
   private void sendQuarantine(final SocketChannel channel, final QuarantineConversation conversation,
       final MessageHeader header) {
     final Action a = conversation.message(header.getMessage());
@@ -186,6 +261,23 @@ class Decoder {
     return Byte.MAX_VALUE;
   }
 
+  /**
+   * Returns the type of the specified message reported to the network metrics: the remote interface and method for an
+   * invocation, and the simple class name for any other message. The remote name of an invocation, which often
+   * contains the name of a node or player, is only used if the remote interface is not known, because the invocation
+   * is forwarded without being resolved.
+   */
+  static String getMessageType(final Object msg) {
+    if (msg instanceof Invoke) {
+      final RemoteMethodCall call = ((Invoke) msg).call;
+      final @Nullable Class<?> remoteInterface = call.getRemoteInterface();
+      return (remoteInterface == null)
+          ? call.getRemoteName()
+          : remoteInterface.getSimpleName() + "." + call.getMethodName();
+    }
+    return msg.getClass().getSimpleName();
+  }
+
   void add(final SocketChannel channel, final QuarantineConversation conversation) {
     quarantine.put(channel, conversation);
   }
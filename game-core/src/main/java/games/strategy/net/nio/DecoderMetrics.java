@@ -0,0 +1,19 @@
+package games.strategy.net.nio;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A snapshot of the counters of the decoder of a {@link NioSocket}.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class DecoderMetrics {
+  // the number of packets that have been read but not yet decoded
+  private final int queueDepth;
+  private final long decodedPacketCount;
+  private final long totalDecodeNanos;
+  private final long maxDecodeNanos;
+}
@@ -5,17 +5,27 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.Collection;
 import java.util.logging.Level;
 
+import javax.annotation.Nullable;
+
 import games.strategy.io.IoUtils;
 import games.strategy.net.IObjectStreamFactory;
 import games.strategy.net.MessageHeader;
+import games.strategy.net.NetworkMetrics;
 import games.strategy.net.Node;
 import lombok.extern.java.Log;
 
 /**
  * Encodes data to be written by a writer.
+ *
+ * <p>
+ * The encoding of a broadcast does not depend on the destination channel, so a broadcast to several channels is
+ * encoded once and the encoded data is shared by the packets written to each channel.
+ * </p>
  */
 @Log
 class Encoder {
@@ -35,16 +45,59 @@ class Encoder {
       throw new IllegalArgumentException("No from node");
     }
     try {
-      final byte[] bytes = IoUtils.writeToMemory(os -> write(header, objectStreamFactory.create(os), to));
+      final String messageType = Decoder.getMessageType(header.getMessage());
+      final byte[] bytes = encode(header, to, messageType);
       final SocketWriteData data = new SocketWriteData(bytes, bytes.length);
       writer.enque(data, to);
+      nioSocket.getNetworkMetrics().messageSent(nioSocket.getRemoteNode(to), messageType, bytes.length);
+    } catch (final IOException e) {
+      // we aren't doing any I/O, just writing in memory so something is very wrong
+      log.log(Level.SEVERE, "Error writing object:" + header, e);
+    }
+  }
+
+  /**
+   * Writes the specified message header to each of the specified channels. A broadcast is only encoded once.
+   */
+  void write(final Collection<SocketChannel> to, final MessageHeader header) {
+    checkNotNull(to);
+    if (header.getFrom() == null) {
+      throw new IllegalArgumentException("No from node");
+    }
+    if (header.getFor() != null) {
+      to.forEach(channel -> write(channel, header));
+      return;
+    }
+    if (to.isEmpty()) {
+      return;
+    }
+    try {
+      final String messageType = Decoder.getMessageType(header.getMessage());
+      final byte[] bytes = encode(header, null, messageType);
+      final ByteBuffer sharedContent = SocketWriteData.newSharedContent(bytes, bytes.length);
+      final NetworkMetrics networkMetrics = nioSocket.getNetworkMetrics();
+      for (final SocketChannel channel : to) {
+        writer.enque(new SocketWriteData(sharedContent), channel);
+        networkMetrics.messageSent(nioSocket.getRemoteNode(channel), messageType, bytes.length);
+      }
     } catch (final IOException e) {
       // we aren't doing any I/O, just writing in memory so something is very wrong
       log.log(Level.SEVERE, "Error writing object:" + header, e);
     }
   }
 
-  private void write(final MessageHeader header, final ObjectOutputStream out, final SocketChannel remote)
+  /**
+   * Encodes the specified message header for the specified channel, which may be null if the message is a broadcast.
+   */
+  private byte[] encode(final MessageHeader header, final @Nullable SocketChannel remote, final String messageType)
+      throws IOException {
+    final long start = System.nanoTime();
+    final byte[] bytes = IoUtils.writeToMemory(os -> write(header, objectStreamFactory.create(os), remote));
+    nioSocket.getNetworkMetrics().messageEncoded(messageType, System.nanoTime() - start);
+    return bytes;
+  }
+
+  private void write(final MessageHeader header, final ObjectOutputStream out, final @Nullable SocketChannel remote)
       throws IOException {
     if (header.getFrom() == null) {
       throw new IllegalArgumentException("null from");
@@ -5,17 +5,19 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.io.IOException;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
+import java.util.Collection;
 import java.util.logging.Level;
 
 import games.strategy.net.INode;
 import games.strategy.net.IObjectStreamFactory;
 import games.strategy.net.MessageHeader;
+import games.strategy.net.NetworkMetrics;
 import lombok.extern.java.Log;
 
 /**
  * The threads needed for a group of sockets using NIO.
- * One thread reds socket data, one thread writes socket data and one thread deserializes (decodes) packets read by the
- * read thread.
+ * One thread reds socket data, one thread writes socket data and a small pool of threads deserializes (decodes) packets
+ * read by the read thread.
  * serializing (encoding) objects to be written across the network is done by threads calling this object.
  */
 @Log
@@ -25,6 +27,7 @@ public class NioSocket implements ErrorReporter {
   private final NioWriter writer;
   private final NioReader reader;
   private final NioSocketListener listener;
+  private volatile NetworkMetrics networkMetrics = NetworkMetrics.NONE;
 
   public NioSocket(final IObjectStreamFactory factory, final NioSocketListener listener, final String name) {
     this.listener = listener;
@@ -42,6 +45,36 @@ public class NioSocket implements ErrorReporter {
     return listener.getRemoteNode(channel);
   }
 
+  /**
+   * Returns the metrics that are told about each message sent and received through this socket.
+   */
+  public NetworkMetrics getNetworkMetrics() {
+    return networkMetrics;
+  }
+
+  /**
+   * Sets the metrics that are told about each message sent and received through this socket. By default, messages are
+   * not counted.
+   */
+  public void setNetworkMetrics(final NetworkMetrics networkMetrics) {
+    this.networkMetrics = checkNotNull(networkMetrics);
+  }
+
+  /**
+   * Returns the current counters of the decoder, which deserializes the packets read from all channels of this socket.
+   */
+  public DecoderMetrics getDecoderMetrics() {
+    return decoder.getMetrics();
+  }
+
+  /**
+   * Returns the number of bytes queued to be written to the specified channel. A steadily growing number indicates
+   * that the remote end of the channel cannot keep up with the messages sent to it.
+   */
+  public long getQueuedBytes(final SocketChannel channel) {
+    return writer.getQueuedBytes(channel);
+  }
+
   /**
    * Stop our threads.
    * This does not close the sockets we are connected to.
@@ -65,6 +98,20 @@ public class NioSocket implements ErrorReporter {
     encoder.write(to, header);
   }
 
+  /**
+   * Sends the specified message header through each of the specified channels. If the message is a broadcast, it is
+   * only serialized once for all channels.
+   *
+   * @param to The destination channels.
+   * @param header The message header to send.
+   */
+  public void send(final Collection<SocketChannel> to, final MessageHeader header) {
+    checkNotNull(to);
+    checkNotNull(header);
+
+    encoder.write(to, header);
+  }
+
   /**
    * Add this channel.
    * The channel will either be unquarantined, or an error will be reported
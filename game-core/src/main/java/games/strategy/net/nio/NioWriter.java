@@ -7,7 +7,9 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -21,13 +23,24 @@ import lombok.extern.java.Log;
  * A thread that writes socket data using NIO.
  * Data is written in packets that are enqueued on our buffer.
  * Packets are sent to the sockets in the order that they are received.
+ *
+ * <p>
+ * Whenever a socket can be written to, as many of its queued packets as fit into a byte budget are written with a
+ * single gathering write. The number of bytes queued for each socket is tracked, and a warning is logged when a socket
+ * falls so far behind that its queue exceeds a threshold.
+ * </p>
  */
 @Log
 class NioWriter {
+  // the maximum number of bytes of queued packets to write to a socket with a single gathering write
+  private static final int WRITE_BUDGET_BYTES = 256 * 1024;
+  // the number of queued bytes above which a socket is considered to be falling behind
+  private static final long SLOW_CHANNEL_QUEUED_BYTES = SocketReadData.MAX_MESSAGE_SIZE / 10;
+
   private final Selector selector;
   private final ErrorReporter errorReporter;
   // this is the data we are writing
-  private final Map<SocketChannel, List<SocketWriteData>> writing = new HashMap<>();
+  private final Map<SocketChannel, WriteQueue> writing = new HashMap<>();
   // these are the sockets we arent selecting on, but should now
   private List<SocketChannel> socketsToWake = new ArrayList<>();
   // the writing thread and threads adding data to write synchronize on this lock
@@ -35,6 +48,15 @@ class NioWriter {
   private long totalBytes = 0;
   private volatile boolean running = true;
 
+  /**
+   * The packets queued for a socket, guarded by the mutex of the writer.
+   */
+  private static final class WriteQueue {
+    final Deque<SocketWriteData> packets = new ArrayDeque<>();
+    long queuedBytes;
+    boolean slow;
+  }
+
   NioWriter(final ErrorReporter reporter, final String threadSuffix) {
     errorReporter = reporter;
     try {
@@ -91,28 +113,17 @@ class NioWriter {
           iter.remove();
           if (key.isValid() && key.isWritable()) {
             final SocketChannel channel = (SocketChannel) key.channel();
-            final SocketWriteData packet = getData(channel);
-            if (packet != null) {
+            final List<SocketWriteData> packets = getData(channel);
+            if (!packets.isEmpty()) {
               try {
-                log.finest(() -> "writing packet:" + packet + " to:" + channel.socket().getRemoteSocketAddress());
-                final boolean done = packet.write(channel);
-                if (done) {
-                  totalBytes += packet.size();
-                  if (log.isLoggable(Level.FINE)) {
-                    final Socket s = channel.socket();
-                    SocketAddress sa = null;
-                    if (s != null) {
-                      sa = s.getRemoteSocketAddress();
-                    }
-                    String remote = "null";
-                    if (sa != null) {
-                      remote = sa.toString();
-                    }
-                    log.fine(" done writing to:" + remote + " size:" + packet.size() + " writeCalls;"
-                        + packet.getWriteCalls() + " total:" + totalBytes);
-                  }
-                  removeLast(channel);
+                log.finest(() -> "writing packets:" + packets + " to:" + channel.socket().getRemoteSocketAddress());
+                totalBytes += SocketWriteData.write(channel, packets);
+                int writtenPackets = 0;
+                while (writtenPackets < packets.size() && packets.get(writtenPackets).isWritten()) {
+                  logWritten(channel, packets.get(writtenPackets));
+                  writtenPackets++;
                 }
+                removeWritten(channel, packets.subList(0, writtenPackets));
               } catch (final Exception e) {
                 log.log(Level.FINER, "exception writing", e);
                 errorReporter.error(channel, e);
@@ -132,6 +143,26 @@ class NioWriter {
     }
   }
 
+  private void logWritten(final SocketChannel channel, final SocketWriteData packet) {
+    if (log.isLoggable(Level.FINE)) {
+      log.fine(" done writing to:" + getRemote(channel) + " size:" + packet.size() + " writeCalls;"
+          + packet.getWriteCalls() + " total:" + totalBytes);
+    }
+  }
+
+  private static String getRemote(final SocketChannel channel) {
+    final Socket s = channel.socket();
+    SocketAddress sa = null;
+    if (s != null) {
+      sa = s.getRemoteSocketAddress();
+    }
+    String remote = "null";
+    if (sa != null) {
+      remote = sa.toString();
+    }
+    return remote;
+  }
+
   /**
    * Remove the data for this channel.
    */
@@ -145,31 +176,62 @@ class NioWriter {
     }
   }
 
-  private void removeLast(final SocketChannel to) {
+  private void removeWritten(final SocketChannel to, final List<SocketWriteData> written) {
     synchronized (mutex) {
-      final List<SocketWriteData> values = writing.get(to);
-      if (values == null) {
+      final WriteQueue queue = writing.get(to);
+      if (queue == null) {
         log.severe("NO socket data to:" + to);
         return;
       }
-      values.remove(0);
-      // remove empty lists, so we can detect that we need to wake up the socket
-      if (values.isEmpty()) {
+      for (final SocketWriteData packet : written) {
+        // the queue may have been replaced if the channel was closed while writing
+        if (queue.packets.peekFirst() != packet) {
+          break;
+        }
+        queue.packets.removeFirst();
+        queue.queuedBytes -= packet.size();
+      }
+      if (queue.queuedBytes < SLOW_CHANNEL_QUEUED_BYTES) {
+        queue.slow = false;
+      }
+      // remove empty queues, so we can detect that we need to wake up the socket
+      if (queue.packets.isEmpty()) {
         writing.remove(to);
       }
     }
   }
 
-  private SocketWriteData getData(final SocketChannel to) {
+  /**
+   * Returns the packets to write next to the specified channel, which are the first of its queued packets that fit
+   * into the write budget, but at least one packet if there is any.
+   */
+  private List<SocketWriteData> getData(final SocketChannel to) {
     synchronized (mutex) {
-      if (!writing.containsKey(to)) {
-        return null;
+      final WriteQueue queue = writing.get(to);
+      if (queue == null) {
+        return new ArrayList<>();
       }
-      final List<SocketWriteData> values = writing.get(to);
-      if (values.isEmpty()) {
-        return null;
+      final List<SocketWriteData> packets = new ArrayList<>();
+      long bytes = 0;
+      for (final SocketWriteData packet : queue.packets) {
+        if (!packets.isEmpty() && bytes + packet.size() > WRITE_BUDGET_BYTES) {
+          break;
+        }
+        packets.add(packet);
+        bytes += packet.size();
       }
-      return values.get(0);
+      return packets;
+    }
+  }
+
+  /**
+   * Returns the number of bytes of the packets queued for the specified channel that have not been completely written
+   * yet.
+   */
+  long getQueuedBytes(final SocketChannel channel) {
+    synchronized (mutex) {
+      final WriteQueue queue = writing.get(channel);
+      return queue == null ? 0 : queue.queuedBytes;
     }
   }
 
@@ -178,15 +240,19 @@ class NioWriter {
       if (!running) {
         return;
       }
-      if (writing.containsKey(channel)) {
-        writing.get(channel).add(data);
-      } else {
-        final List<SocketWriteData> values = new ArrayList<>();
-        values.add(data);
-        writing.put(channel, values);
+      WriteQueue queue = writing.get(channel);
+      if (queue == null) {
+        queue = new WriteQueue();
+        writing.put(channel, queue);
         socketsToWake.add(channel);
         selector.wakeup();
       }
+      queue.packets.add(data);
+      queue.queuedBytes += data.size();
+      if (queue.queuedBytes >= SLOW_CHANNEL_QUEUED_BYTES && !queue.slow) {
+        queue.slow = true;
+        log.warning("Writing to " + getRemote(channel) + " is falling behind, bytes queued: " + queue.queuedBytes);
+      }
     }
   }
 }
@@ -3,6 +3,7 @@ package games.strategy.net.nio;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.extern.java.Log;
@@ -15,7 +16,13 @@ import lombok.extern.java.Log;
  * </p>
  *
  * <p>
- * The packet is written over the network as 32 bits indicating the size in bytes, then the data itself.
+ * The packet is written over the network as 32 bits indicating the size in bytes, then the data itself. Both are
+ * written with a single gathering write where possible, together with the packets queued after it.
+ * </p>
+ *
+ * <p>
+ * The data of a packet may be shared with other packets, for example when the same message is broadcast to several
+ * channels; each packet only has its own size prefix and its own position in the shared data.
  * </p>
  */
 @Log
@@ -28,15 +35,34 @@ class SocketWriteData {
   private int writeCalls = 0;
 
   SocketWriteData(final byte[] data, final int count) {
-    content = ByteBuffer.allocate(count);
-    content.put(data, 0, count);
-    size = ByteBuffer.allocate(4);
-    if (count < 0 || count > SocketReadData.MAX_MESSAGE_SIZE) {
+    this(newSharedContent(data, count));
+  }
+
+  /**
+   * Creates a packet for the specified data, which may be shared with other packets.
+   *
+   * @param sharedContent The data to write, from its position to its limit, as created by
+   *        {@link #newSharedContent(byte[], int)}. It is not modified by this packet.
+   */
+  SocketWriteData(final ByteBuffer sharedContent) {
+    content = sharedContent.slice();
+    final int count = content.remaining();
+    if (count > SocketReadData.MAX_MESSAGE_SIZE) {
       throw new IllegalStateException("Invalid message size:" + count);
     }
+    size = ByteBuffer.allocate(4);
     size.putInt(count ^ SocketReadData.MAGIC);
     size.flip();
-    content.flip();
+  }
+
+  /**
+   * Returns a read-only buffer holding the specified data, which can be shared by any number of packets.
+   */
+  static ByteBuffer newSharedContent(final byte[] data, final int count) {
+    if (count < 0 || count > SocketReadData.MAX_MESSAGE_SIZE) {
+      throw new IllegalStateException("Invalid message size:" + count);
+    }
+    return ByteBuffer.wrap(data, 0, count).asReadOnlyBuffer();
   }
 
   int size() {
@@ -48,29 +74,32 @@ class SocketWriteData {
   }
 
   /**
-   * Writes any pending data to the specified channel.
+   * Writes any pending data of the specified packets, in order, to the specified channel with a single gathering
+   * write.
    *
-   * @return true if the write has written the entire message.
+   * @return The number of bytes written.
    */
-  boolean write(final SocketChannel channel) throws IOException {
-    writeCalls++;
-    if (size.hasRemaining()) {
-      final int count = channel.write(size);
-      if (count == -1) {
-        throw new IOException("triplea: end of stream detected");
-      }
-      log.finest(() -> "wrote size_buffer bytes:" + count);
-      // we could not write everything
-      if (size.hasRemaining()) {
-        return false;
-      }
+  static long write(final SocketChannel channel, final List<SocketWriteData> packets) throws IOException {
+    final ByteBuffer[] buffers = new ByteBuffer[packets.size() * 2];
+    for (int i = 0; i < packets.size(); i++) {
+      final SocketWriteData packet = packets.get(i);
+      packet.writeCalls++;
+      buffers[i * 2] = packet.size;
+      buffers[i * 2 + 1] = packet.content;
     }
-    final int count = channel.write(content);
+    final long count = channel.write(buffers);
     if (count == -1) {
       throw new IOException("triplea: end of stream detected");
     }
-    log.finest(() -> "wrote content bytes:" + count);
-    return !content.hasRemaining();
+    log.finest(() -> "wrote bytes:" + count);
+    return count;
+  }
+
+  /**
+   * Returns true if the entire packet has been written.
+   */
+  boolean isWritten() {
+    return !size.hasRemaining() && !content.hasRemaining();
   }
 
   @Override
@@ -21,7 +21,6 @@ class AggregateEstimate extends AggregateResults {
 
   AggregateEstimate(final int battleRoundsFought, final double winPercentage,
       final List<Unit> remainingAttackingUnits, final List<Unit> remainingDefendingUnits) {
-    super(1);
     this.battleRoundsFought = battleRoundsFought;
     this.winPercentage = winPercentage;
     this.remainingAttackingUnits = remainingAttackingUnits;
@@ -9,17 +9,26 @@ import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
+import games.strategy.triplea.ai.pro.ProData;
 import games.strategy.triplea.ai.pro.util.ProBattleUtils;
 import games.strategy.triplea.ai.pro.util.ProPurchaseUtils;
 import games.strategy.triplea.odds.calculator.AggregateResults;
 import games.strategy.triplea.odds.calculator.IOddsCalculator;
 
-class FastOddsEstimator implements IOddsCalculator {
+/**
+ * An odds calculator that estimates the outcome of a battle from the strength of both sides instead of simulating it.
+ */
+public class FastOddsEstimator implements IOddsCalculator {
 
+  private final ProData proData;
   private Territory location = null;
   private Collection<Unit> attackingUnits = new ArrayList<>();
   private Collection<Unit> defendingUnits = new ArrayList<>();
 
+  public FastOddsEstimator(final ProData proData) {
+    this.proData = proData;
+  }
+
   @Override
   public void setGameData(final GameData data) {}
 
@@ -34,18 +43,18 @@ class FastOddsEstimator implements IOddsCalculator {
 
   @Override
   public AggregateResults calculate() {
-    final double winPercentage = ProBattleUtils.estimateStrengthDifference(location, new ArrayList<>(attackingUnits),
-        new ArrayList<>(defendingUnits));
+    final double winPercentage = ProBattleUtils.estimateStrengthDifference(proData, location,
+        new ArrayList<>(attackingUnits), new ArrayList<>(defendingUnits));
     List<Unit> remainingAttackingUnits = new ArrayList<>();
     List<Unit> remainingDefendingUnits = new ArrayList<>();
     if (winPercentage > 50) {
       remainingAttackingUnits.addAll(attackingUnits);
-      remainingAttackingUnits.sort(ProPurchaseUtils.getCostComparator().reversed());
+      remainingAttackingUnits.sort(ProPurchaseUtils.getCostComparator(proData).reversed());
       final int numRemainingUnits = (int) Math.ceil(attackingUnits.size() * (Math.min(100, winPercentage) - 50) / 50);
       remainingAttackingUnits = remainingAttackingUnits.subList(0, numRemainingUnits);
     } else {
       remainingDefendingUnits.addAll(defendingUnits);
-      remainingDefendingUnits.sort(ProPurchaseUtils.getCostComparator().reversed());
+      remainingDefendingUnits.sort(ProPurchaseUtils.getCostComparator(proData).reversed());
       final int numRemainingUnits = (int) Math.ceil(defendingUnits.size() * (50 - Math.max(0, winPercentage)) / 50);
       remainingDefendingUnits = remainingDefendingUnits.subList(0, numRemainingUnits);
     }
@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 import org.triplea.java.collections.CollectionUtils;
@@ -48,7 +49,7 @@ import games.strategy.triplea.delegate.remote.IMoveDelegate;
 import games.strategy.triplea.delegate.remote.IPurchaseDelegate;
 import games.strategy.triplea.delegate.remote.ITechDelegate;
 import games.strategy.triplea.odds.calculator.ConcurrentOddsCalculator;
-import games.strategy.triplea.odds.calculator.IOddsCalculator;
+import games.strategy.triplea.settings.ClientSetting;
 import games.strategy.triplea.ui.TripleAFrame;
 
 /**
@@ -57,8 +58,8 @@ import games.strategy.triplea.ui.TripleAFrame;
 public class ProAi extends AbstractAi {
 
   // Odds calculator
-  private static final IOddsCalculator concurrentCalc = new ConcurrentOddsCalculator("ProAi");
   protected ProOddsCalculator calc;
+  private final ProData proData = new ProData();
 
   // Phases
   private final ProCombatMoveAi combatMoveAi;
@@ -97,13 +98,17 @@ public class ProAi extends AbstractAi {
   }
 
   protected void initializeCalc() {
-    calc = new ProOddsCalculator(concurrentCalc);
+    calc = new ProOddsCalculator(new ConcurrentOddsCalculator("ProAi"), proData);
   }
 
   public ProOddsCalculator getCalc() {
     return calc;
   }
 
+  public ProData getProData() {
+    return proData;
+  }
+
   public static void initialize(final TripleAFrame frame) {
     ProLogUi.initialize(frame);
     ProLogger.info("Initialized Hard AI");
@@ -116,7 +121,6 @@ public class ProAi extends AbstractAi {
 
   public static void gameOverClearCache() {
     // Are static, clear so that we don't keep the data around after a game is exited
-    concurrentCalc.setGameData(null);
     ProLogUi.clearCachedInstances();
   }
 
@@ -124,10 +128,15 @@ public class ProAi extends AbstractAi {
   public void stopGame() {
     super.stopGame(); // absolutely MUST call super.stopGame() first
     calc.cancelCalcs();
+    calc.shutdown();
   }
 
   private void initializeData() {
-    ProData.initialize(this);
+    proData.initialize(this);
+  }
+
+  private static long getPhaseTimeBudget() {
+    return TimeUnit.SECONDS.toMillis(ClientSetting.aiPhaseTimeBudget.getValueOrThrow());
   }
 
   public void setStoredStrafingTerritories(final List<Territory> strafingTerritories) {
@@ -141,16 +150,21 @@ public class ProAi extends AbstractAi {
     ProLogUi.notifyStartOfRound(data.getSequence().getRound(), player.getName());
     initializeData();
     calc.setData(data);
-    if (nonCombat) {
-      nonCombatMoveAi.doNonCombatMove(storedFactoryMoveMap, storedPurchaseTerritories, moveDel);
-      storedFactoryMoveMap = null;
-    } else {
-      if (storedCombatMoveMap == null) {
-        combatMoveAi.doCombatMove(moveDel);
+    calc.startPhase(nonCombat ? "Noncombat move" : "Combat move", getPhaseTimeBudget());
+    try {
+      if (nonCombat) {
+        nonCombatMoveAi.doNonCombatMove(storedFactoryMoveMap, storedPurchaseTerritories, moveDel);
+        storedFactoryMoveMap = null;
       } else {
-        combatMoveAi.doMove(storedCombatMoveMap, moveDel, data, player);
-        storedCombatMoveMap = null;
+        if (storedCombatMoveMap == null) {
+          combatMoveAi.doCombatMove(moveDel);
+        } else {
+          combatMoveAi.doMove(storedCombatMoveMap, moveDel, data, player);
+          storedCombatMoveMap = null;
+        }
       }
+    } finally {
+      calc.endPhase();
     }
     ProLogger
         .info(player.getName() + " time for nonCombat=" + nonCombat + " time=" + (System.currentTimeMillis() - start));
@@ -167,14 +181,20 @@ public class ProAi extends AbstractAi {
     }
     if (purchaseForBid) {
       calc.setData(data);
-      storedPurchaseTerritories = purchaseAi.bid(pusToSpend, purchaseDelegate, data);
+      calc.startPhase("Bid purchase", getPhaseTimeBudget());
+      try {
+        storedPurchaseTerritories = purchaseAi.bid(pusToSpend, purchaseDelegate, data);
+      } finally {
+        calc.endPhase();
+      }
     } else {
 
       // Repair factories
       purchaseAi.repair(pusToSpend, purchaseDelegate, data, player);
 
       // Check if any place territories exist
-      final Map<Territory, ProPurchaseTerritory> purchaseTerritories = ProPurchaseUtils.findPurchaseTerritories(player);
+      final Map<Territory, ProPurchaseTerritory> purchaseTerritories =
+          ProPurchaseUtils.findPurchaseTerritories(proData, player);
       final List<Territory> possibleFactoryTerritories = CollectionUtils.getMatches(data.getMap().getTerritories(),
           ProMatches.territoryHasNoInfraFactoryAndIsNotConqueredOwnedLand(player, data));
       if (purchaseTerritories.isEmpty() && possibleFactoryTerritories.isEmpty()) {
@@ -195,56 +215,61 @@ public class ProAi extends AbstractAi {
         data.releaseWriteLock();
       }
       calc.setData(dataCopy);
-      final PlayerId playerCopy = dataCopy.getPlayerList().getPlayerId(player.getName());
-      final IMoveDelegate moveDel = DelegateFinder.moveDelegate(dataCopy);
-      final IDelegateBridge bridge = new ProDummyDelegateBridge(this, playerCopy, dataCopy);
-      moveDel.setDelegateBridgeAndPlayer(bridge);
-
-      // Determine turn sequence
-      final List<GameStep> gameSteps = new ArrayList<>();
-      for (final GameStep gameStep : dataCopy.getSequence()) {
-        gameSteps.add(gameStep);
-      }
-
-      // Simulate the next phases until place/end of turn is reached then use simulated data for purchase
-      final int nextStepIndex = dataCopy.getSequence().getStepIndex() + 1;
-      for (int i = nextStepIndex; i < gameSteps.size(); i++) {
-        final GameStep step = gameSteps.get(i);
-        if (!playerCopy.equals(step.getPlayerId())) {
-          continue;
+      calc.startPhase("Purchase", getPhaseTimeBudget());
+      try {
+        final PlayerId playerCopy = dataCopy.getPlayerList().getPlayerId(player.getName());
+        final IMoveDelegate moveDel = DelegateFinder.moveDelegate(dataCopy);
+        final IDelegateBridge bridge = new ProDummyDelegateBridge(this, playerCopy, dataCopy);
+        moveDel.setDelegateBridgeAndPlayer(bridge);
+
+        // Determine turn sequence
+        final List<GameStep> gameSteps = new ArrayList<>();
+        for (final GameStep gameStep : dataCopy.getSequence()) {
+          gameSteps.add(gameStep);
         }
-        dataCopy.getSequence().setRoundAndStep(dataCopy.getSequence().getRound(), step.getDisplayName(),
-            step.getPlayerId());
-        final String stepName = step.getName();
-        ProLogger.info("Simulating phase: " + stepName);
-        if (stepName.endsWith("NonCombatMove")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
-          final Map<Territory, ProTerritory> factoryMoveMap = nonCombatMoveAi.simulateNonCombatMove(moveDel);
-          if (storedFactoryMoveMap == null) {
-            storedFactoryMoveMap = ProSimulateTurnUtils.transferMoveMap(factoryMoveMap, data, player);
-          }
-        } else if (stepName.endsWith("CombatMove") && !stepName.endsWith("AirborneCombatMove")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
-          final Map<Territory, ProTerritory> moveMap = combatMoveAi.doCombatMove(moveDel);
-          if (storedCombatMoveMap == null) {
-            storedCombatMoveMap = ProSimulateTurnUtils.transferMoveMap(moveMap, data, player);
+
+        // Simulate the next phases until place/end of turn is reached then use simulated data for purchase
+        final int nextStepIndex = dataCopy.getSequence().getStepIndex() + 1;
+        for (int i = nextStepIndex; i < gameSteps.size(); i++) {
+          final GameStep step = gameSteps.get(i);
+          if (!playerCopy.equals(step.getPlayerId())) {
+            continue;
           }
-        } else if (stepName.endsWith("Battle")) {
-          ProData.initializeSimulation(this, dataCopy, playerCopy);
-          ProSimulateTurnUtils.simulateBattles(dataCopy, playerCopy, bridge, calc);
-        } else if (stepName.endsWith("Place") || stepName.endsWith("EndTurn")) {
-          ProData.initializeSimulation(this, dataCopy, player);
-          storedPurchaseTerritories = purchaseAi.purchase(purchaseDelegate, data);
-          break;
-        } else if (stepName.endsWith("Politics")) {
-          ProData.initializeSimulation(this, dataCopy, player);
-          final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(dataCopy);
-          politicsDelegate.setDelegateBridgeAndPlayer(bridge);
-          final List<PoliticalActionAttachment> actions = politicsAi.politicalActions();
-          if (storedPoliticalActions == null) {
-            storedPoliticalActions = actions;
+          dataCopy.getSequence().setRoundAndStep(dataCopy.getSequence().getRound(), step.getDisplayName(),
+              step.getPlayerId());
+          final String stepName = step.getName();
+          ProLogger.info("Simulating phase: " + stepName);
+          if (stepName.endsWith("NonCombatMove")) {
+            proData.initializeSimulation(this, dataCopy, playerCopy);
+            final Map<Territory, ProTerritory> factoryMoveMap = nonCombatMoveAi.simulateNonCombatMove(moveDel);
+            if (storedFactoryMoveMap == null) {
+              storedFactoryMoveMap = ProSimulateTurnUtils.transferMoveMap(proData, factoryMoveMap, data, player);
+            }
+          } else if (stepName.endsWith("CombatMove") && !stepName.endsWith("AirborneCombatMove")) {
+            proData.initializeSimulation(this, dataCopy, playerCopy);
+            final Map<Territory, ProTerritory> moveMap = combatMoveAi.doCombatMove(moveDel);
+            if (storedCombatMoveMap == null) {
+              storedCombatMoveMap = ProSimulateTurnUtils.transferMoveMap(proData, moveMap, data, player);
+            }
+          } else if (stepName.endsWith("Battle")) {
+            proData.initializeSimulation(this, dataCopy, playerCopy);
+            ProSimulateTurnUtils.simulateBattles(dataCopy, playerCopy, bridge, calc);
+          } else if (stepName.endsWith("Place") || stepName.endsWith("EndTurn")) {
+            proData.initializeSimulation(this, dataCopy, player);
+            storedPurchaseTerritories = purchaseAi.purchase(purchaseDelegate, data);
+            break;
+          } else if (stepName.endsWith("Politics")) {
+            proData.initializeSimulation(this, dataCopy, player);
+            final PoliticsDelegate politicsDelegate = DelegateFinder.politicsDelegate(dataCopy);
+            politicsDelegate.setDelegateBridgeAndPlayer(bridge);
+            final List<PoliticalActionAttachment> actions = politicsAi.politicalActions();
+            if (storedPoliticalActions == null) {
+              storedPoliticalActions = actions;
+            }
           }
         }
+      } finally {
+        calc.endPhase();
       }
     }
     ProLogger.info(player.getName() + " time for purchase=" + (System.currentTimeMillis() - start));
@@ -256,8 +281,13 @@ public class ProAi extends AbstractAi {
     final long start = System.currentTimeMillis();
     ProLogUi.notifyStartOfRound(data.getSequence().getRound(), player.getName());
     initializeData();
-    purchaseAi.place(storedPurchaseTerritories, placeDelegate);
-    storedPurchaseTerritories = null;
+    calc.startPhase("Place", getPhaseTimeBudget());
+    try {
+      purchaseAi.place(storedPurchaseTerritories, placeDelegate);
+      storedPurchaseTerritories = null;
+    } finally {
+      calc.endPhase();
+    }
     ProLogger.info(player.getName() + " time for place=" + (System.currentTimeMillis() - start));
   }
 
@@ -286,7 +316,8 @@ public class ProAi extends AbstractAi {
     final boolean isAttacker = player.equals(battle.getAttacker());
     final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
     final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(battleTerritory, attackers, defenders);
+    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, battleTerritory, attackers,
+        defenders);
     final boolean isStrafing = isAttacker && storedStrafingTerritories.contains(battleTerritory);
     ProLogger.info(player.getName() + " checking retreat from territory " + battleTerritory + ", attackers="
         + attackers.size() + ", defenders=" + defenders.size() + ", submerge=" + submerge + ", attacker=" + isAttacker
@@ -333,7 +364,7 @@ public class ProAi extends AbstractAi {
     myCasualties.addToDamaged(defaultCasualties.getDamaged());
     final List<Unit> selectFromSorted = new ArrayList<>(selectFrom);
     if (enemyUnits.isEmpty()) {
-      selectFromSorted.sort(ProPurchaseUtils.getCostComparator());
+      selectFromSorted.sort(ProPurchaseUtils.getCostComparator(proData));
     } else {
 
       // Get battle data
@@ -349,7 +380,8 @@ public class ProAi extends AbstractAi {
         final List<Unit> attackers = (List<Unit>) battle.getAttackingUnits();
         final List<Unit> defenders = (List<Unit>) battle.getDefendingUnits();
         defenders.removeAll(defaultCasualties.getKilled());
-        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(battlesite, attackers, defenders);
+        final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, battlesite, attackers,
+            defenders);
         int minStrengthDifference = 60;
         if (!Properties.getLowLuck(data)) {
           minStrengthDifference = 55;
@@ -365,8 +397,8 @@ public class ProAi extends AbstractAi {
         for (int i = 0; i < selectFromSorted.size() - 1; i++) {
           final Unit unit1 = selectFromSorted.get(i);
           final Unit unit2 = selectFromSorted.get(i + 1);
-          final double unitCost1 = ProPurchaseUtils.getCost(unit1);
-          final double unitCost2 = ProPurchaseUtils.getCost(unit2);
+          final double unitCost1 = ProPurchaseUtils.getCost(proData, unit1);
+          final double unitCost2 = ProPurchaseUtils.getCost(proData, unit2);
           if (unitCost1 > 1.5 * unitCost2) {
             selectFromSorted.set(i, unit2);
             selectFromSorted.set(i + 1, unit1);
@@ -5,6 +5,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 import org.triplea.java.collections.CollectionUtils;
 import org.triplea.java.collections.IntegerMap;
 
@@ -20,42 +22,47 @@ import games.strategy.triplea.ai.pro.util.ProUtils;
 import games.strategy.triplea.attachments.TerritoryAttachment;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.util.TuvUtils;
+import lombok.Getter;
 
 /**
- * Pro AI data.
+ * The working state of a Pro AI, which is computed from the game data at the start of each of its phases and shared by
+ * the classes planning the phase.
+ *
+ * <p>
+ * Each {@link ProAi} has its own instance, so that several Pro AIs can plan at the same time.
+ * </p>
  */
+@Getter
 public final class ProData {
   // Default values
-  public static boolean isSimulation = false;
-  public static double winPercentage = 95;
-  public static double minWinPercentage = 75;
-  public static Territory myCapital = null;
-  public static List<Territory> myUnitTerritories = new ArrayList<>();
-  public static Map<Unit, Territory> unitTerritoryMap = new HashMap<>();
-  public static IntegerMap<UnitType> unitValueMap = new IntegerMap<>();
-  public static ProPurchaseOptionMap purchaseOptions = null;
-  public static double minCostPerHitPoint = Double.MAX_VALUE;
-
-  private static ProAi proAi;
-  private static GameData data;
-  private static PlayerId player;
+  private boolean isSimulation = false;
+  private double winPercentage = 95;
+  private double minWinPercentage = 75;
+  private @Nullable Territory myCapital = null;
+  private List<Territory> myUnitTerritories = new ArrayList<>();
+  private Map<Unit, Territory> unitTerritoryMap = new HashMap<>();
+  private IntegerMap<UnitType> unitValueMap = new IntegerMap<>();
+  private ProPurchaseOptionMap purchaseOptions = null;
+  private double minCostPerHitPoint = Double.MAX_VALUE;
 
-  private ProData() {}
+  private ProAi proAi;
+  private GameData data;
+  private PlayerId player;
 
-  public static void initialize(final ProAi proAi) {
+  public void initialize(final ProAi proAi) {
     hiddenInitialize(proAi, proAi.getGameData(), proAi.getPlayerId(), false);
   }
 
-  public static void initializeSimulation(final ProAi proAi, final GameData data, final PlayerId player) {
+  public void initializeSimulation(final ProAi proAi, final GameData data, final PlayerId player) {
     hiddenInitialize(proAi, data, player, true);
   }
 
-  private static void hiddenInitialize(final ProAi proAi, final GameData data, final PlayerId player,
+  private void hiddenInitialize(final ProAi proAi, final GameData data, final PlayerId player,
       final boolean isSimulation) {
-    ProData.proAi = proAi;
-    ProData.data = data;
-    ProData.player = player;
-    ProData.isSimulation = isSimulation;
+    this.proAi = proAi;
+    this.data = data;
+    this.player = player;
+    this.isSimulation = isSimulation;
 
     if (!Properties.getLowLuck(data)) {
       winPercentage = 90;
@@ -64,25 +71,13 @@ public final class ProData {
     myCapital = TerritoryAttachment.getFirstOwnedCapitalOrFirstUnownedCapital(player, data);
     myUnitTerritories =
         CollectionUtils.getMatches(data.getMap().getTerritories(), Matches.territoryHasUnitsOwnedBy(player));
-    unitTerritoryMap = ProUtils.newUnitTerritoryMap();
+    unitTerritoryMap = ProUtils.newUnitTerritoryMap(data);
     unitValueMap = TuvUtils.getCostsForTuv(player, data);
     purchaseOptions = new ProPurchaseOptionMap(player, data);
-    minCostPerHitPoint = getMinCostPerHitPoint(purchaseOptions.getLandOptions());
-  }
-
-  public static ProAi getProAi() {
-    return proAi;
-  }
-
-  public static GameData getData() {
-    return data;
-  }
-
-  public static PlayerId getPlayer() {
-    return player;
+    minCostPerHitPoint = calculateMinCostPerHitPoint(purchaseOptions.getLandOptions());
   }
 
-  private static double getMinCostPerHitPoint(final List<ProPurchaseOption> landPurchaseOptions) {
+  private static double calculateMinCostPerHitPoint(final List<ProPurchaseOption> landPurchaseOptions) {
     double minCostPerHitPoint = Double.MAX_VALUE;
     for (final ProPurchaseOption ppo : landPurchaseOptions) {
       if (ppo.getCostPerHitPoint() < minCostPerHitPoint) {
@@ -25,6 +25,7 @@ import games.strategy.triplea.delegate.TransportTracker;
 public class ProTerritory {
 
   private final Territory territory;
+  private final ProData proData;
   private final List<Unit> maxUnits;
   private final List<Unit> units;
   private final List<Unit> bombers;
@@ -62,8 +63,9 @@ public class ProTerritory {
   // Scramble variables
   private final List<Unit> maxScrambleUnits;
 
-  public ProTerritory(final Territory territory) {
+  public ProTerritory(final Territory territory, final ProData proData) {
     this.territory = territory;
+    this.proData = proData;
     maxUnits = new ArrayList<>();
     units = new ArrayList<>();
     bombers = new ArrayList<>();
@@ -96,6 +98,7 @@ public class ProTerritory {
 
   ProTerritory(final ProTerritory patd) {
     this.territory = patd.getTerritory();
+    this.proData = patd.proData;
     maxUnits = new ArrayList<>(patd.getMaxUnits());
     units = new ArrayList<>(patd.getUnits());
     bombers = new ArrayList<>(patd.getBombers());
@@ -269,7 +272,7 @@ public class ProTerritory {
     this.battleResult = battleResult;
     if (battleResult == null) {
       currentlyWins = false;
-    } else if (battleResult.getWinPercentage() >= ProData.winPercentage && battleResult.isHasLandUnitRemaining()) {
+    } else if (battleResult.getWinPercentage() >= proData.getWinPercentage() && battleResult.isHasLandUnitRemaining()) {
       currentlyWins = true;
     }
   }
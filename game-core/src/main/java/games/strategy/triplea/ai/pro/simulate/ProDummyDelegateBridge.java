@@ -12,7 +12,7 @@ import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.IDelegateHistoryWriter;
 import games.strategy.engine.player.IRemotePlayer;
 import games.strategy.engine.random.IRandomStats.DiceType;
-import games.strategy.engine.random.PlainRandomSource;
+import games.strategy.engine.random.SplittableRandomSource;
 import games.strategy.sound.HeadlessSoundChannel;
 import games.strategy.sound.ISound;
 import games.strategy.triplea.ai.pro.ProAi;
@@ -24,7 +24,7 @@ import games.strategy.triplea.ui.display.ITripleADisplay;
  * during the simulation.
  */
 public class ProDummyDelegateBridge implements IDelegateBridge {
-  private final PlainRandomSource randomSource = new PlainRandomSource();
+  private final SplittableRandomSource randomSource = new SplittableRandomSource();
   private final ITripleADisplay display = new HeadlessDisplay();
   private final ISound soundChannel = new HeadlessSoundChannel();
   private final PlayerId player;
@@ -0,0 +1,240 @@
+package games.strategy.triplea.ai.pro.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.ImmutableSet;
+
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.ai.pro.data.ProBattleResult;
+import lombok.EqualsAndHashCode;
+
+/**
+ * A bounded cache of the battle results calculated for the Pro AI. The planners evaluate the same battle, i.e. the
+ * same kinds of units fighting in the same territory, many times while trying out different moves, so a battle is
+ * only simulated again once its result has been evicted as the least recently used one.
+ *
+ * <p>
+ * Two battles are the same if they have the same {@link BattleSignature}, even if they are fought by different unit
+ * instances. The units remaining in a cached result are therefore translated to the units of the battle being looked
+ * up. The cache must be invalidated whenever the game data changes, e.g. at the start of each phase.
+ * </p>
+ *
+ * <p>
+ * Each result is cached with the number of runs it was calculated with, so that a result calculated with fewer runs
+ * than asked for is calculated again.
+ * </p>
+ */
+final class ProBattleResultCache {
+  private static final int MAX_SIZE = 5000;
+
+  private final Cache<BattleSignature, CachedResult> cache;
+  private CacheStats statsAtLastInvalidation;
+
+  ProBattleResultCache() {
+    this(MAX_SIZE);
+  }
+
+  @VisibleForTesting
+  ProBattleResultCache(final int maxSize) {
+    // the cache is only used by the thread of its AI, and a single segment evicts exactly the least recently used entry
+    cache = CacheBuilder.newBuilder().concurrencyLevel(1).maximumSize(maxSize).recordStats().build();
+    statsAtLastInvalidation = cache.stats();
+  }
+
+  /**
+   * Returns the cached result of the specified battle if it was calculated with at least the specified number of runs,
+   * or calculates and caches it otherwise.
+   */
+  ProBattleResult get(final Territory t, final Collection<TerritoryEffect> territoryEffects,
+      final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Collection<Unit> bombardingUnits,
+      final boolean retreatWhenOnlyAirLeft, final int runCount, final Supplier<ProBattleResult> calculator) {
+    final @Nullable ProBattleResult cachedResult = getIfPresent(t, territoryEffects, attackingUnits, defendingUnits,
+        bombardingUnits, retreatWhenOnlyAirLeft, runCount);
+    if (cachedResult != null) {
+      return cachedResult;
+    }
+    final ProBattleResult result = calculator.get();
+    put(t, territoryEffects, attackingUnits, defendingUnits, bombardingUnits, retreatWhenOnlyAirLeft, runCount,
+        result);
+    return result;
+  }
+
+  /**
+   * Returns the cached result of the specified battle, or {@code null} if there is none that was calculated with at
+   * least the specified number of runs.
+   */
+  @Nullable
+  ProBattleResult getIfPresent(final Territory t, final Collection<TerritoryEffect> territoryEffects,
+      final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Collection<Unit> bombardingUnits,
+      final boolean retreatWhenOnlyAirLeft, final int minRunCount) {
+    final @Nullable CachedResult cachedResult = cache.getIfPresent(new BattleSignature(t, territoryEffects,
+        attackingUnits, defendingUnits, bombardingUnits, retreatWhenOnlyAirLeft));
+    return (cachedResult == null || cachedResult.runCount < minRunCount)
+        ? null
+        : cachedResult.translateTo(attackingUnits, defendingUnits);
+  }
+
+  /**
+   * Returns the number of runs the cached result of the specified battle was calculated with, or 0 if there is none.
+   */
+  int getRunCount(final Territory t, final Collection<TerritoryEffect> territoryEffects,
+      final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Collection<Unit> bombardingUnits,
+      final boolean retreatWhenOnlyAirLeft) {
+    final @Nullable CachedResult cachedResult = cache.getIfPresent(new BattleSignature(t, territoryEffects,
+        attackingUnits, defendingUnits, bombardingUnits, retreatWhenOnlyAirLeft));
+    return (cachedResult == null) ? 0 : cachedResult.runCount;
+  }
+
+  void put(final Territory t, final Collection<TerritoryEffect> territoryEffects, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits, final Collection<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft,
+      final int runCount, final ProBattleResult result) {
+    cache.put(new BattleSignature(t, territoryEffects, attackingUnits, defendingUnits, bombardingUnits,
+        retreatWhenOnlyAirLeft), new CachedResult(attackingUnits, defendingUnits, runCount, result));
+  }
+
+  void invalidate() {
+    cache.invalidateAll();
+    statsAtLastInvalidation = cache.stats();
+  }
+
+  /**
+   * Returns the number of hits, misses and evictions since the cache was last invalidated.
+   */
+  CacheStats getStats() {
+    return cache.stats().minus(statsAtLastInvalidation);
+  }
+
+  /**
+   * The properties of a unit that influence the outcome of a battle.
+   */
+  @EqualsAndHashCode
+  private static final class UnitSignature {
+    private final PlayerId owner;
+    private final UnitType type;
+    private final int hits;
+    private final int unitDamage;
+    private final boolean wasAmphibious;
+    private final boolean submerged;
+    private final boolean transported;
+
+    UnitSignature(final Unit unit) {
+      final TripleAUnit tripleAUnit = TripleAUnit.get(unit);
+      owner = unit.getOwner();
+      type = unit.getType();
+      hits = unit.getHits();
+      unitDamage = tripleAUnit.getUnitDamage();
+      wasAmphibious = tripleAUnit.getWasAmphibious();
+      submerged = tripleAUnit.getSubmerged();
+      transported = tripleAUnit.getTransportedBy() != null;
+    }
+  }
+
+  /**
+   * The canonical description of a battle: two battles with the same signature have the same expected outcome.
+   */
+  @EqualsAndHashCode
+  private static final class BattleSignature {
+    private final Territory territory;
+    private final ImmutableSet<TerritoryEffect> territoryEffects;
+    private final ImmutableMultiset<UnitSignature> attackingUnits;
+    private final ImmutableMultiset<UnitSignature> defendingUnits;
+    private final ImmutableMultiset<UnitSignature> bombardingUnits;
+    private final boolean retreatWhenOnlyAirLeft;
+
+    BattleSignature(final Territory territory, final Collection<TerritoryEffect> territoryEffects,
+        final List<Unit> attackingUnits, final List<Unit> defendingUnits, final Collection<Unit> bombardingUnits,
+        final boolean retreatWhenOnlyAirLeft) {
+      this.territory = territory;
+      this.territoryEffects = ImmutableSet.copyOf(territoryEffects);
+      this.attackingUnits = toMultiset(attackingUnits);
+      this.defendingUnits = toMultiset(defendingUnits);
+      this.bombardingUnits = toMultiset(bombardingUnits);
+      this.retreatWhenOnlyAirLeft = retreatWhenOnlyAirLeft;
+    }
+
+    private static ImmutableMultiset<UnitSignature> toMultiset(final Collection<Unit> units) {
+      return units.stream().map(UnitSignature::new).collect(ImmutableMultiset.toImmutableMultiset());
+    }
+  }
+
+  private static final class CachedResult {
+    private final ImmutableList<Unit> attackingUnits;
+    private final ImmutableList<UnitSignature> attackingSignatures;
+    private final ImmutableList<Unit> defendingUnits;
+    private final ImmutableList<UnitSignature> defendingSignatures;
+    private final int runCount;
+    private final ProBattleResult result;
+
+    CachedResult(final List<Unit> attackingUnits, final List<Unit> defendingUnits, final int runCount,
+        final ProBattleResult result) {
+      this.attackingUnits = ImmutableList.copyOf(attackingUnits);
+      attackingSignatures = toSignatures(attackingUnits);
+      this.defendingUnits = ImmutableList.copyOf(defendingUnits);
+      defendingSignatures = toSignatures(defendingUnits);
+      this.runCount = runCount;
+      this.result = new ProBattleResult(result.getWinPercentage(), result.getTuvSwing(),
+          result.isHasLandUnitRemaining(), ImmutableList.copyOf(result.getAverageAttackersRemaining()),
+          ImmutableList.copyOf(result.getAverageDefendersRemaining()), result.getBattleRounds());
+    }
+
+    private static ImmutableList<UnitSignature> toSignatures(final List<Unit> units) {
+      return units.stream().map(UnitSignature::new).collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Returns the cached result with its remaining units replaced by the corresponding units of a battle with the same
+     * signature.
+     */
+    ProBattleResult translateTo(final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
+      final Map<Unit, Unit> attackerMap = mapUnits(this.attackingUnits, attackingSignatures, attackingUnits);
+      final Map<Unit, Unit> defenderMap = mapUnits(this.defendingUnits, defendingSignatures, defendingUnits);
+      return new ProBattleResult(result.getWinPercentage(), result.getTuvSwing(), result.isHasLandUnitRemaining(),
+          translateUnits(result.getAverageAttackersRemaining(), attackerMap),
+          translateUnits(result.getAverageDefendersRemaining(), defenderMap), result.getBattleRounds());
+    }
+
+    private static Map<Unit, Unit> mapUnits(final List<Unit> fromUnits, final List<UnitSignature> fromSignatures,
+        final List<Unit> toUnits) {
+      final Map<UnitSignature, Deque<Unit>> toUnitsBySignature = new HashMap<>();
+      for (final Unit unit : toUnits) {
+        toUnitsBySignature.computeIfAbsent(new UnitSignature(unit), signature -> new ArrayDeque<>()).add(unit);
+      }
+      final Map<Unit, Unit> unitMap = new HashMap<>();
+      for (int i = 0; i < fromUnits.size(); i++) {
+        final @Nullable Deque<Unit> candidates = toUnitsBySignature.get(fromSignatures.get(i));
+        if (candidates != null && !candidates.isEmpty()) {
+          unitMap.put(fromUnits.get(i), candidates.poll());
+        }
+      }
+      return unitMap;
+    }
+
+    private static List<Unit> translateUnits(final List<Unit> units, final Map<Unit, Unit> unitMap) {
+      final List<Unit> translatedUnits = new ArrayList<>(units.size());
+      for (final Unit unit : units) {
+        translatedUnits.add(unitMap.getOrDefault(unit, unit));
+      }
+      return translatedUnits;
+    }
+  }
+}
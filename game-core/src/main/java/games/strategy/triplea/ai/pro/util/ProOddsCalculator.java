@@ -1,21 +1,31 @@
 package games.strategy.triplea.ai.pro.util;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.triplea.java.collections.CollectionUtils;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheStats;
+
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
 import games.strategy.triplea.Properties;
+import games.strategy.triplea.ai.fast.FastOddsEstimator;
 import games.strategy.triplea.ai.pro.ProData;
 import games.strategy.triplea.ai.pro.data.ProBattleResult;
+import games.strategy.triplea.ai.pro.data.ProTerritory;
+import games.strategy.triplea.ai.pro.logging.ProLogger;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.odds.calculator.AggregateResults;
+import games.strategy.triplea.odds.calculator.BattleSpecification;
 import games.strategy.triplea.odds.calculator.IOddsCalculator;
 import games.strategy.triplea.util.TuvUtils;
 
@@ -23,23 +33,113 @@ import games.strategy.triplea.util.TuvUtils;
  * Pro AI odds calculator.
  */
 public class ProOddsCalculator {
+  // the run count of the results of the fast estimator
+  private static final int ESTIMATE_RUN_COUNT = 1;
+  private static final int MIN_RUN_COUNT = 16;
+  // the share of the remaining time budget of a phase that a single battle may be simulated for
+  private static final double MAX_BUDGET_SHARE_PER_BATTLE = 0.1;
 
   private final IOddsCalculator calc;
+  private final IOddsCalculator estimator;
+  private final ProData proData;
+  private final ProBattleResultCache battleResultCache = new ProBattleResultCache();
   private boolean isCanceled = false;
 
-  public ProOddsCalculator(final IOddsCalculator calc) {
+  // Time budget and statistics of the current phase
+  private String phaseName = null;
+  private boolean isTimeBudgeted = false;
+  private long phaseStartTime;
+  private long phaseDeadline;
+  private int estimatedBattles;
+  private int simulatedBattles;
+  private long simulatedRuns;
+  // the time taken by the simulations of the phase and their runs times units, to project the time of a simulation
+  private long simulatedNanos;
+  private long simulatedUnitRuns;
+
+  public ProOddsCalculator(final IOddsCalculator calc, final ProData proData) {
+    this(calc, new FastOddsEstimator(proData), proData);
+  }
+
+  @VisibleForTesting
+  ProOddsCalculator(final IOddsCalculator calc, final IOddsCalculator estimator, final ProData proData) {
     this.calc = calc;
+    this.estimator = estimator;
+    this.proData = proData;
   }
 
+  /**
+   * Sets the game data of the odds calculator and discards the cached battle results, which may no longer be valid
+   * for the new game data.
+   */
   public void setData(final GameData data) {
+    logBattleResultCacheStats();
+    battleResultCache.invalidate();
     calc.setGameData(data);
   }
 
+  private void logBattleResultCacheStats() {
+    final CacheStats stats = battleResultCache.getStats();
+    if (stats.requestCount() > 0) {
+      ProLogger.debug(String.format("Battle result cache: %d hits, %d misses, hit rate %.1f%%", stats.hitCount(),
+          stats.missCount(), stats.hitRate() * 100));
+    }
+  }
+
+  /**
+   * Starts the specified phase of the AI's turn with the specified time budget, or without one if it is not positive.
+   *
+   * <p>
+   * Within a time budget, each battle is simulated with as many runs, up to the full number, as the time taken by the
+   * simulations of the phase so far projects to fit into a share of the remaining budget. A battle simulated with fewer
+   * runs is simulated again with more runs when it is calculated again and the budget allows. Only near the end of the
+   * budget, when not even a simulation with the minimum number of runs fits, or after it, are no more battles
+   * simulated: the best result calculated so far is returned for each battle, or an estimate if there is none, so that
+   * the phase quickly completes with the best plan it can make from these results. Without a time budget, each battle
+   * is simulated with the full number of runs.
+   * </p>
+   */
+  public void startPhase(final String phaseName, final long timeBudgetMillis) {
+    this.phaseName = phaseName;
+    isTimeBudgeted = timeBudgetMillis > 0;
+    phaseStartTime = System.currentTimeMillis();
+    phaseDeadline = phaseStartTime + timeBudgetMillis;
+    estimatedBattles = 0;
+    simulatedBattles = 0;
+    simulatedRuns = 0;
+    simulatedNanos = 0;
+    simulatedUnitRuns = 0;
+  }
+
+  /**
+   * Ends the phase started by {@link #startPhase(String, long)} and logs how long it took and how its battles were
+   * calculated.
+   */
+  public void endPhase() {
+    if (phaseName == null) {
+      return;
+    }
+    final long time = System.currentTimeMillis() - phaseStartTime;
+    final String budget = isTimeBudgeted ? " of a " + (phaseDeadline - phaseStartTime) + " ms budget" : "";
+    ProLogger.info(phaseName + " took " + time + " ms" + budget + ", estimated " + estimatedBattles
+        + " battles, simulated " + simulatedBattles + " battles with " + simulatedRuns + " runs");
+    phaseName = null;
+    isTimeBudgeted = false;
+  }
+
   public void cancelCalcs() {
     calc.cancel();
     isCanceled = true;
   }
 
+  /**
+   * Releases the threads and game data copies of the underlying odds calculator. No calculations may be made
+   * afterwards.
+   */
+  public void shutdown() {
+    calc.shutdown();
+  }
+
   /**
    * Simulates the specified battle. Prior to the simulation, an estimate is made of the attacker's chance to win the
    * battle. If the estimate indicates the attacker has almost no chance to win, the simulation is not performed, and
@@ -54,13 +154,89 @@ public class ProOddsCalculator {
     }
 
     // Determine if attackers have no chance
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackingUnits, defendingUnits);
-    if (strengthDifference < 45) {
+    if (attackersHaveNoChance(t, attackingUnits, defendingUnits)) {
       return new ProBattleResult(0, -999, false, new ArrayList<>(), defendingUnits, 1);
     }
     return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
   }
 
+  private boolean attackersHaveNoChance(final Territory t, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits) {
+    return ProBattleUtils.estimateStrengthDifference(proData, t, attackingUnits, defendingUnits) < 45;
+  }
+
+  /**
+   * Sets the battle result of each of the specified attack territories that does not have one yet, estimated the same
+   * way as by {@link #estimateAttackBattleResults(Territory, List, List, Set)}. The battles that need to be simulated
+   * are handed to the odds calculator as one batch, so that they are simulated at the same time.
+   */
+  public void setEstimatedAttackBattleResults(final Collection<ProTerritory> attackTerritories,
+      final PlayerId player) {
+    final GameData data = proData.getData();
+
+    final List<ProTerritory> territoriesToSimulate = new ArrayList<>();
+    final List<List<Unit>> defendingUnitsToSimulate = new ArrayList<>();
+    final List<BattleSpecification> battles = new ArrayList<>();
+    for (final ProTerritory patd : attackTerritories) {
+      if (patd.getBattleResult() != null) {
+        continue;
+      }
+      final Territory t = patd.getTerritory();
+      final List<Unit> attackingUnits = patd.getUnits();
+      final List<Unit> defendingUnits = patd.getMaxEnemyDefenders(player, data);
+      final Set<Unit> bombardingUnits = patd.getBombardTerritoryMap().keySet();
+      final ProBattleResult result = checkIfNoAttackersOrDefenders(t, attackingUnits, defendingUnits);
+      if (result != null) {
+        patd.setBattleResult(result);
+      } else if (attackersHaveNoChance(t, attackingUnits, defendingUnits)) {
+        patd.setBattleResult(new ProBattleResult(0, -999, false, new ArrayList<>(), defendingUnits, 1));
+      } else if (isCanceled || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
+        patd.setBattleResult(new ProBattleResult());
+      } else {
+        final Collection<TerritoryEffect> territoryEffects = TerritoryEffectHelper.getEffects(t);
+        final int runCount = getRunCount(attackingUnits, defendingUnits);
+        final ProBattleResult cachedResult = battleResultCache.getIfPresent(t, territoryEffects, attackingUnits,
+            defendingUnits, bombardingUnits, false, runCount);
+        if (cachedResult != null) {
+          patd.setBattleResult(cachedResult);
+        } else if (runCount == ESTIMATE_RUN_COUNT) {
+          final ProBattleResult estimate = estimateBattle(t, attackingUnits, defendingUnits);
+          battleResultCache.put(t, territoryEffects, attackingUnits, defendingUnits, bombardingUnits, false,
+              runCount, estimate);
+          patd.setBattleResult(estimate);
+        } else {
+          territoriesToSimulate.add(patd);
+          defendingUnitsToSimulate.add(defendingUnits);
+          battles.add(newBattleSpecification(t, attackingUnits, defendingUnits, bombardingUnits, runCount));
+        }
+      }
+    }
+    if (battles.isEmpty()) {
+      return;
+    }
+
+    final long start = System.nanoTime();
+    final List<AggregateResults> results = calc.calculate(battles);
+    final long nanosPerBattle = (System.nanoTime() - start) / battles.size();
+    for (int i = 0; i < territoriesToSimulate.size(); i++) {
+      final ProTerritory patd = territoriesToSimulate.get(i);
+      final BattleSpecification battle = battles.get(i);
+      final Territory t = patd.getTerritory();
+      final List<Unit> attackingUnits = patd.getUnits();
+      final List<Unit> defendingUnits = defendingUnitsToSimulate.get(i);
+      final ProBattleResult result = toBattleResult(t, attackingUnits, defendingUnits, results.get(i));
+      // a battle that was not simulated because the batch was canceled has no rolls, and its result must not be reused
+      if (results.get(i).getRollCount() > 0) {
+        battleResultCache.put(t, battle.getTerritoryEffects(), attackingUnits, defendingUnits,
+            patd.getBombardTerritoryMap().keySet(), false, battle.getRunCount(), result);
+        simulatedBattles++;
+        simulatedRuns += battle.getRunCount();
+        addSimulationTime(nanosPerBattle, battle);
+      }
+      patd.setBattleResult(result);
+    }
+  }
+
   /**
    * Simulates the specified battle. Prior to the simulation, an estimate is made of the defender's chance to win the
    * battle. If the estimate indicates the defender has almost no chance to win, the simulation is not performed, and
@@ -75,7 +251,8 @@ public class ProOddsCalculator {
     }
 
     // Determine if defenders have no chance
-    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(t, attackingUnits, defendingUnits);
+    final double strengthDifference = ProBattleUtils.estimateStrengthDifference(proData, t, attackingUnits,
+        defendingUnits);
     if (strengthDifference > 55) {
       final boolean isLandAndCanOnlyBeAttackedByAir =
           !t.isWater() && !attackingUnits.isEmpty() && attackingUnits.stream().allMatch(Matches.unitIsAir());
@@ -95,9 +272,9 @@ public class ProOddsCalculator {
     return callBattleCalculator(t, attackingUnits, defendingUnits, bombardingUnits);
   }
 
-  private static ProBattleResult checkIfNoAttackersOrDefenders(final Territory t, final List<Unit> attackingUnits,
+  private ProBattleResult checkIfNoAttackersOrDefenders(final Territory t, final List<Unit> attackingUnits,
       final List<Unit> defendingUnits) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final boolean hasNoDefenders = defendingUnits.stream().noneMatch(Matches.unitIsNotInfrastructure());
     final boolean isLandAndCanOnlyBeAttackedByAir =
@@ -107,7 +284,7 @@ public class ProOddsCalculator {
     } else if (hasNoDefenders) {
       final List<Unit> mainCombatDefenders = CollectionUtils.getMatches(defendingUnits,
           Matches.unitCanBeInBattle(false, !t.isWater(), 1, true));
-      final double tuv = TuvUtils.getTuv(mainCombatDefenders, ProData.unitValueMap);
+      final double tuv = TuvUtils.getTuv(mainCombatDefenders, proData.getUnitValueMap());
       return new ProBattleResult(100, 0.1 + tuv, true, attackingUnits, new ArrayList<>(), 0);
     } else if (Properties.getSubRetreatBeforeBattle(data) && !defendingUnits.isEmpty()
         && defendingUnits.stream().allMatch(Matches.unitIsSub())
@@ -124,29 +301,103 @@ public class ProOddsCalculator {
   }
 
   /**
-   * Simulates the specified battle.
+   * Calculates the specified battle, unless the result of a battle with the same signature is cached.
    */
   public ProBattleResult callBattleCalculator(final Territory t, final List<Unit> attackingUnits,
       final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft) {
-    final GameData data = ProData.getData();
-
     if (isCanceled || attackingUnits.isEmpty() || defendingUnits.isEmpty()) {
       return new ProBattleResult();
     }
+    final Collection<TerritoryEffect> territoryEffects = TerritoryEffectHelper.getEffects(t);
+    final int runCount = getRunCount(attackingUnits, defendingUnits);
+    return battleResultCache.get(t, territoryEffects, attackingUnits, defendingUnits, bombardingUnits,
+        retreatWhenOnlyAirLeft, runCount, () -> (runCount == ESTIMATE_RUN_COUNT)
+            ? estimateBattle(t, attackingUnits, defendingUnits)
+            : simulateBattle(t, attackingUnits, defendingUnits, bombardingUnits, retreatWhenOnlyAirLeft, runCount));
+  }
 
+  /**
+   * Returns the number of runs to calculate the specified battle with, see {@link #startPhase(String, long)}.
+   */
+  private int getRunCount(final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
     final int minArmySize = Math.min(attackingUnits.size(), defendingUnits.size());
-    final int runCount = Math.max(16, 100 - minArmySize);
-    final PlayerId attacker = attackingUnits.get(0).getOwner();
-    final PlayerId defender = defendingUnits.get(0).getOwner();
+    final int fullRunCount = Math.max(MIN_RUN_COUNT, 100 - minArmySize);
+    if (!isTimeBudgeted) {
+      return fullRunCount;
+    }
+    final long remainingMillis = phaseDeadline - System.currentTimeMillis();
+    if (remainingMillis <= 0) {
+      return ESTIMATE_RUN_COUNT;
+    } else if (simulatedUnitRuns == 0) {
+      // nothing has been simulated in this phase to project the time of a simulation from
+      return MIN_RUN_COUNT;
+    }
+    final double nanosPerUnitRun = (double) simulatedNanos / simulatedUnitRuns;
+    final double affordableRuns = TimeUnit.MILLISECONDS.toNanos(remainingMillis) * MAX_BUDGET_SHARE_PER_BATTLE
+        / (nanosPerUnitRun * (attackingUnits.size() + defendingUnits.size()));
+    if (affordableRuns >= fullRunCount) {
+      return fullRunCount;
+    } else if (affordableRuns >= MIN_RUN_COUNT) {
+      return (int) affordableRuns;
+    }
+    return ESTIMATE_RUN_COUNT;
+  }
+
+  private void addSimulationTime(final long nanos, final BattleSpecification battle) {
+    simulatedNanos += nanos;
+    simulatedUnitRuns += (long) battle.getRunCount() * (battle.getAttacking().size() + battle.getDefending().size());
+  }
+
+
+  private ProBattleResult estimateBattle(final Territory t, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits) {
+    estimatedBattles++;
+    final AggregateResults results = estimator.setCalculateDataAndCalculate(attackingUnits.get(0).getOwner(),
+        defendingUnits.get(0).getOwner(), t, attackingUnits, defendingUnits, new ArrayList<>(),
+        TerritoryEffectHelper.getEffects(t), ESTIMATE_RUN_COUNT);
+    return toBattleResult(t, attackingUnits, defendingUnits, results);
+  }
+
+  private ProBattleResult simulateBattle(final Territory t, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft,
+      final int runCount) {
+    simulatedBattles++;
+    simulatedRuns += runCount;
+    final BattleSpecification battle =
+        newBattleSpecification(t, attackingUnits, defendingUnits, bombardingUnits, runCount);
+    final long start = System.nanoTime();
     if (retreatWhenOnlyAirLeft) {
       calc.setRetreatWhenOnlyAirLeft(true);
     }
-    final AggregateResults results = calc.setCalculateDataAndCalculate(attacker, defender,
-        t, attackingUnits, defendingUnits, new ArrayList<>(bombardingUnits),
-        TerritoryEffectHelper.getEffects(t), runCount);
+    final AggregateResults results = calc.setCalculateDataAndCalculate(battle.getAttacker(), battle.getDefender(),
+        battle.getLocation(), battle.getAttacking(), battle.getDefending(), battle.getBombarding(),
+        battle.getTerritoryEffects(), battle.getRunCount());
     if (retreatWhenOnlyAirLeft) {
       calc.setRetreatWhenOnlyAirLeft(false);
     }
+    addSimulationTime(System.nanoTime() - start, battle);
+    return toBattleResult(t, attackingUnits, defendingUnits, results);
+  }
+
+  private static BattleSpecification newBattleSpecification(final Territory t, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits, final Set<Unit> bombardingUnits, final int runCount) {
+    return BattleSpecification.builder()
+        .attacker(attackingUnits.get(0).getOwner())
+        .defender(defendingUnits.get(0).getOwner())
+        .location(t)
+        .attacking(attackingUnits)
+        .defending(defendingUnits)
+        .bombarding(new ArrayList<>(bombardingUnits))
+        .territoryEffects(TerritoryEffectHelper.getEffects(t))
+        .runCount(runCount)
+        .build();
+  }
+
+  private ProBattleResult toBattleResult(final Territory t, final List<Unit> attackingUnits,
+      final List<Unit> defendingUnits, final AggregateResults results) {
+    final GameData data = proData.getData();
+    final PlayerId attacker = attackingUnits.get(0).getOwner();
+    final PlayerId defender = defendingUnits.get(0).getOwner();
 
     // Find battle result statistics
     final double winPercentage = results.getAttackerWinPercent() * 100;
@@ -158,15 +409,15 @@ public class ProOddsCalculator {
         Matches.unitCanBeInBattle(false, !t.isWater(), 1, true));
     double tuvSwing = results.getAverageTuvSwing(attacker, mainCombatAttackers, defender, mainCombatDefenders, data);
     if (Matches.territoryIsNeutralButNotWater().test(t)) { // Set TUV swing for neutrals
-      final double attackingUnitValue = TuvUtils.getTuv(mainCombatAttackers, ProData.unitValueMap);
+      final double attackingUnitValue = TuvUtils.getTuv(mainCombatAttackers, proData.getUnitValueMap());
       final double remainingUnitValue =
-          results.getAverageTuvOfUnitsLeftOver(ProData.unitValueMap, ProData.unitValueMap).getFirst();
+          results.getAverageTuvOfUnitsLeftOver(proData.getUnitValueMap(), proData.getUnitValueMap()).getFirst();
       tuvSwing = remainingUnitValue - attackingUnitValue;
     }
     final List<Unit> defendingTransportedUnits =
         CollectionUtils.getMatches(defendingUnits, Matches.unitIsBeingTransported());
     if (t.isWater() && !defendingTransportedUnits.isEmpty()) { // Add TUV swing for transported units
-      final double transportedUnitValue = TuvUtils.getTuv(defendingTransportedUnits, ProData.unitValueMap);
+      final double transportedUnitValue = TuvUtils.getTuv(defendingTransportedUnits, proData.getUnitValueMap());
       tuvSwing += transportedUnitValue * winPercentage / 100;
     }
 
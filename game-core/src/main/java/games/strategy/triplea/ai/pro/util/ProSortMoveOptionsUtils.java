@@ -29,7 +29,8 @@ public final class ProSortMoveOptionsUtils {
    * Returns a copy of {@code unitAttackOptions} sorted by number of move options, then by cost of unit, then by unit
    * type name.
    */
-  public static Map<Unit, Set<Territory>> sortUnitMoveOptions(final Map<Unit, Set<Territory>> unitAttackOptions) {
+  public static Map<Unit, Set<Territory>> sortUnitMoveOptions(final ProData proData,
+      final Map<Unit, Set<Territory>> unitAttackOptions) {
 
     final List<Map.Entry<Unit, Set<Territory>>> list = new ArrayList<>(unitAttackOptions.entrySet());
     list.sort((o1, o2) -> {
@@ -37,10 +38,10 @@ public final class ProSortMoveOptionsUtils {
       // Sort by number of move options then cost of unit then unit type
       if (o1.getValue().size() != o2.getValue().size()) {
         return (o1.getValue().size() - o2.getValue().size());
-      } else if (ProData.unitValueMap.getInt(o1.getKey().getType()) != ProData.unitValueMap
+      } else if (proData.getUnitValueMap().getInt(o1.getKey().getType()) != proData.getUnitValueMap()
           .getInt(o2.getKey().getType())) {
-        return (ProData.unitValueMap.getInt(o1.getKey().getType())
-            - ProData.unitValueMap.getInt(o2.getKey().getType()));
+        return (proData.getUnitValueMap().getInt(o1.getKey().getType())
+            - proData.getUnitValueMap().getInt(o2.getKey().getType()));
       }
       return o1.getKey().getType().getName().compareTo(o2.getKey().getType().getName());
     });
@@ -56,10 +57,10 @@ public final class ProSortMoveOptionsUtils {
    * type name. The number of move options are calculated based on pending battles which require additional units for
    * the attacker to be successful.
    */
-  public static Map<Unit, Set<Territory>> sortUnitNeededOptions(final PlayerId player,
+  public static Map<Unit, Set<Territory>> sortUnitNeededOptions(final ProData proData, final PlayerId player,
       final Map<Unit, Set<Territory>> unitAttackOptions, final Map<Territory, ProTerritory> attackMap,
       final ProOddsCalculator calc) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final List<Map.Entry<Unit, Set<Territory>>> list = new ArrayList<>(unitAttackOptions.entrySet());
     list.sort((o1, o2) -> {
@@ -92,9 +93,10 @@ public final class ProSortMoveOptionsUtils {
       if (numOptions1 != numOptions2) {
         return (numOptions1 - numOptions2);
       }
-      if (ProData.unitValueMap.getInt(o1.getKey().getType()) != ProData.unitValueMap.getInt(o2.getKey().getType())) {
-        return (ProData.unitValueMap.getInt(o1.getKey().getType())
-            - ProData.unitValueMap.getInt(o2.getKey().getType()));
+      if (proData.getUnitValueMap().getInt(o1.getKey().getType())
+          != proData.getUnitValueMap().getInt(o2.getKey().getType())) {
+        return (proData.getUnitValueMap().getInt(o1.getKey().getType())
+            - proData.getUnitValueMap().getInt(o2.getKey().getType()));
       }
       return o1.getKey().getType().getName().compareTo(o2.getKey().getType().getName());
     });
@@ -110,10 +112,10 @@ public final class ProSortMoveOptionsUtils {
    * air unit average movement distance, then by unit type name. The number of move options are calculated based on
    * pending battles which require additional units for the attacker to be successful.
    */
-  public static Map<Unit, Set<Territory>> sortUnitNeededOptionsThenAttack(final PlayerId player,
+  public static Map<Unit, Set<Territory>> sortUnitNeededOptionsThenAttack(final ProData proData, final PlayerId player,
       final Map<Unit, Set<Territory>> unitAttackOptions, final Map<Territory, ProTerritory> attackMap,
       final Map<Unit, Territory> unitTerritoryMap, final ProOddsCalculator calc) {
-    final GameData data = ProData.getData();
+    final GameData data = proData.getData();
 
     final List<Map.Entry<Unit, Set<Territory>>> list = new ArrayList<>(unitAttackOptions.entrySet());
     list.sort((o1, o2) -> {
@@ -154,14 +156,14 @@ public final class ProSortMoveOptionsUtils {
         if (!attackMap.get(t).isCurrentlyWins()) {
           final List<Unit> defendingUnits = t.getUnitCollection().getMatches(Matches.enemyUnit(player, data));
           final List<Unit> sortedUnitsList = new ArrayList<>(attackMap.get(t).getUnits());
-          sortedUnitsList.sort(new UnitBattleComparator(false, ProData.unitValueMap,
+          sortedUnitsList.sort(new UnitBattleComparator(false, proData.getUnitValueMap(),
               TerritoryEffectHelper.getEffects(t), data, false, false));
           Collections.reverse(sortedUnitsList);
           final int powerWithout =
               DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(sortedUnitsList, defendingUnits,
                   false, data, t, TerritoryEffectHelper.getEffects(t), false, null), data);
           sortedUnitsList.add(o1.getKey());
-          sortedUnitsList.sort(new UnitBattleComparator(false, ProData.unitValueMap,
+          sortedUnitsList.sort(new UnitBattleComparator(false, proData.getUnitValueMap(),
               TerritoryEffectHelper.getEffects(t), data, false, false));
           Collections.reverse(sortedUnitsList);
           final int powerWith = DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(sortedUnitsList,
@@ -176,20 +178,20 @@ public final class ProSortMoveOptionsUtils {
       if (ua1.getIsAir()) {
         minPower1 *= 10;
       }
-      final double attackEfficiency1 = (double) minPower1 / ProData.unitValueMap.getInt(o1.getKey().getType());
+      final double attackEfficiency1 = (double) minPower1 / proData.getUnitValueMap().getInt(o1.getKey().getType());
       int minPower2 = Integer.MAX_VALUE;
       for (final Territory t : o2.getValue()) {
         if (!attackMap.get(t).isCurrentlyWins()) {
           final List<Unit> defendingUnits = t.getUnitCollection().getMatches(Matches.enemyUnit(player, data));
           final List<Unit> sortedUnitsList = new ArrayList<>(attackMap.get(t).getUnits());
-          sortedUnitsList.sort(new UnitBattleComparator(false, ProData.unitValueMap,
+          sortedUnitsList.sort(new UnitBattleComparator(false, proData.getUnitValueMap(),
               TerritoryEffectHelper.getEffects(t), data, false, false));
           Collections.reverse(sortedUnitsList);
           final int powerWithout =
               DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(sortedUnitsList, defendingUnits,
                   false, data, t, TerritoryEffectHelper.getEffects(t), false, null), data);
           sortedUnitsList.add(o2.getKey());
-          sortedUnitsList.sort(new UnitBattleComparator(false, ProData.unitValueMap,
+          sortedUnitsList.sort(new UnitBattleComparator(false, proData.getUnitValueMap(),
               TerritoryEffectHelper.getEffects(t), data, false, false));
           Collections.reverse(sortedUnitsList);
           final int powerWith = DiceRoll.getTotalPower(DiceRoll.getUnitPowerAndRollsForNormalBattles(sortedUnitsList,
@@ -204,7 +206,7 @@ public final class ProSortMoveOptionsUtils {
       if (ua2.getIsAir()) {
         minPower2 *= 10;
       }
-      final double attackEfficiency2 = (double) minPower2 / ProData.unitValueMap.getInt(o2.getKey().getType());
+      final double attackEfficiency2 = (double) minPower2 / proData.getUnitValueMap().getInt(o2.getKey().getType());
       if (attackEfficiency1 != attackEfficiency2) {
         return (attackEfficiency1 < attackEfficiency2) ? 1 : -1;
       }
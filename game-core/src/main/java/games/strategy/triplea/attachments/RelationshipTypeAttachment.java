@@ -5,6 +5,7 @@ import java.util.Map;
 import com.google.common.collect.ImmutableMap;
 
 import games.strategy.engine.data.Attachable;
+import games.strategy.engine.data.AttachmentSlot;
 import games.strategy.engine.data.DefaultAttachment;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
@@ -25,6 +26,8 @@ public class RelationshipTypeAttachment extends DefaultAttachment {
   public static final String PROPERTY_TRUE = Constants.RELATIONSHIP_PROPERTY_TRUE;
   public static final String PROPERTY_FALSE = Constants.RELATIONSHIP_PROPERTY_FALSE;
   private static final long serialVersionUID = -4367286684249791984L;
+  private static final AttachmentSlot<RelationshipTypeAttachment> SLOT =
+      AttachmentSlot.of(Constants.RELATIONSHIPTYPE_ATTACHMENT_NAME, RelationshipTypeAttachment.class);
 
   private String archeType = ARCHETYPE_WAR;
   private String canMoveLandUnitsOverOwnedLand = PROPERTY_DEFAULT;
@@ -49,7 +52,7 @@ public class RelationshipTypeAttachment extends DefaultAttachment {
    * @return RelationshipTypeAttachment belonging to the RelationshipType pr
    */
   public static RelationshipTypeAttachment get(final RelationshipType pr) {
-    return get(pr, Constants.RELATIONSHIPTYPE_ATTACHMENT_NAME);
+    return getAttachment(pr, SLOT);
   }
 
   static RelationshipTypeAttachment get(final RelationshipType pr, final String nameOfAttachment) {
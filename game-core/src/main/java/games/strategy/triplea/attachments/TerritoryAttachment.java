@@ -16,6 +16,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 
 import games.strategy.engine.data.Attachable;
+import games.strategy.engine.data.AttachmentSlot;
 import games.strategy.engine.data.DefaultAttachment;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
@@ -38,6 +39,8 @@ import lombok.ToString;
  */
 public class TerritoryAttachment extends DefaultAttachment {
   private static final long serialVersionUID = 9102862080104655281L;
+  private static final AttachmentSlot<TerritoryAttachment> SLOT =
+      AttachmentSlot.of(Constants.TERRITORY_ATTACHMENT_NAME, TerritoryAttachment.class);
 
   private String capital = null;
   private boolean originalFactory = false;
@@ -168,7 +171,7 @@ public class TerritoryAttachment extends DefaultAttachment {
    * Convenience method. Can return null.
    */
   public static TerritoryAttachment get(final Territory t) {
-    return (TerritoryAttachment) t.getAttachment(Constants.TERRITORY_ATTACHMENT_NAME);
+    return t.getAttachmentInSlot(SLOT);
   }
 
   static TerritoryAttachment get(final Territory t, final String nameOfAttachment) {
@@ -11,6 +11,7 @@ import org.triplea.java.collections.IntegerMap;
 import com.google.common.collect.ImmutableMap;
 
 import games.strategy.engine.data.Attachable;
+import games.strategy.engine.data.AttachmentSlot;
 import games.strategy.engine.data.DefaultAttachment;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
@@ -24,6 +25,8 @@ import games.strategy.triplea.Constants;
  */
 public class TerritoryEffectAttachment extends DefaultAttachment {
   private static final long serialVersionUID = 6379810228136325991L;
+  private static final AttachmentSlot<TerritoryEffectAttachment> SLOT =
+      AttachmentSlot.of(Constants.TERRITORYEFFECT_ATTACHMENT_NAME, TerritoryEffectAttachment.class);
 
   private IntegerMap<UnitType> combatDefenseEffect = new IntegerMap<>();
   private IntegerMap<UnitType> combatOffenseEffect = new IntegerMap<>();
@@ -35,7 +38,7 @@ public class TerritoryEffectAttachment extends DefaultAttachment {
   }
 
   public static TerritoryEffectAttachment get(final TerritoryEffect te) {
-    return get(te, Constants.TERRITORYEFFECT_ATTACHMENT_NAME);
+    return getAttachment(te, SLOT);
   }
 
   static TerritoryEffectAttachment get(final TerritoryEffect te, final String nameOfAttachment) {
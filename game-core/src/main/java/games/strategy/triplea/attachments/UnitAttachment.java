@@ -23,6 +23,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 
 import games.strategy.engine.data.Attachable;
+import games.strategy.engine.data.AttachmentSlot;
 import games.strategy.engine.data.DefaultAttachment;
 import games.strategy.engine.data.DefaultNamed;
 import games.strategy.engine.data.GameData;
@@ -46,6 +47,8 @@ public class UnitAttachment extends DefaultAttachment {
   public static final String UNITSMAYNOTLANDONCARRIER = "unitsMayNotLandOnCarrier";
   public static final String UNITSMAYNOTLEAVEALLIEDCARRIER = "unitsMayNotLeaveAlliedCarrier";
   private static final long serialVersionUID = -2946748686268541820L;
+  private static final AttachmentSlot<UnitAttachment> SLOT =
+      AttachmentSlot.of(Constants.UNIT_ATTACHMENT_NAME, UnitAttachment.class);
 
   // movement related
   private boolean isAir = false;
@@ -208,7 +211,7 @@ public class UnitAttachment extends DefaultAttachment {
   }
 
   public static UnitAttachment get(final UnitType type) {
-    return get(type, Constants.UNIT_ATTACHMENT_NAME);
+    return getAttachment(type, SLOT);
   }
 
   static UnitAttachment get(final UnitType type, final String nameOfAttachment) {
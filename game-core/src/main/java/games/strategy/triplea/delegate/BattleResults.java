@@ -46,6 +46,17 @@ public class BattleResults extends GameDataComponent {
     whoWon = scriptedWhoWon;
   }
 
+  /**
+   * Use this for battles that were simulated without an {@link IBattle} instance (e.g. by the battle calculator).
+   */
+  public BattleResults(final int battleRoundsFought, final List<Unit> remainingAttackingUnits,
+      final List<Unit> remainingDefendingUnits, final WhoWon whoWon, final GameData data) {
+    super(data);
+    this.battleRoundsFought = battleRoundsFought;
+    this.remainingAttackingUnits = remainingAttackingUnits;
+    this.remainingDefendingUnits = remainingDefendingUnits;
+    this.whoWon = whoWon;
+  }
 
   public List<Unit> getRemainingAttackingUnits() {
     return remainingAttackingUnits;
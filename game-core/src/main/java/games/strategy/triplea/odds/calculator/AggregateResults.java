@@ -2,9 +2,9 @@ package games.strategy.triplea.odds.calculator;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import org.triplea.java.collections.IntegerMap;
 import org.triplea.util.Tuple;
@@ -20,56 +20,119 @@ import lombok.Setter;
 
 /**
  * A container for the results of multiple battle simulation runs.
+ *
+ * <p>
+ * The individual results are not retained. Instead, each result is folded into running counts and sums as it is added,
+ * and the results are grouped by the unit types remaining on each side. Only one representative result is kept for
+ * each distinct group, so memory is bounded by the number of distinct outcomes of the battle rather than by the number
+ * of runs. Partial results from several workers can be combined with {@link #addResults(AggregateResults)}.
+ * </p>
  */
 public class AggregateResults {
-  private final List<BattleResults> results;
+  private final Map<Tuple<IntegerMap<UnitType>, IntegerMap<UnitType>>, Outcome> outcomes = new LinkedHashMap<>();
+  private int rollCount;
+  private int attackerWins;
+  private int defenderWins;
+  private int draws;
+  private long battleRoundsFought;
+  private long attackingUnitsLeft;
+  private long defendingUnitsLeft;
+  private long attackingUnitsLeftWhenAttackerWon;
+  private long defendingUnitsLeftWhenDefenderWon;
   @Getter
   @Setter
   private long time;
 
-  public AggregateResults(final int expectedCount) {
-    results = new ArrayList<>(expectedCount);
-  }
-
-  public void addResult(final BattleResults result) {
-    results.add(result);
-  }
+  /**
+   * A group of results that have the same unit types remaining on each side.
+   */
+  private static final class Outcome {
+    private final BattleResults representative;
+    private int count;
 
-  public void addResults(final Collection<BattleResults> results) {
-    this.results.addAll(results);
+    Outcome(final BattleResults representative) {
+      this.representative = representative;
+    }
   }
 
-  public List<BattleResults> getResults() {
-    return results;
+  public void addResult(final BattleResults result) {
+    final int attackingUnitsLeftCount = result.getRemainingAttackingUnits().size();
+    final int defendingUnitsLeftCount = result.getRemainingDefendingUnits().size();
+    rollCount++;
+    battleRoundsFought += result.getBattleRoundsFought();
+    attackingUnitsLeft += attackingUnitsLeftCount;
+    defendingUnitsLeft += defendingUnitsLeftCount;
+    if (result.attackerWon()) {
+      attackerWins++;
+      attackingUnitsLeftWhenAttackerWon += attackingUnitsLeftCount;
+    } else if (result.defenderWon()) {
+      defenderWins++;
+      defendingUnitsLeftWhenDefenderWon += defendingUnitsLeftCount;
+    } else {
+      draws++;
+    }
+    final Tuple<IntegerMap<UnitType>, IntegerMap<UnitType>> key =
+        Tuple.of(countTypes(result.getRemainingAttackingUnits()), countTypes(result.getRemainingDefendingUnits()));
+    outcomes.computeIfAbsent(key, k -> new Outcome(result)).count++;
+  }
+
+  private static IntegerMap<UnitType> countTypes(final Collection<Unit> units) {
+    final IntegerMap<UnitType> types = new IntegerMap<>();
+    for (final Unit unit : units) {
+      types.add(unit.getType(), 1);
+    }
+    return types;
   }
 
-  private Optional<BattleResults> getBattleResultsClosestToAverage() {
-    return results.stream()
-        .min(Comparator.comparingDouble(
-            result -> Math.abs(result.getRemainingAttackingUnits().size() - getAverageAttackingUnitsLeft())
-                + Math.abs(result.getRemainingDefendingUnits().size() - getAverageDefendingUnitsLeft())));
+  /**
+   * Merges the specified results into these results.
+   */
+  public void addResults(final AggregateResults other) {
+    rollCount += other.rollCount;
+    attackerWins += other.attackerWins;
+    defenderWins += other.defenderWins;
+    draws += other.draws;
+    battleRoundsFought += other.battleRoundsFought;
+    attackingUnitsLeft += other.attackingUnitsLeft;
+    defendingUnitsLeft += other.defendingUnitsLeft;
+    attackingUnitsLeftWhenAttackerWon += other.attackingUnitsLeftWhenAttackerWon;
+    defendingUnitsLeftWhenDefenderWon += other.defendingUnitsLeftWhenDefenderWon;
+    other.outcomes.forEach((key, outcome) -> outcomes.computeIfAbsent(
+        key, k -> new Outcome(outcome.representative)).count += outcome.count);
+  }
+
+  private BattleResults getBattleResultsClosestToAverage() {
+    final double averageAttackingUnitsLeft = getAverageAttackingUnitsLeft();
+    final double averageDefendingUnitsLeft = getAverageDefendingUnitsLeft();
+    BattleResults closest = null;
+    double closestDistance = Double.MAX_VALUE;
+    for (final Outcome outcome : outcomes.values()) {
+      final BattleResults result = outcome.representative;
+      final double distance = Math.abs(result.getRemainingAttackingUnits().size() - averageAttackingUnitsLeft)
+          + Math.abs(result.getRemainingDefendingUnits().size() - averageDefendingUnitsLeft);
+      if (distance < closestDistance) {
+        closest = result;
+        closestDistance = distance;
+      }
+    }
+    return closest;
   }
 
   public List<Unit> getAverageAttackingUnitsRemaining() {
-    return getBattleResultsClosestToAverage()
-        .map(BattleResults::getRemainingAttackingUnits)
-        .orElseGet(ArrayList::new);
+    final BattleResults closest = getBattleResultsClosestToAverage();
+    return (closest == null) ? new ArrayList<>() : closest.getRemainingAttackingUnits();
   }
 
   public List<Unit> getAverageDefendingUnitsRemaining() {
-    return getBattleResultsClosestToAverage()
-        .map(BattleResults::getRemainingDefendingUnits)
-        .orElseGet(ArrayList::new);
+    final BattleResults closest = getBattleResultsClosestToAverage();
+    return (closest == null) ? new ArrayList<>() : closest.getRemainingDefendingUnits();
   }
 
   double getAverageAttackingUnitsLeft() {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
-    return results.stream()
-        .map(BattleResults::getRemainingAttackingUnits)
-        .mapToDouble(Collection::size)
-        .sum() / results.size();
+    return attackingUnitsLeft / (double) rollCount;
   }
 
   /**
@@ -77,16 +140,20 @@ public class AggregateResults {
    */
   public Tuple<Double, Double> getAverageTuvOfUnitsLeftOver(final IntegerMap<UnitType> attackerCostsForTuv,
       final IntegerMap<UnitType> defenderCostsForTuv) {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return Tuple.of(0.0, 0.0);
     }
     double attackerTuv = 0;
     double defenderTuv = 0;
-    for (final BattleResults result : results) {
-      attackerTuv += TuvUtils.getTuv(result.getRemainingAttackingUnits(), attackerCostsForTuv);
-      defenderTuv += TuvUtils.getTuv(result.getRemainingDefendingUnits(), defenderCostsForTuv);
+    for (final Outcome outcome : outcomes.values()) {
+      attackerTuv +=
+          outcome.count * (double) TuvUtils.getTuv(outcome.representative.getRemainingAttackingUnits(),
+              attackerCostsForTuv);
+      defenderTuv +=
+          outcome.count * (double) TuvUtils.getTuv(outcome.representative.getRemainingDefendingUnits(),
+              defenderCostsForTuv);
     }
-    return Tuple.of(attackerTuv / results.size(), defenderTuv / results.size());
+    return Tuple.of(attackerTuv / rollCount, defenderTuv / rollCount);
   }
 
   /**
@@ -99,7 +166,7 @@ public class AggregateResults {
    */
   public double getAverageTuvSwing(final PlayerId attacker, final Collection<Unit> attackers, final PlayerId defender,
       final Collection<Unit> defenders, final GameData data) {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
     final IntegerMap<UnitType> attackerCostsForTuv = TuvUtils.getCostsForTuv(attacker, data);
@@ -114,96 +181,62 @@ public class AggregateResults {
   }
 
   double getAverageAttackingUnitsLeftWhenAttackerWon() {
-    if (results.isEmpty()) {
+    if (attackerWins == 0) {
       return 0.0;
     }
-    double count = 0;
-    double total = 0;
-    for (final BattleResults result : results) {
-      if (result.attackerWon()) {
-        count += result.getRemainingAttackingUnits().size();
-        total += 1;
-      }
-    }
-    if (total <= 0) {
-      return 0;
-    }
-    return count / total;
+    return attackingUnitsLeftWhenAttackerWon / (double) attackerWins;
   }
 
   double getAverageDefendingUnitsLeft() {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
-    return results.stream()
-        .map(BattleResults::getRemainingDefendingUnits)
-        .mapToDouble(Collection::size)
-        .sum() / results.size();
+    return defendingUnitsLeft / (double) rollCount;
   }
 
   double getAverageDefendingUnitsLeftWhenDefenderWon() {
-    if (results.isEmpty()) {
+    if (defenderWins == 0) {
       return 0.0;
     }
-    double count = 0;
-    double total = 0;
-    for (final BattleResults result : results) {
-      if (result.defenderWon()) {
-        count += result.getRemainingDefendingUnits().size();
-        total += 1;
-      }
-    }
-    if (total <= 0) {
-      return 0;
-    }
-    return count / total;
+    return defendingUnitsLeftWhenDefenderWon / (double) defenderWins;
   }
 
   public double getAttackerWinPercent() {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
-    return results.stream()
-        .filter(BattleResults::attackerWon)
-        .count() / (double) results.size();
+    return attackerWins / (double) rollCount;
   }
 
   double getDefenderWinPercent() {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
-    return results.stream()
-        .filter(BattleResults::defenderWon)
-        .count() / (double) results.size();
+    return defenderWins / (double) rollCount;
   }
 
   /**
    * Returns the average number of rounds fought across all simulations of the battle.
    */
   public double getAverageBattleRoundsFought() {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
-    final long count = results.stream()
-        .mapToInt(BattleResults::getBattleRoundsFought)
-        .sum();
-    if (count == 0) {
+    if (battleRoundsFought == 0) {
       // If this is a 'fake' aggregate result, return 1.0
       return 1.0;
     }
-    return count / (double) results.size();
+    return battleRoundsFought / (double) rollCount;
   }
 
   double getDrawPercent() {
-    if (results.isEmpty()) {
+    if (rollCount == 0) {
       return 0.0;
     }
-    return results.stream()
-        .filter(BattleResults::draw)
-        .count() / (double) results.size();
+    return draws / (double) rollCount;
   }
 
   public int getRollCount() {
-    return results.size();
+    return rollCount;
   }
 }
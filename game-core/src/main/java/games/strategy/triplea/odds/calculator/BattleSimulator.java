@@ -0,0 +1,276 @@
+package games.strategy.triplea.odds.calculator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import org.triplea.util.Tuple;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.random.SplittableRandomSource;
+import games.strategy.triplea.Properties;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.delegate.BaseEditDelegate;
+import games.strategy.triplea.delegate.BattleResults;
+import games.strategy.triplea.delegate.DiceRoll;
+import games.strategy.triplea.delegate.IBattle.WhoWon;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.triplea.delegate.UnitBattleComparator;
+import games.strategy.triplea.util.TuvUtils;
+
+/**
+ * A battle simulation kernel for the common case of a plain battle between units with a fixed strength.
+ *
+ * <p>
+ * The attacking and defending units, their strength and rolls (including territory effects) and their order of losses
+ * are compiled into flat arrays once. Each trial then only rolls dice and moves the casualty cursor of each side; the
+ * game data is never modified. Because casualties are always taken from the front of the order of losses, the units
+ * remaining after a trial are a suffix of that order and are returned as a view rather than a copy.
+ * </p>
+ *
+ * <p>
+ * Battles involving anything that would change the strength of a unit while the battle is being fought (support),
+ * or any special combat rules (AA, subs, transports, multiple hit points, retreats, amphibious assaults, bombarding,
+ * low luck, ...), cannot be compiled and must be fought through {@code MustFightBattle} instead.
+ * </p>
+ */
+final class BattleSimulator {
+  private final GameData data;
+  private final List<Unit> attackingUnits;
+  private final List<Unit> defendingUnits;
+  private final int[] attackingStrength;
+  private final int[] attackingRolls;
+  private final boolean[] attackingChooseBestRoll;
+  private final int[] defendingStrength;
+  private final int[] defendingRolls;
+  private final boolean[] defendingChooseBestRoll;
+  private final int diceSides;
+  private final int maxRounds;
+
+  private BattleSimulator(final GameData data, final List<Unit> attackingUnits, final List<Unit> defendingUnits,
+      final Map<Unit, Tuple<Integer, Integer>> attackingPowerAndRolls,
+      final Map<Unit, Tuple<Integer, Integer>> defendingPowerAndRolls, final int maxRounds) {
+    this.data = data;
+    this.attackingUnits = attackingUnits;
+    this.defendingUnits = defendingUnits;
+    final boolean lhtrBombers = Properties.getLhtrHeavyBombers(data);
+    attackingStrength = new int[attackingUnits.size()];
+    attackingRolls = new int[attackingUnits.size()];
+    attackingChooseBestRoll = new boolean[attackingUnits.size()];
+    fill(attackingUnits, attackingPowerAndRolls, lhtrBombers, attackingStrength, attackingRolls,
+        attackingChooseBestRoll);
+    defendingStrength = new int[defendingUnits.size()];
+    defendingRolls = new int[defendingUnits.size()];
+    defendingChooseBestRoll = new boolean[defendingUnits.size()];
+    fill(defendingUnits, defendingPowerAndRolls, lhtrBombers, defendingStrength, defendingRolls,
+        defendingChooseBestRoll);
+    diceSides = data.getDiceSides();
+    this.maxRounds = maxRounds;
+  }
+
+  private static void fill(final List<Unit> units, final Map<Unit, Tuple<Integer, Integer>> powerAndRolls,
+      final boolean lhtrBombers, final int[] strength, final int[] rolls, final boolean[] chooseBestRoll) {
+    for (int i = 0; i < units.size(); i++) {
+      final Unit unit = units.get(i);
+      strength[i] = powerAndRolls.get(unit).getFirst();
+      rolls[i] = powerAndRolls.get(unit).getSecond();
+      chooseBestRoll[i] = rolls[i] > 1 && (lhtrBombers || UnitAttachment.get(unit.getType()).getChooseBestRoll());
+    }
+  }
+
+  /**
+   * Compiles the specified battle. The game data must contain the specified territory and units.
+   *
+   * @param attackerOrderOfLosses The units the attacker wants to lose first or {@code null} to use the default order.
+   * @param defenderOrderOfLosses The units the defender wants to lose first or {@code null} to use the default order.
+   *
+   * @return The compiled battle or empty if the battle uses rules that are not supported by this simulator.
+   */
+  static Optional<BattleSimulator> compile(final GameData data, final PlayerId attacker, final PlayerId defender,
+      final Territory location, final Collection<Unit> attacking, final Collection<Unit> defending,
+      final Collection<TerritoryEffect> territoryEffects, final List<Unit> attackerOrderOfLosses,
+      final List<Unit> defenderOrderOfLosses) {
+    if (attacking.isEmpty() || defending.isEmpty()
+        || Properties.getLowLuck(data)
+        || BaseEditDelegate.getEditMode(data)
+        || !attacking.stream().allMatch(Matches.unitIsOwnedBy(attacker))
+        || !defending.stream().allMatch(Matches.enemyUnit(attacker, data))
+        || !attacking.stream().allMatch(unit -> isSimpleUnit(unit, location))
+        || !defending.stream().allMatch(unit -> isSimpleUnit(unit, location))) {
+      return Optional.empty();
+    }
+    final List<Unit> attackingOrder =
+        getOrderOfLosses(attacking, attackerOrderOfLosses, false, attacker, territoryEffects, data);
+    final List<Unit> defendingOrder =
+        getOrderOfLosses(defending, defenderOrderOfLosses, true, defender, territoryEffects, data);
+    final Map<Unit, Tuple<Integer, Integer>> attackingPowerAndRolls =
+        getFixedPowerAndRolls(attackingOrder, defendingOrder, false, location, territoryEffects, data);
+    final Map<Unit, Tuple<Integer, Integer>> defendingPowerAndRolls =
+        getFixedPowerAndRolls(defendingOrder, attackingOrder, true, location, territoryEffects, data);
+    if (attackingPowerAndRolls == null || defendingPowerAndRolls == null) {
+      return Optional.empty();
+    }
+    final int maxRounds =
+        location.isWater() ? Properties.getSeaBattleRounds(data) : Properties.getLandBattleRounds(data);
+    return Optional.of(new BattleSimulator(data, Collections.unmodifiableList(attackingOrder),
+        Collections.unmodifiableList(defendingOrder), attackingPowerAndRolls, defendingPowerAndRolls, maxRounds));
+  }
+
+  private static boolean isSimpleUnit(final Unit unit, final Territory location) {
+    final UnitAttachment ua = UnitAttachment.get(unit.getType());
+    return ua.getHitPoints() == 1
+        && unit.getHits() == 0
+        && !ua.getIsSub()
+        && !ua.getIsAaForCombatOnly()
+        && !ua.getIsInfrastructure()
+        && !ua.getIsSuicide()
+        && !ua.getIsSuicideOnHit()
+        && ua.getTransportCapacity() <= 0
+        && ua.getCarrierCapacity() <= 0
+        && (ua.getIsAir() || ua.getIsSea() == location.isWater());
+  }
+
+  /**
+   * Returns the units in the order they will be taken as casualties: the requested order of losses first, followed by
+   * the remaining units from weakest to strongest.
+   */
+  private static List<Unit> getOrderOfLosses(final Collection<Unit> units, final List<Unit> orderOfLosses,
+      final boolean defending, final PlayerId player, final Collection<TerritoryEffect> territoryEffects,
+      final GameData data) {
+    final List<Unit> sorted = new ArrayList<>(units);
+    sorted.sort(new UnitBattleComparator(defending, TuvUtils.getCostsForTuv(player, data), territoryEffects, data,
+        true, false));
+    if (orderOfLosses == null || orderOfLosses.isEmpty()) {
+      return sorted;
+    }
+    final Set<Unit> unitSet = new HashSet<>(units);
+    final List<Unit> order = new ArrayList<>(units.size());
+    for (final Unit unit : orderOfLosses) {
+      if (unitSet.remove(unit)) {
+        order.add(unit);
+      }
+    }
+    for (final Unit unit : sorted) {
+      if (unitSet.contains(unit)) {
+        order.add(unit);
+      }
+    }
+    return order;
+  }
+
+  /**
+   * Returns the power and rolls of each unit, or {@code null} if any unit cannot roll or if the power of any unit
+   * depends on which other units are present (i.e. support), since then it would change as casualties are taken.
+   */
+  private static Map<Unit, Tuple<Integer, Integer>> getFixedPowerAndRolls(final List<Unit> units,
+      final List<Unit> enemyUnits, final boolean defending, final Territory location,
+      final Collection<TerritoryEffect> territoryEffects, final GameData data) {
+    final Map<Unit, Tuple<Integer, Integer>> powerAndRolls = DiceRoll.getUnitPowerAndRollsForNormalBattles(units,
+        enemyUnits, defending, data, location, territoryEffects, false, Collections.emptyList());
+    final Map<Tuple<PlayerId, String>, Tuple<Integer, Integer>> unsupportedPowerAndRolls = new HashMap<>();
+    for (final Unit unit : units) {
+      final Tuple<Integer, Integer> actual = powerAndRolls.get(unit);
+      if (actual.getFirst() <= 0 || actual.getSecond() <= 0) {
+        return null;
+      }
+      final Tuple<Integer, Integer> unsupported = unsupportedPowerAndRolls.computeIfAbsent(
+          Tuple.of(unit.getOwner(), unit.getType().getName()),
+          key -> DiceRoll.getUnitPowerAndRollsForNormalBattles(Collections.singletonList(unit),
+              Collections.emptyList(), defending, data, location, territoryEffects, false, Collections.emptyList())
+              .get(unit));
+      if (!actual.equals(unsupported)) {
+        return null;
+      }
+    }
+    return powerAndRolls;
+  }
+
+  /**
+   * Simulates the compiled battle the specified number of times, rolling all dice with the specified random source.
+   */
+  AggregateResults simulate(final int count, final SplittableRandomSource randomSource,
+      final BooleanSupplier cancelled) {
+    final AggregateResults aggregateResults = new AggregateResults();
+    // all dice a side rolls in a round are rolled at once into this buffer
+    final int[] dice = new int[Math.max(IntStream.of(attackingRolls).sum(), IntStream.of(defendingRolls).sum())];
+    for (int i = 0; i < count && !cancelled.getAsBoolean(); i++) {
+      aggregateResults.addResult(fight(randomSource, dice));
+    }
+    return aggregateResults;
+  }
+
+  private BattleResults fight(final SplittableRandomSource randomSource, final int[] dice) {
+    final int attackingCount = attackingUnits.size();
+    final int defendingCount = defendingUnits.size();
+    // index of the first unit that is still alive, casualties are always taken from the front
+    int firstAttackingAlive = 0;
+    int firstDefendingAlive = 0;
+    int round = 1;
+    final WhoWon whoWon;
+    while (true) {
+      // both sides fire before casualties are removed
+      final int attackingHits = rollHits(attackingStrength, attackingRolls, attackingChooseBestRoll,
+          firstAttackingAlive, randomSource, dice);
+      final int defendingHits = rollHits(defendingStrength, defendingRolls, defendingChooseBestRoll,
+          firstDefendingAlive, randomSource, dice);
+      firstDefendingAlive = Math.min(defendingCount, firstDefendingAlive + attackingHits);
+      firstAttackingAlive = Math.min(attackingCount, firstAttackingAlive + defendingHits);
+      if (firstAttackingAlive == attackingCount) {
+        whoWon = WhoWon.DEFENDER;
+        break;
+      } else if (firstDefendingAlive == defendingCount) {
+        whoWon = WhoWon.ATTACKER;
+        break;
+      } else if (maxRounds > 0 && maxRounds <= round) {
+        whoWon = WhoWon.DRAW;
+        break;
+      }
+      round++;
+    }
+    return new BattleResults(round, attackingUnits.subList(firstAttackingAlive, attackingCount),
+        defendingUnits.subList(firstDefendingAlive, defendingCount), whoWon, data);
+  }
+
+  private int rollHits(final int[] strength, final int[] rolls, final boolean[] chooseBestRoll, final int firstAlive,
+      final SplittableRandomSource randomSource, final int[] dice) {
+    int rollCount = 0;
+    for (int i = firstAlive; i < rolls.length; i++) {
+      rollCount += rolls[i];
+    }
+    randomSource.fill(diceSides, dice, 0, rollCount);
+    int hits = 0;
+    int die = 0;
+    for (int i = firstAlive; i < strength.length; i++) {
+      if (chooseBestRoll[i]) {
+        int smallestDie = diceSides;
+        for (int j = 0; j < rolls[i]; j++) {
+          smallestDie = Math.min(smallestDie, dice[die++]);
+        }
+        // Zero based
+        if (strength[i] > smallestDie) {
+          hits++;
+        }
+      } else {
+        for (int j = 0; j < rolls[i]; j++) {
+          // Zero based
+          if (strength[i] > dice[die++]) {
+            hits++;
+          }
+        }
+      }
+    }
+    return hits;
+  }
+}
@@ -0,0 +1,37 @@
+package games.strategy.triplea.odds.calculator;
+
+import java.util.Collection;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * One of the battles calculated by {@link IOddsCalculator#calculate(java.util.List)}. Its properties are the
+ * parameters of
+ * {@link IOddsCalculator#setCalculateData(PlayerId, PlayerId, Territory, Collection, Collection, Collection,
+ * Collection, int)}.
+ */
+@Builder
+@Getter
+public final class BattleSpecification {
+  private final @Nullable PlayerId attacker;
+  private final @Nullable PlayerId defender;
+  @Nonnull
+  private final Territory location;
+  @Nonnull
+  private final Collection<Unit> attacking;
+  @Nonnull
+  private final Collection<Unit> defending;
+  @Nonnull
+  private final Collection<Unit> bombarding;
+  @Nonnull
+  private final Collection<TerritoryEffect> territoryEffects;
+  private final int runCount;
+}
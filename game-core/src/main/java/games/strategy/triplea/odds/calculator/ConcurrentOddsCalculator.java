@@ -1,11 +1,15 @@
 package games.strategy.triplea.odds.calculator;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
@@ -13,6 +17,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
@@ -27,12 +32,24 @@ import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
-import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.framework.GameDataDelta;
+import games.strategy.engine.framework.GameDataSnapshot;
+import games.strategy.engine.random.SplittableRandomSource;
 import lombok.extern.java.Log;
 
 /**
  * Concurrent wrapper class for the OddsCalculator. It spawns multiple worker threads and splits up the run count
  * across these workers. This is mainly to be used by AIs since they call the OddsCalculator a lot.
+ *
+ * <p>
+ * The dice are rolled with random sources split off a root source, which is created with a seed, random unless one is
+ * specified. Each worker rolls the dice of the runs it is given with its own source, split off the root source in the
+ * order of the workers when they are created. Each battle of a batch of several battles is calculated with its own
+ * source instead, split off the root source in the order of the batch before it is calculated, whichever worker
+ * calculates it. A calculator with the same {@link #getSeed() seed} therefore reproduces the results of the same
+ * sequence of calls, provided that it has the same number of workers (see {@link #getThreadCount()}), which depends on
+ * the time and memory it takes to copy the game data. The results of batches do not depend on the number of workers.
+ * </p>
  */
 @Log
 public class ConcurrentOddsCalculator implements IOddsCalculator {
@@ -41,6 +58,10 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   private int currentThreads = MAX_THREADS;
   private final ExecutorService executor;
   private final List<OddsCalculator> workers = new CopyOnWriteArrayList<>();
+  // the game data from which the workers were copied and the point in its history they reflect, so that the workers can
+  // be brought up to date by replaying the changes made since instead of copying the game data again
+  private volatile GameData workersSource = null;
+  private volatile GameDataDelta.Position workersPosition = null;
   // do not let calc be set up til data is set
   private volatile boolean isDataSet = false;
   // do not let calc start until it is set
@@ -49,6 +70,8 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   private volatile boolean isShutDown = false;
   // shortcut setting of previous game data if we are trying to set it to a new one, or shutdown
   private final AtomicInteger cancelCurrentOperation = new AtomicInteger(0);
+  // incremented on every cancellation, so that the workers stop taking on the remaining battles of a batch
+  private final AtomicInteger cancelCount = new AtomicInteger(0);
   // do not let calcing happen while we are setting game data
   private final CountUpAndDownLatch latchSetData = new CountUpAndDownLatch();
   // do not let setting of game data happen multiple times while we offload creating workers and copying data to a
@@ -60,12 +83,27 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   // do not let multiple calculations or setting calc data happen at same time
   private final Object mutexCalcIsRunning = new Object();
   private final Runnable dataLoadedAction;
+  private final long seed;
+  // the source the random sources of the workers and of batched battles are split off, guarded by itself
+  private final SplittableRandomSource randomSource;
 
   public ConcurrentOddsCalculator(final String threadNamePrefix) {
-    this(threadNamePrefix, Runnables.doNothing());
+    this(threadNamePrefix, ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * Creates a new calculator whose workers roll their dice with random sources split off a source created with the
+   * specified seed.
+   */
+  public ConcurrentOddsCalculator(final String threadNamePrefix, final long seed) {
+    this(threadNamePrefix, seed, Runnables.doNothing());
   }
 
   ConcurrentOddsCalculator(final String threadNamePrefix, final Runnable dataLoadedAction) {
+    this(threadNamePrefix, ThreadLocalRandom.current().nextLong(), dataLoadedAction);
+  }
+
+  ConcurrentOddsCalculator(final String threadNamePrefix, final long seed, final Runnable dataLoadedAction) {
     executor = Executors.newFixedThreadPool(
         MAX_THREADS,
         new ThreadFactoryBuilder()
@@ -73,6 +111,15 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
             .setNameFormat(threadNamePrefix + " ConcurrentOddsCalculator Worker-%d")
             .build());
     this.dataLoadedAction = dataLoadedAction;
+    this.seed = seed;
+    randomSource = new SplittableRandomSource(seed);
+  }
+
+  /**
+   * Returns the seed of the root random source the random sources of the workers are split off.
+   */
+  public long getSeed() {
+    return seed;
   }
 
   @Override
@@ -95,7 +142,7 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
       isDataSet = false;
       isCalcSet = false;
       if (data == null || isShutDown) {
-        workers.clear();
+        clearWorkers();
         cancelCurrentOperation.incrementAndGet();
         // allow calcing and other stuff to go ahead
         latchSetData.countDown();
@@ -137,66 +184,153 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     return Math.min(numberOfTimesWeCanCopyMax, MAX_THREADS);
   }
 
-  private void createWorkers(final GameData data) {
+  private void clearWorkers() {
     workers.clear();
+    workersSource = null;
+    workersPosition = null;
+  }
+
+  private void createWorkers(final GameData data) {
+    if (data == null || data != workersSource || cancelCurrentOperation.get() < 0 || !updateWorkers(data)) {
+      copyWorkers(data);
+    }
+    if (cancelCurrentOperation.get() < 0 || data == null) {
+      // we could have cancelled while setting data, so clear the workers again if so
+      clearWorkers();
+      isDataSet = false;
+    } else {
+      // should make sure that all workers have their game data set before we can call calculate and other things
+      isDataSet = true;
+      dataLoadedAction.run();
+    }
+    // allow setting new data to take place if it is waiting on us
+    latchWorkerThreadsCreation.countDown();
+    // allow calcing and other stuff to go ahead
+    latchSetData.countDown();
+  }
+
+  /**
+   * Brings the copies of the game data held by the workers up to date by replaying the changes made to the game data
+   * since the copies were made or last updated.
+   *
+   * @return {@code false} if the workers could not be updated and the game data must be copied again.
+   */
+  private boolean updateWorkers(final GameData data) {
+    final Optional<GameDataDelta> delta;
+    try {
+      data.acquireReadLock();
+      delta = GameDataDelta.capture(data, workersPosition);
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to capture game data changes", e);
+      return false;
+    } finally {
+      data.releaseReadLock();
+    }
+    if (!delta.isPresent()) {
+      return false;
+    }
+    try {
+      for (final OddsCalculator worker : workers) {
+        if (!worker.updateGameData(delta.get())) {
+          return false;
+        }
+      }
+    } catch (final IOException | RuntimeException e) {
+      log.log(Level.WARNING, "Failed to replay game data changes, copying game data again", e);
+      return false;
+    }
+    workersPosition = delta.get().getPosition();
+    return true;
+  }
+
+  private void copyWorkers(final GameData data) {
+    clearWorkers();
     if (data != null && cancelCurrentOperation.get() >= 0) {
       // see how long 1 copy takes (some games can get REALLY big)
       final long startTime = System.currentTimeMillis();
       final long startMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
-      final GameData newData;
+      final GameDataSnapshot snapshot;
+      final GameDataDelta.Position position;
       try {
-        // make first copy, then release lock on it so game can continue (ie: we don't want to lock on it while we copy
-        // it 16 times, when once is enough) don't let the data change while we make the first copy
+        // capture the data once, then release lock on it so game can continue (ie: we don't want to lock on it while we
+        // copy it 16 times, when once is enough) don't let the data change while we capture it
         data.acquireWriteLock();
-        newData = GameDataUtils.cloneGameDataWithoutHistory(data, false);
+        snapshot = captureSnapshot(data);
+        position = GameDataDelta.getPosition(data);
       } finally {
         data.releaseWriteLock();
       }
-      currentThreads = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
-      try {
-        // make sure all workers are using the same data
-        newData.acquireReadLock();
-        int i = 0;
+      final GameData firstCopy = (snapshot == null) ? null : newGameData(snapshot);
+      if (firstCopy != null) {
+        currentThreads = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
+        // the workers are kept in the order their random sources were split off, whichever thread copies them
+        final SplittableRandomSource[] workerRandomSources = splitRandomSources(currentThreads);
+        final OddsCalculator[] newWorkers = new OddsCalculator[currentThreads];
         // we are already in 1 executor thread, so we have MAX_THREADS-1 threads left to use
         if (currentThreads <= 2 || MAX_THREADS <= 2) {
           // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once above, so at most
           // only 1 more copy to make)
-          while (cancelCurrentOperation.get() >= 0 && i < currentThreads) {
-            // the last one will use our already copied data from above, without copying it again
-            workers.add(new OddsCalculator(newData, (currentThreads == ++i)));
+          for (int i = 1; cancelCurrentOperation.get() >= 0 && i < currentThreads; i++) {
+            newWorkers[i] = newWorker(newGameData(snapshot), workerRandomSources[i]);
           }
-        } else { // multi-thread our copying, cus why the heck not (it increases the speed of copying by about double)
+        } else { // multi-thread our copying, every worker materializes its own copy from the shared snapshot
           final CountDownLatch workerLatch = new CountDownLatch(currentThreads - 1);
-          while (i < (currentThreads - 1)) {
-            ++i;
+          for (int i = 1; i < currentThreads; i++) {
+            final int index = i;
             executor.execute(() -> {
               if (cancelCurrentOperation.get() >= 0) {
-                workers.add(new OddsCalculator(newData, false));
+                newWorkers[index] = newWorker(newGameData(snapshot), workerRandomSources[index]);
               }
               workerLatch.countDown();
             });
           }
-          // the last one will use our already copied data from above, without copying it again
-          workers.add(new OddsCalculator(newData, true));
           Interruptibles.await(workerLatch);
         }
-      } finally {
-        newData.releaseReadLock();
+        // the first one will use our already copied data from above, without copying it again
+        newWorkers[0] = newWorker(firstCopy, workerRandomSources[0]);
+        for (final OddsCalculator worker : newWorkers) {
+          if (worker != null) {
+            workers.add(worker);
+          }
+        }
+        workersSource = data;
+        workersPosition = position;
       }
     }
-    if (cancelCurrentOperation.get() < 0 || data == null) {
-      // we could have cancelled while setting data, so clear the workers again if so
-      workers.clear();
-      isDataSet = false;
-    } else {
-      // should make sure that all workers have their game data set before we can call calculate and other things
-      isDataSet = true;
-      dataLoadedAction.run();
+  }
+
+  private SplittableRandomSource[] splitRandomSources(final int count) {
+    final SplittableRandomSource[] randomSources = new SplittableRandomSource[count];
+    synchronized (randomSource) {
+      for (int i = 0; i < count; i++) {
+        randomSources[i] = randomSource.split();
+      }
+    }
+    return randomSources;
+  }
+
+  private static OddsCalculator newWorker(final GameData data, final SplittableRandomSource randomSource) {
+    final OddsCalculator worker = new OddsCalculator(data, true);
+    worker.setRandomSource(randomSource);
+    return worker;
+  }
+
+  private static GameDataSnapshot captureSnapshot(final GameData data) {
+    try {
+      return GameDataSnapshot.captureWithoutHistory(data, false);
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to capture game data snapshot", e);
+      return null;
+    }
+  }
+
+  private static GameData newGameData(final GameDataSnapshot snapshot) {
+    try {
+      return snapshot.newGameData();
+    } catch (final IOException e) {
+      log.log(Level.SEVERE, "Failed to copy game data from snapshot", e);
+      return null;
     }
-    // allow setting new data to take place if it is waiting on us
-    latchWorkerThreadsCreation.countDown();
-    // allow calcing and other stuff to go ahead
-    latchSetData.countDown();
   }
 
   @Override
@@ -254,31 +388,29 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
       awaitLatch();
       final long start = System.currentTimeMillis();
       // Create worker thread pool and start all workers
-      int totalRunCount = 0;
       final List<Future<AggregateResults>> list = new ArrayList<>();
       for (final OddsCalculator worker : workers) {
         if (!getIsReady()) {
           // we could have attempted to set a new game data, while the old one was still being set, causing it to abort
           // with null data
-          return new AggregateResults(0);
+          return new AggregateResults();
         }
         if (!worker.getIsReady()) {
           throw new IllegalStateException("Called calculate before setting calculate data!");
         }
         if (worker.getRunCount() > 0) {
-          totalRunCount += worker.getRunCount();
           final Future<AggregateResults> workerResult = executor.submit(worker);
           list.add(workerResult);
         }
       }
-      // Wait for all worker futures to complete and combine results
-      final AggregateResults results = new AggregateResults(totalRunCount);
+      // Wait for all worker futures to complete and merge their partial results
+      final AggregateResults results = new AggregateResults();
       final Set<InterruptedException> interruptExceptions = new HashSet<>();
       final Map<String, Set<ExecutionException>> executionExceptions = new HashMap<>();
       for (final Future<AggregateResults> future : list) {
         try {
           final AggregateResults result = future.get();
-          results.addResults(result.getResults());
+          results.addResults(result);
         } catch (final InterruptedException e) {
           Thread.currentThread().interrupt();
           interruptExceptions.add(e);
@@ -324,6 +456,63 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     }
   }
 
+  /**
+   * Concurrently calculates the odds of the specified battles. Unlike {@link #calculate()}, which splits the runs of
+   * one battle across all workers, each battle is calculated by a single worker, and every worker takes the next battle
+   * nobody has started on whenever it is done with one. This keeps all workers busy when there are many small battles,
+   * whose runs are too few to be split efficiently.
+   */
+  @Override
+  public List<AggregateResults> calculate(final List<BattleSpecification> battles) {
+    synchronized (mutexCalcIsRunning) {
+      if (battles.size() == 1) {
+        final BattleSpecification battle = battles.get(0);
+        return Collections.singletonList(setCalculateDataAndCalculate(battle.getAttacker(), battle.getDefender(),
+            battle.getLocation(), battle.getAttacking(), battle.getDefending(), battle.getBombarding(),
+            battle.getTerritoryEffects(), battle.getRunCount()));
+      }
+      awaitLatch();
+      // the calculate data of the workers is replaced by the battles
+      isCalcSet = false;
+      final AggregateResults[] results = new AggregateResults[battles.size()];
+      if (isDataSet && !isShutDown) {
+        final long start = System.currentTimeMillis();
+        final int cancelCountAtStart = cancelCount.get();
+        // each battle has its own random source, so that its results do not depend on which worker calculates it
+        final SplittableRandomSource[] battleRandomSources = splitRandomSources(battles.size());
+        final AtomicInteger nextBattle = new AtomicInteger(0);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (final OddsCalculator worker : workers) {
+          futures.add(executor.submit(() -> {
+            for (int i = nextBattle.getAndIncrement(); i < battles.size() && cancelCount.get() == cancelCountAtStart;
+                i = nextBattle.getAndIncrement()) {
+              results[i] = worker.calculate(battles.get(i), battleRandomSources[i]);
+            }
+          }));
+        }
+        for (final Future<?> future : futures) {
+          try {
+            future.get();
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.log(Level.SEVERE, "Battle results worker interrupted", e);
+          } catch (final ExecutionException e) {
+            log.log(Level.SEVERE, "Battle results worker aborted by exception", e.getCause());
+            throw new IllegalStateException(e.getCause());
+          }
+        }
+        log.fine(() -> battles.size() + " battles calculated in " + (System.currentTimeMillis() - start) + " ms");
+      }
+      // battles that were not calculated because the calculation was canceled have empty results
+      for (int i = 0; i < results.length; i++) {
+        if (results[i] == null) {
+          results[i] = new AggregateResults();
+        }
+      }
+      return Arrays.asList(results);
+    }
+  }
+
   @Override
   public boolean getIsReady() {
     return isDataSet && isCalcSet && !isShutDown;
@@ -412,6 +601,7 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   // not on purpose, we need to be able to cancel at any time
   @Override
   public void cancel() {
+    cancelCount.incrementAndGet();
     for (final OddsCalculator worker : workers) {
       worker.cancel();
     }
@@ -14,8 +14,9 @@ import games.strategy.engine.display.IDisplay;
 import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.IDelegateHistoryWriter;
 import games.strategy.engine.player.IRemotePlayer;
+import games.strategy.engine.random.IRandomSource;
 import games.strategy.engine.random.IRandomStats;
-import games.strategy.engine.random.PlainRandomSource;
+import games.strategy.engine.random.SplittableRandomSource;
 import games.strategy.sound.HeadlessSoundChannel;
 import games.strategy.sound.ISound;
 import games.strategy.triplea.delegate.MustFightBattle;
@@ -26,7 +27,7 @@ import games.strategy.triplea.ui.display.ITripleADisplay;
  * Delegate bridge implementation with minimum valid behavior.
  */
 public class DummyDelegateBridge implements IDelegateBridge {
-  private final PlainRandomSource randomSource = new PlainRandomSource();
+  private final IRandomSource randomSource;
   private final ITripleADisplay display = new HeadlessDisplay();
   private final ISound soundChannel = new HeadlessSoundChannel();
   private final DummyPlayer attackingPlayer;
@@ -41,6 +42,15 @@ public class DummyDelegateBridge implements IDelegateBridge {
       final List<Unit> attackerOrderOfLosses, final List<Unit> defenderOrderOfLosses,
       final boolean attackerKeepOneLandUnit, final int retreatAfterRound, final int retreatAfterXUnitsLeft,
       final boolean retreatWhenOnlyAirLeft) {
+    this(attacker, data, allChanges, attackerOrderOfLosses, defenderOrderOfLosses, attackerKeepOneLandUnit,
+        retreatAfterRound, retreatAfterXUnitsLeft, retreatWhenOnlyAirLeft, new SplittableRandomSource());
+  }
+
+  public DummyDelegateBridge(final PlayerId attacker, final GameData data, final CompositeChange allChanges,
+      final List<Unit> attackerOrderOfLosses, final List<Unit> defenderOrderOfLosses,
+      final boolean attackerKeepOneLandUnit, final int retreatAfterRound, final int retreatAfterXUnitsLeft,
+      final boolean retreatWhenOnlyAirLeft, final IRandomSource randomSource) {
+    this.randomSource = randomSource;
     attackingPlayer = new DummyPlayer(this, true, "battle calc dummy", attackerOrderOfLosses,
         attackerKeepOneLandUnit, retreatAfterRound, retreatAfterXUnitsLeft, retreatWhenOnlyAirLeft);
     defendingPlayer = new DummyPlayer(this, false, "battle calc dummy", defenderOrderOfLosses, false,
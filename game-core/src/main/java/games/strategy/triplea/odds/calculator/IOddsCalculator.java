@@ -1,6 +1,8 @@
 package games.strategy.triplea.odds.calculator;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
@@ -24,6 +26,23 @@ public interface IOddsCalculator {
       Territory location, Collection<Unit> attacking, Collection<Unit> defending,
       Collection<Unit> bombarding, Collection<TerritoryEffect> territoryEffects, int runCount);
 
+  /**
+   * Calculates the odds of each of the specified battles, with the settings made by the other setters applying to all
+   * of them, and returns the results in the order of the battles. Implementations that can calculate several battles
+   * at the same time should override this method, the default calculates them one after another.
+   *
+   * <p>
+   * The calculate data set before this method is called is lost.
+   * </p>
+   */
+  default List<AggregateResults> calculate(final List<BattleSpecification> battles) {
+    return battles.stream()
+        .map(battle -> setCalculateDataAndCalculate(battle.getAttacker(), battle.getDefender(), battle.getLocation(),
+            battle.getAttacking(), battle.getDefending(), battle.getBombarding(), battle.getTerritoryEffects(),
+            battle.getRunCount()))
+        .collect(Collectors.toList());
+  }
+
   int getRunCount();
 
   boolean getIsReady();
@@ -1,18 +1,29 @@
 package games.strategy.triplea.odds.calculator;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.Callable;
 
+import com.google.common.annotations.VisibleForTesting;
+
+import games.strategy.engine.data.Change;
 import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerId;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitsList;
 import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataDelta;
 import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.random.SplittableRandomSource;
+import games.strategy.net.GUID;
 import games.strategy.triplea.delegate.BattleResults;
 import games.strategy.triplea.delegate.BattleTracker;
 import games.strategy.triplea.delegate.GameDelegateBridge;
@@ -27,6 +38,10 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
   private Collection<Unit> defendingUnits = new ArrayList<>();
   private Collection<Unit> bombardingUnits = new ArrayList<>();
   private Collection<TerritoryEffect> territoryEffects = new ArrayList<>();
+  // the changes made to the game data to set up the current battle, undone before the game data is changed otherwise
+  private Change battleSetup = null;
+  // the units that were added to the game data only to set up the current battle, removed when it is undone
+  private final List<GUID> battleSetupUnitIds = new ArrayList<>();
   private boolean keepOneAttackingLandUnit = false;
   private boolean amphibious = false;
   private int retreatAfterRound = -1;
@@ -35,6 +50,8 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
   private String attackerOrderOfLosses = null;
   private String defenderOrderOfLosses = null;
   private int runCount = 0;
+  private boolean useBattleSimulator = true;
+  private SplittableRandomSource randomSource = new SplittableRandomSource();
   private volatile boolean cancelled = false;
   private volatile boolean isDataSet = false;
   private volatile boolean isCalcSet = false;
@@ -59,6 +76,8 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
     isDataSet = false;
     isCalcSet = false;
     gameData = (data == null ? null : GameDataUtils.cloneGameData(data, false));
+    battleSetup = null;
+    battleSetupUnitIds.clear();
     // reset old data
     attacker = null;
     defender = null;
@@ -89,18 +108,66 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
         gameData.getPlayerList().getPlayerId(attacker == null ? PlayerId.NULL_PLAYERID.getName() : attacker.getName());
     this.defender =
         gameData.getPlayerList().getPlayerId(defender == null ? PlayerId.NULL_PLAYERID.getName() : defender.getName());
+    undoBattleSetup();
     this.location = gameData.getMap().getTerritory(location.getName());
+    addUnknownUnitIds(attacking);
+    addUnknownUnitIds(defending);
+    addUnknownUnitIds(bombarding);
     attackingUnits = GameDataUtils.translateIntoOtherGameData(attacking, gameData);
     defendingUnits = GameDataUtils.translateIntoOtherGameData(defending, gameData);
     bombardingUnits = GameDataUtils.translateIntoOtherGameData(bombarding, gameData);
     this.territoryEffects = GameDataUtils.translateIntoOtherGameData(territoryEffects, gameData);
-    gameData.performChange(ChangeFactory.removeUnits(this.location, this.location.getUnits()));
-    gameData.performChange(ChangeFactory.addUnits(this.location, attackingUnits));
-    gameData.performChange(ChangeFactory.addUnits(this.location, defendingUnits));
+    battleSetup = new CompositeChange(
+        ChangeFactory.removeUnits(this.location, this.location.getUnits()),
+        ChangeFactory.addUnits(this.location, attackingUnits),
+        ChangeFactory.addUnits(this.location, defendingUnits));
+    gameData.performChange(battleSetup);
     this.runCount = runCount;
     isCalcSet = true;
   }
 
+  /**
+   * Remembers which of the specified units are not part of the game data yet, so that they can be removed from it once
+   * they are no longer needed. Otherwise the units of every battle would be kept by a game data copy that is updated
+   * instead of copied again.
+   */
+  private void addUnknownUnitIds(final Collection<Unit> units) {
+    final UnitsList unitsList = gameData.getUnits();
+    for (final Unit unit : units) {
+      if (unitsList.get(unit.getId()) == null) {
+        battleSetupUnitIds.add(unit.getId());
+      }
+    }
+  }
+
+  private void undoBattleSetup() {
+    if (battleSetup != null) {
+      gameData.performChange(battleSetup.invert());
+      battleSetup = null;
+    }
+    final UnitsList unitsList = gameData.getUnits();
+    battleSetupUnitIds.forEach(unitsList::remove);
+    battleSetupUnitIds.clear();
+  }
+
+  /**
+   * Brings the copy of the game data used by this calculator up to date by replaying the specified changes of the game
+   * data from which it was copied. The calculate data must be set again afterwards.
+   *
+   * @return {@code false} if the game data could not be updated because a calculation is still running.
+   *
+   * @throws IOException If an error occurs while replaying the changes.
+   */
+  boolean updateGameData(final GameDataDelta delta) throws IOException {
+    if (isRunning || !isDataSet) {
+      return false;
+    }
+    isCalcSet = false;
+    undoBattleSetup();
+    delta.applyTo(gameData);
+    return true;
+  }
+
   @Override
   public AggregateResults setCalculateDataAndCalculate(final PlayerId attacker, final PlayerId defender,
       final Territory location, final Collection<Unit> attacking, final Collection<Unit> defending,
@@ -120,7 +187,7 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
   private AggregateResults calculate(final int count) {
     isRunning = true;
     final long start = System.currentTimeMillis();
-    final AggregateResults aggregateResults = new AggregateResults(count);
+    final AggregateResults aggregateResults = new AggregateResults();
     final BattleTracker battleTracker = new BattleTracker();
     // CasualtySortingCaching can cause issues if there is more than 1 one battle being calced at the same time (like if
     // the AI and a human are both using the calc)
@@ -130,11 +197,23 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
         OrderOfLossesInputPanel.getUnitListByOrderOfLoss(this.attackerOrderOfLosses, attackingUnits, gameData);
     final List<Unit> defenderOrderOfLosses =
         OrderOfLossesInputPanel.getUnitListByOrderOfLoss(this.defenderOrderOfLosses, defendingUnits, gameData);
+    final Optional<BattleSimulator> battleSimulator = canUseBattleSimulator()
+        ? BattleSimulator.compile(gameData, attacker, defender, location, attackingUnits, defendingUnits,
+            territoryEffects, attackerOrderOfLosses, defenderOrderOfLosses)
+        : Optional.empty();
+    if (battleSimulator.isPresent()) {
+      final AggregateResults simulatedResults = battleSimulator.get().simulate(count, randomSource, () -> cancelled);
+      simulatedResults.setTime(System.currentTimeMillis() - start);
+      isRunning = false;
+      cancelled = false;
+      return simulatedResults;
+    }
     for (int i = 0; i < count && !cancelled; i++) {
       final CompositeChange allChanges = new CompositeChange();
       final DummyDelegateBridge bridge1 =
           new DummyDelegateBridge(attacker, gameData, allChanges, attackerOrderOfLosses, defenderOrderOfLosses,
-              keepOneAttackingLandUnit, retreatAfterRound, retreatAfterXUnitsLeft, retreatWhenOnlyAirLeft);
+              keepOneAttackingLandUnit, retreatAfterRound, retreatAfterXUnitsLeft, retreatWhenOnlyAirLeft,
+              randomSource);
       final GameDelegateBridge bridge = new GameDelegateBridge(bridge1);
       final MustFightBattle battle = new MustFightBattle(location, attacker, gameData, battleTracker);
       battle.setHeadless(true);
@@ -154,6 +233,49 @@ class OddsCalculator implements IOddsCalculator, Callable<AggregateResults> {
     return aggregateResults;
   }
 
+  /**
+   * Returns whether the battle may be fought by the {@link BattleSimulator}, which does not support any of the retreat
+   * or casualty selection options or any units that join the battle from outside the territory.
+   */
+  private boolean canUseBattleSimulator() {
+    return useBattleSimulator
+        && !keepOneAttackingLandUnit
+        && !amphibious
+        && retreatAfterRound < 0
+        && retreatAfterXUnitsLeft < 0
+        && !retreatWhenOnlyAirLeft
+        && bombardingUnits.isEmpty();
+  }
+
+  @VisibleForTesting
+  void setUseBattleSimulator(final boolean useBattleSimulator) {
+    this.useBattleSimulator = useBattleSimulator;
+  }
+
+  /**
+   * Sets the source of all dice rolled by this calculator. A seeded source makes the results of successive
+   * calculations reproducible, which is required when comparing benchmark runs.
+   */
+  void setRandomSource(final SplittableRandomSource randomSource) {
+    this.randomSource = checkNotNull(randomSource);
+  }
+
+  /**
+   * Calculates the specified battle with dice rolled by the specified random source instead of the source of this
+   * calculator, so that the results do not depend on which other battles this calculator has calculated before.
+   */
+  AggregateResults calculate(final BattleSpecification battle, final SplittableRandomSource battleRandomSource) {
+    final SplittableRandomSource calculatorRandomSource = randomSource;
+    randomSource = checkNotNull(battleRandomSource);
+    try {
+      return setCalculateDataAndCalculate(battle.getAttacker(), battle.getDefender(), battle.getLocation(),
+          battle.getAttacking(), battle.getDefending(), battle.getBombarding(), battle.getTerritoryEffects(),
+          battle.getRunCount());
+    } finally {
+      randomSource = calculatorRandomSource;
+    }
+  }
+
   @Override
   public AggregateResults call() {
     return calculate();
@@ -53,6 +53,7 @@ import lombok.extern.java.Log;
 @Log
 public abstract class ClientSetting<T> implements GameSetting<T> {
   public static final ClientSetting<Integer> aiPauseDuration = new IntegerClientSetting("AI_PAUSE_DURATION", 400);
+  public static final ClientSetting<Integer> aiPhaseTimeBudget = new IntegerClientSetting("AI_PHASE_TIME_BUDGET", 0);
   public static final ClientSetting<Integer> arrowKeyScrollSpeed =
       new IntegerClientSetting("ARROW_KEY_SCROLL_SPEED", 70);
   public static final ClientSetting<Integer> battleCalcSimulationCountDice =
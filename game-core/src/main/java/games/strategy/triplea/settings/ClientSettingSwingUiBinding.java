@@ -45,6 +45,18 @@ enum ClientSettingSwingUiBinding implements GameSettingUiBinding<JComponent> {
     }
   },
 
+  AI_PHASE_TIME_BUDGET_BINDING(
+      "AI Phase Time Budget",
+      SettingType.AI,
+      "Time (in seconds) the Hard AI may spend planning each phase of its turn, 0 for no limit. The AI plans with "
+          + "estimated battle outcomes first and refines them while time is left, so a short budget makes it play "
+          + "faster but weaker") {
+    @Override
+    public SelectionComponent<JComponent> newSelectionComponent() {
+      return intValueRange(ClientSetting.aiPhaseTimeBudget, 0, 3600);
+    }
+  },
+
   ARROW_KEY_SCROLL_SPEED_BINDING(
       "Arrow Key Scroll Speed",
       SettingType.MAP_SCROLLING,
@@ -23,6 +23,8 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
+import javax.annotation.Nullable;
+
 import org.mindrot.jbcrypt.BCrypt;
 import org.triplea.game.chat.ChatModel;
 import org.triplea.game.startup.SetupModel;
@@ -39,8 +41,10 @@ import games.strategy.engine.framework.GameRunner;
 import games.strategy.engine.framework.ServerGame;
 import games.strategy.engine.framework.startup.mc.GameSelectorModel;
 import games.strategy.engine.framework.startup.mc.ServerModel;
+import games.strategy.net.AggregateNetworkMetrics;
 import games.strategy.net.INode;
 import games.strategy.net.IServerMessenger;
+import games.strategy.net.NetworkMetrics;
 import games.strategy.sound.ClipPlayer;
 import games.strategy.triplea.Constants;
 import games.strategy.triplea.settings.ClientSetting;
@@ -55,16 +59,20 @@ public class HeadlessGameServer {
   public static final String BOT_GAME_HOST_NAME_PREFIX = "Bot";
   private static final int LOBBY_RECONNECTION_REFRESH_SECONDS_DEFAULT = (int) TimeUnit.DAYS.toSeconds(2);
   private static final String NO_REMOTE_REQUESTS_ALLOWED = "noRemoteRequestsAllowed";
+  private static final int NETWORK_METRICS_LOG_MINUTES = 10;
   private static HeadlessGameServer instance = null;
 
   private final AvailableGames availableGames = new AvailableGames();
   private final GameSelectorModel gameSelectorModel = new GameSelectorModel();
   private final ScheduledExecutorService lobbyWatcherResetupThread = Executors.newScheduledThreadPool(1);
+  private final ScheduledExecutorService networkMetricsLogThread = Executors.newSingleThreadScheduledExecutor();
   private final HeadlessServerSetupPanelModel setupPanelModel = new HeadlessServerSetupPanelModel(gameSelectorModel);
   private ServerGame game = null;
   private boolean shutDown = false;
   private final List<Runnable> shutdownListeners = Arrays.asList(
       lobbyWatcherResetupThread::shutdown,
+      networkMetricsLogThread::shutdown,
+      this::logNetworkMetrics,
       () -> Optional.ofNullable(game).ifPresent(ServerGame::stopGame),
       () -> setupPanelModel.getPanel().cancel());
 
@@ -97,6 +105,7 @@ public class HeadlessGameServer {
     }, "Initialize Headless Server Setup Model").start();
 
     startLobbyWatcher();
+    startNetworkMetricsLog();
 
     log.info("Game Server initialized");
   }
@@ -112,6 +121,45 @@ public class HeadlessGameServer {
     }, LOBBY_RECONNECTION_REFRESH_SECONDS_DEFAULT, LOBBY_RECONNECTION_REFRESH_SECONDS_DEFAULT, TimeUnit.SECONDS);
   }
 
+  @SuppressWarnings("FutureReturnValueIgnored") // false positive; see https://github.com/google/error-prone/issues/883
+  private void startNetworkMetricsLog() {
+    networkMetricsLogThread.scheduleAtFixedRate(
+        this::logNetworkMetrics, NETWORK_METRICS_LOG_MINUTES, NETWORK_METRICS_LOG_MINUTES, TimeUnit.MINUTES);
+  }
+
+  private void logNetworkMetrics() {
+    try {
+      getNetworkMetricsReport().ifPresent(log::info);
+    } catch (final RuntimeException e) {
+      log.log(Level.WARNING, "Failed to report network metrics", e);
+    }
+  }
+
+  /**
+   * Returns a report of the network traffic of this headless game server: the traffic by node and by message type, the
+   * encode and decode times, and the messages queued to be decoded and written. The report is also logged periodically
+   * so that operators can find out which connections dominate the bandwidth of the server.
+   *
+   * @return The report or empty if the server is not accepting connections.
+   */
+  public Optional<String> getNetworkMetricsReport() {
+    final @Nullable ServerModel model = getServerModel();
+    final @Nullable IServerMessenger messenger = model == null ? null : model.getMessenger();
+    if (messenger == null) {
+      return Optional.empty();
+    }
+    final StringBuilder report = new StringBuilder("Network metrics:\n");
+    final NetworkMetrics networkMetrics = messenger.getNetworkMetrics();
+    if (networkMetrics instanceof AggregateNetworkMetrics) {
+      report.append(((AggregateNetworkMetrics) networkMetrics).getReport());
+    }
+    report.append("Decode queue depth: ").append(messenger.getDecodeQueueDepth()).append('\n');
+    report.append("Queued bytes by node:\n");
+    messenger.getQueuedBytes().forEach((node, queuedBytes) ->
+        report.append("  ").append(node.getName()).append(": ").append(queuedBytes).append('\n'));
+    return Optional.of(report.toString());
+  }
+
   public static synchronized HeadlessGameServer getInstance() {
     return instance;
   }
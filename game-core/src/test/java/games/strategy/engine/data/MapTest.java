@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashSet;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -216,4 +217,46 @@ public class MapTest {
     assertTrue(neighbors.contains(bb));
     assertTrue(neighbors.contains(ca));
   }
+
+  @Test
+  public void testRouteHasSameLengthAsConditionedRoute() {
+    for (final Territory start : map.getTerritories()) {
+      for (final Territory end : map.getTerritories()) {
+        final Route route = map.getRoute(start, end);
+        assertEquals(map.getRoute(start, end, Matches.territoryIsLandOrWater()).numberOfSteps(),
+            route.numberOfSteps());
+        assertTrue(map.isValidRoute(route));
+        assertEquals(route.numberOfSteps(), map.getDistance(start, end));
+      }
+    }
+  }
+
+  @Test
+  public void testDistanceAfterConnectionAdded() {
+    assertEquals(-1, map.getLandDistance(ca, cd));
+    map.addConnection(cb, cd);
+    assertEquals(2, map.getLandDistance(ca, cd));
+  }
+
+  @Test
+  public void testNeighborIndexes() {
+    final int index = map.getTerritoryIndex(aa);
+    assertEquals(aa, map.getTerritories().get(index));
+    final Set<Territory> neighbors = new HashSet<>();
+    for (int i = 0; i < map.getNeighborCount(index); i++) {
+      neighbors.add(map.getTerritories().get(map.getNeighborIndex(index, i)));
+    }
+    assertEquals(map.getNeighbors(aa), neighbors);
+    assertEquals(-1, map.getTerritoryIndex(nowhere));
+  }
+
+  @Test
+  public void testLandNeighborsWithDistance() {
+    final Set<Territory> neighbors = map.getNeighbors(ac, 2, Matches.territoryIsLand());
+    assertEquals(4, neighbors.size());
+    assertTrue(neighbors.contains(aa));
+    assertTrue(neighbors.contains(ab));
+    assertTrue(neighbors.contains(ad));
+    assertTrue(neighbors.contains(bb));
+  }
 }
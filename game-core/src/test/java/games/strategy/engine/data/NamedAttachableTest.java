@@ -0,0 +1,65 @@
+package games.strategy.engine.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+final class NamedAttachableTest {
+  private static final AttachmentSlot<FakeAttachment> SLOT =
+      AttachmentSlot.of("namedAttachableTestAttachment", FakeAttachment.class);
+
+  private final NamedAttachable namedAttachable = new NamedAttachable("name", new GameData());
+
+  @Nested
+  final class GetAttachmentInSlotTest {
+    @Test
+    void shouldReturnAttachmentStoredUnderSlotName() {
+      final FakeAttachment attachment = new FakeAttachment("attachment");
+      assertThat(namedAttachable.getAttachmentInSlot(SLOT), is(nullValue()));
+
+      namedAttachable.addAttachment(SLOT.getName(), attachment);
+
+      assertThat(namedAttachable.getAttachmentInSlot(SLOT), is(sameInstance(attachment)));
+    }
+
+    @Test
+    void shouldReturnNullWhenAttachmentIsRemoved() {
+      namedAttachable.addAttachment(SLOT.getName(), new FakeAttachment("attachment"));
+      namedAttachable.getAttachmentInSlot(SLOT);
+
+      namedAttachable.removeAttachment(SLOT.getName());
+
+      assertThat(namedAttachable.getAttachmentInSlot(SLOT), is(nullValue()));
+    }
+
+    @Test
+    void shouldReturnAttachmentForSlotCreatedAfterFirstLookup() {
+      final FakeAttachment attachment = new FakeAttachment("attachment");
+      namedAttachable.addAttachment("namedAttachableTestLateAttachment", attachment);
+      namedAttachable.getAttachmentInSlot(SLOT);
+
+      final AttachmentSlot<FakeAttachment> lateSlot =
+          AttachmentSlot.of("namedAttachableTestLateAttachment", FakeAttachment.class);
+
+      assertThat(namedAttachable.getAttachmentInSlot(lateSlot), is(sameInstance(attachment)));
+    }
+  }
+
+  @Nested
+  final class AttachmentSlotOfTest {
+    @Test
+    void shouldReturnSameSlotForSameName() {
+      assertThat(AttachmentSlot.of(SLOT.getName(), FakeAttachment.class), is(sameInstance(SLOT)));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenNameIsUsedForOtherType() {
+      assertThrows(IllegalArgumentException.class, () -> AttachmentSlot.of(SLOT.getName(), TestAttachment.class));
+    }
+  }
+}
@@ -3,10 +3,14 @@ package games.strategy.engine.data;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import games.strategy.engine.data.RelationshipTracker.RelatedPlayers;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.TestMapGameData;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 
@@ -44,4 +48,44 @@ final class RelationshipTrackerTest {
       }
     }
   }
+
+  @Nested
+  final class GetRelationshipTypeTest {
+    private GameData gameData;
+    private RelationshipTracker relationshipTracker;
+    private PlayerId bush;
+    private PlayerId castro;
+
+    @BeforeEach
+    void setUp() throws Exception {
+      gameData = TestMapGameData.TEST.getGameData();
+      relationshipTracker = gameData.getRelationshipTracker();
+      bush = gameData.getPlayerList().getPlayerId("bush");
+      castro = gameData.getPlayerList().getPlayerId("castro");
+    }
+
+    @Test
+    void shouldReturnSameRelationshipTypeForPlayersOfAnotherGame() throws Exception {
+      final GameData otherGameData = TestMapGameData.TEST.getGameData();
+      final PlayerId otherBush = otherGameData.getPlayerList().getPlayerId("bush");
+
+      assertThat(
+          relationshipTracker.getRelationshipType(otherBush, castro),
+          is(relationshipTracker.getRelationshipType(bush, castro)));
+    }
+
+    @Test
+    void shouldReflectRelationshipChange() {
+      final RelationshipType allied =
+          gameData.getRelationshipTypeList().getRelationshipType(Constants.RELATIONSHIP_TYPE_DEFAULT_ALLIED);
+      assertThat(relationshipTracker.isAllied(bush, castro), is(false));
+
+      gameData.performChange(ChangeFactory.relationshipChange(
+          bush, castro, relationshipTracker.getRelationshipType(bush, castro), allied));
+
+      assertThat(relationshipTracker.getRelationshipType(castro, bush), is(allied));
+      assertThat(relationshipTracker.isAllied(castro, bush), is(true));
+      assertThat(relationshipTracker.isAtWar(castro, bush), is(false));
+    }
+  }
 }
@@ -3,6 +3,7 @@ package games.strategy.engine.data;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -162,6 +163,19 @@ public class UnitCollectionTest {
     verify(defaultPlayerId).notifyChanged();
   }
 
+  @Test
+  public void removeIf() {
+    unitCollection.addAll(getOtherPlayerUnitsOfUnitTypeOne());
+    reset(defaultPlayerId);
+
+    assertThat(unitCollection.removeIf(unit -> unit.getType().equals(unitTypeTwo)), is(false));
+    verify(defaultPlayerId, never()).notifyChanged();
+    assertThat(unitCollection.removeIf(unit -> unit.getType().equals(unitTypeOne)), is(true));
+
+    assertThat(unitCollection.getUnitCount(), is(equalTo(0)));
+    verify(defaultPlayerId).notifyChanged();
+  }
+
   @Test
   public void getUnitCount() {
     assertThat(unitCollection.getUnitCount(), is(equalTo(0)));
@@ -445,4 +459,22 @@ public class UnitCollectionTest {
     unitCollectionIterator.forEachRemaining(u -> assertThat(u, is(collectionIterator.next())));
   }
 
+  @Test
+  public void unitCountsShouldReflectOwnerChangesOfUnitsInCollection() {
+    final GameData gameData = new GameData();
+    final PlayerId oldOwner = new PlayerId("Old Owner", gameData);
+    final PlayerId newOwner = new PlayerId("New Owner", gameData);
+    final UnitType unitType = new UnitType("Unit Type", gameData);
+    final Unit unit = new Unit(unitType, oldOwner, gameData);
+    final UnitCollection units = new UnitCollection(oldOwner, gameData);
+    units.add(unit);
+    assertThat(units.getUnitCount(unitType, oldOwner), is(equalTo(1)));
+
+    unit.setOwner(newOwner);
+
+    assertThat(units.getUnitCount(unitType, oldOwner), is(equalTo(0)));
+    assertThat(units.getUnitCount(unitType, newOwner), is(equalTo(1)));
+    units.remove(unit);
+    assertThat(units.getUnitCount(unitType, newOwner), is(equalTo(0)));
+  }
 }
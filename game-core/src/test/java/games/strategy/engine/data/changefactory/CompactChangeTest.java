@@ -0,0 +1,91 @@
+package games.strategy.engine.data.changefactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.triplea.java.collections.IntegerMap;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.io.IoUtils;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class CompactChangeTest {
+  private GameData data;
+  private PlayerId germans;
+  private Territory germany;
+  private Territory neighbor;
+  private Resource pus;
+  private List<Unit> units;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    data = TestMapGameData.REVISED.getGameData();
+    germans = data.getPlayerList().getPlayerId("Germans");
+    germany = data.getMap().getTerritory("Germany");
+    neighbor = data.getMap().getNeighbors(germany).iterator().next();
+    pus = data.getResourceList().getResource(Constants.PUS);
+    units = new ArrayList<>(germany.getUnits());
+  }
+
+  private Change newChange() {
+    final IntegerMap<Unit> hits = new IntegerMap<>();
+    hits.put(units.get(0), 1);
+    return new CompositeChange(
+        ChangeFactory.moveUnits(germany, neighbor, units),
+        ChangeFactory.changeOwner(neighbor, germans),
+        ChangeFactory.changeResourcesChange(germans, pus, 5),
+        ChangeFactory.markNoMovementChange(units.get(0)),
+        ChangeFactory.unitsHit(hits));
+  }
+
+  private static int getSerializedSize(final Object object, final GameData data) throws Exception {
+    return IoUtils.writeToMemory(os -> {
+      try (ObjectOutputStream out = new GameObjectOutputStream(os, data)) {
+        out.writeObject(object);
+      }
+    }).length;
+  }
+
+  @Test
+  void changeReadFromCompactFormShouldBePerformableOnOtherGameData() {
+    final GameData otherData = GameDataUtils.cloneGameData(data);
+    final Change change = GameDataUtils.translateIntoOtherGameData(newChange(), otherData);
+
+    otherData.performChange(change);
+
+    final Territory otherNeighbor = otherData.getMap().getTerritory(neighbor.getName());
+    final PlayerId otherGermans = otherData.getPlayerList().getPlayerId(germans.getName());
+    final Unit otherUnit = otherData.getUnits().get(units.get(0).getId());
+    assertThat(otherData.getMap().getTerritory(germany.getName()).getUnits().isEmpty(), is(true));
+    assertThat(otherNeighbor.getUnits().contains(otherUnit), is(true));
+    assertThat(otherNeighbor.getOwner(), is(otherGermans));
+    assertThat(otherGermans.getResources().getQuantity(Constants.PUS),
+        is(germans.getResources().getQuantity(pus) + 5));
+    assertThat(TripleAUnit.get(otherUnit).getAlreadyMoved(), is(TripleAUnit.get(units.get(0)).getMaxMovementAllowed()));
+    assertThat(otherUnit.getHits(), is(1));
+  }
+
+  @Test
+  void compactFormShouldBeSmallerThanJavaSerializedForm() throws Exception {
+    final Change change = newChange();
+
+    assertThat(getSerializedSize(change, data), is(lessThan(getSerializedSize(change, null))));
+  }
+}
@@ -0,0 +1,65 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class GameDataDeltaTest {
+  private GameData data;
+  private PlayerId russians;
+  private Territory germany;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    data = TestMapGameData.REVISED.getGameData();
+    russians = data.getPlayerList().getPlayerId("Russians");
+    germany = data.getMap().getTerritory("Germany");
+    data.getHistory().getHistoryWriter().startNextStep("step", "delegate", russians, "Step");
+    data.getHistory().getHistoryWriter().startEvent("event");
+  }
+
+  private void addChange(final Change change) {
+    data.performChange(change);
+    data.getHistory().getHistoryWriter().addChange(change);
+  }
+
+  @Test
+  void applyToShouldReplayChangesOnCopy() throws Exception {
+    final GameData copy = GameDataSnapshot.captureWithoutHistory(data, false).newGameData();
+    final GameDataDelta.Position position = GameDataDelta.getPosition(data);
+    addChange(ChangeFactory.changeOwner(germany, russians));
+
+    final Optional<GameDataDelta> delta = GameDataDelta.capture(data, position);
+    delta.get().applyTo(copy);
+
+    assertThat(delta.get().getChangeCount(), is(1));
+    assertThat(copy.getMap().getTerritory("Germany").getOwner().getName(), is("Russians"));
+    assertThat(germany.getOwner(), is(russians));
+  }
+
+  @Test
+  void captureShouldReturnNoChangesWhenNothingChanged() throws Exception {
+    final GameDataDelta.Position position = GameDataDelta.getPosition(data);
+
+    assertThat(GameDataDelta.capture(data, position).get().getChangeCount(), is(0));
+  }
+
+  @Test
+  void captureShouldReturnEmptyWhenHistoryWasReplaced() throws Exception {
+    final GameDataDelta.Position position = GameDataDelta.getPosition(data);
+    data.resetHistory();
+
+    assertThat(GameDataDelta.capture(data, position).isPresent(), is(false));
+  }
+}
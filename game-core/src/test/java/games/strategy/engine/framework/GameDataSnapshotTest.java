@@ -0,0 +1,38 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.history.History;
+
+final class GameDataSnapshotTest {
+  @Test
+  void newGameDataShouldReturnIndependentCopies() throws Exception {
+    final GameData data = new GameData();
+    data.setGameName("gameName");
+    final GameDataSnapshot snapshot = GameDataSnapshot.capture(data, false);
+
+    final GameData first = snapshot.newGameData();
+    final GameData second = snapshot.newGameData();
+
+    assertThat(first.getGameName(), is(data.getGameName()));
+    assertThat(second.getGameName(), is(data.getGameName()));
+    assertThat(first, is(not(sameInstance(second))));
+    assertThat(first.getMap(), is(not(sameInstance(second.getMap()))));
+  }
+
+  @Test
+  void captureWithoutHistoryShouldRestoreHistory() throws Exception {
+    final GameData data = new GameData();
+    final History history = data.getHistory();
+
+    GameDataSnapshot.captureWithoutHistory(data, false);
+
+    assertThat(data.getHistory(), is(sameInstance(history)));
+  }
+}
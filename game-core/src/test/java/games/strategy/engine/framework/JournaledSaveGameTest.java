@@ -0,0 +1,104 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.triplea.xml.TestMapGameData;
+
+@ExtendWith(TempDirectory.class)
+final class JournaledSaveGameTest {
+  private final JournaledSaveGame journaledSaveGame = new JournaledSaveGame();
+  private GameData data;
+  private PlayerId russians;
+  private Territory germany;
+  private File file;
+
+  @BeforeEach
+  void setUp(@TempDir final Path tempDirPath) throws Exception {
+    data = TestMapGameData.REVISED.getGameData();
+    russians = data.getPlayerList().getPlayerId("Russians");
+    germany = data.getMap().getTerritory("Germany");
+    file = tempDirPath.resolve("autosave.tsvg").toFile();
+    data.getHistory().getHistoryWriter().startNextStep("step", "delegate", russians, "Step");
+    data.getHistory().getHistoryWriter().startEvent("event");
+  }
+
+  private void addChange(final Change change) {
+    data.performChange(change);
+    data.getHistory().getHistoryWriter().addChange(change);
+  }
+
+  private JournaledSaveGame.Write save() throws Exception {
+    final JournaledSaveGame.Write write = journaledSaveGame.prepareWrite(data, file);
+    journaledSaveGame.write(write);
+    return write;
+  }
+
+  @Test
+  void loadShouldReplayJournalEntriesOnSnapshot() throws Exception {
+    assertThat(save().isCompaction(), is(true));
+    addChange(ChangeFactory.changeOwner(germany, russians));
+    data.getHistory().getHistoryWriter().startEvent("another event");
+
+    assertThat(save().isCompaction(), is(false));
+    final GameData loaded = GameDataManager.loadGame(file);
+
+    assertThat(loaded.getMap().getTerritory("Germany").getOwner().getName(), is("Russians"));
+    assertThat(loaded.getHistory().getChangeCount(), is(data.getHistory().getChangeCount()));
+    assertThat(loaded.getHistory().getLastNode().toString(), is("another event"));
+  }
+
+  @Test
+  void loadShouldIgnorePartiallyWrittenJournalEntry() throws Exception {
+    save();
+    addChange(ChangeFactory.changeOwner(germany, russians));
+    save();
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 1);
+    }
+
+    final GameData loaded = GameDataManager.loadGame(file);
+
+    assertThat(loaded.getMap().getTerritory("Germany").getOwner().getName(), is("Germans"));
+  }
+
+  @Test
+  void prepareWriteShouldAppendToEachFileAfterWritesToOtherFiles() throws Exception {
+    final File otherFile = new File(file.getParentFile(), "other.tsvg");
+    save();
+    journaledSaveGame.write(journaledSaveGame.prepareWrite(data, otherFile));
+    addChange(ChangeFactory.changeOwner(germany, russians));
+
+    assertThat(save().isCompaction(), is(false));
+    final JournaledSaveGame.Write otherWrite = journaledSaveGame.prepareWrite(data, otherFile);
+    journaledSaveGame.write(otherWrite);
+
+    assertThat(otherWrite.isCompaction(), is(false));
+    assertThat(GameDataManager.loadGame(otherFile).getMap().getTerritory("Germany").getOwner().getName(),
+        is("Russians"));
+  }
+
+  @Test
+  void prepareWriteShouldCompactWhenHistoryWasReplaced() throws Exception {
+    save();
+    data.resetHistory();
+
+    assertThat(save().isCompaction(), is(true));
+  }
+}
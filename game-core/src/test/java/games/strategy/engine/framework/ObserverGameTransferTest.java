@@ -0,0 +1,89 @@
+package games.strategy.engine.framework;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junitpioneer.jupiter.TempDirectory;
+import org.junitpioneer.jupiter.TempDirectory.TempDir;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.startup.mc.IObserverWaitingToJoin;
+import games.strategy.triplea.xml.TestMapGameData;
+
+@ExtendWith(TempDirectory.class)
+final class ObserverGameTransferTest {
+  private final JournaledSaveGame journaledSaveGame = new JournaledSaveGame();
+  private final IObserverWaitingToJoin observer = mock(IObserverWaitingToJoin.class);
+  private GameData data;
+  private PlayerId russians;
+  private Territory germany;
+  private File autoSaveFile;
+
+  @BeforeEach
+  void setUp(@TempDir final Path tempDirPath) throws Exception {
+    data = TestMapGameData.REVISED.getGameData();
+    russians = data.getPlayerList().getPlayerId("Russians");
+    germany = data.getMap().getTerritory("Germany");
+    autoSaveFile = tempDirPath.resolve("autosave.tsvg").toFile();
+    data.getHistory().getHistoryWriter().startNextStep("step", "delegate", russians, "Step");
+    data.getHistory().getHistoryWriter().startEvent("event");
+    // the observer receives every chunk completely
+    when(observer.receiveGameDataChunk(anyLong(), any()))
+        .thenAnswer(invocation -> (long) invocation.getArgument(0) + invocation.<byte[]>getArgument(1).length);
+  }
+
+  private void addChange(final Change change) {
+    data.performChange(change);
+    data.getHistory().getHistoryWriter().addChange(change);
+  }
+
+  private JournaledSaveGame.Write autoSave() throws Exception {
+    final JournaledSaveGame.Write write = journaledSaveGame.prepareWrite(data, autoSaveFile);
+    journaledSaveGame.write(write);
+    return write;
+  }
+
+  @Test
+  void writeShouldAppendToTransferAfterAutoSaveInBetween() throws Exception {
+    try (ObserverGameTransfer transfer = new ObserverGameTransfer(journaledSaveGame, observer)) {
+      transfer.write(data);
+      transfer.send();
+
+      autoSave();
+      addChange(ChangeFactory.changeOwner(germany, russians));
+      transfer.write(data);
+      transfer.send();
+    }
+
+    // the snapshot was only sent once, and what happened since was sent after it
+    verify(observer).receiveGameDataChunk(eq(0L), any());
+  }
+
+  @Test
+  void autoSaveShouldAppendAfterObserverJoined() throws Exception {
+    autoSave();
+    try (ObserverGameTransfer transfer = new ObserverGameTransfer(journaledSaveGame, observer)) {
+      transfer.write(data);
+      addChange(ChangeFactory.changeOwner(germany, russians));
+      transfer.write(data);
+    }
+
+    assertThat(autoSave().isCompaction(), is(false));
+  }
+}
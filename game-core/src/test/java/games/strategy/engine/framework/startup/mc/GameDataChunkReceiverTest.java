@@ -0,0 +1,53 @@
+package games.strategy.engine.framework.startup.mc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class GameDataChunkReceiverTest {
+  private final GameDataChunkReceiver receiver = new GameDataChunkReceiver();
+
+  @AfterEach
+  void discard() {
+    receiver.discard();
+  }
+
+  private static byte[] readAndDelete(final File file) throws IOException {
+    try {
+      return Files.readAllBytes(file.toPath());
+    } finally {
+      Files.delete(file.toPath());
+    }
+  }
+
+  @Test
+  void receiveShouldIgnoreChunkThatDoesNotStartAtReceivedSize() throws Exception {
+    assertThat(receiver.receive(0, new byte[] {1, 2}), is(2L));
+    assertThat(receiver.receive(1, new byte[] {9}), is(2L));
+    assertThat(receiver.receive(2, new byte[] {3}), is(3L));
+
+    assertThat(readAndDelete(receiver.complete(3)), is(new byte[] {1, 2, 3}));
+  }
+
+  @Test
+  void receiveShouldStartOverWithChunkAtOffsetZero() throws Exception {
+    receiver.receive(0, new byte[] {1, 2});
+    receiver.receive(0, new byte[] {4});
+
+    assertThat(readAndDelete(receiver.complete(1)), is(new byte[] {4}));
+  }
+
+  @Test
+  void completeShouldThrowExceptionWhenGameDataIsIncomplete() throws Exception {
+    receiver.receive(0, new byte[] {1, 2});
+
+    assertThrows(IOException.class, () -> receiver.complete(3));
+  }
+}
@@ -0,0 +1,57 @@
+package games.strategy.engine.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class HistoryWriterTest {
+  private HistoryWriter historyWriter;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    final GameData data = TestMapGameData.REVISED.getGameData();
+    final PlayerId russians = data.getPlayerList().getPlayerId("Russians");
+    historyWriter = data.getHistory().getHistoryWriter();
+    historyWriter.startNextStep("step", "delegate", russians, "Step");
+    historyWriter.startJournal();
+  }
+
+  @Test
+  void trimJournalShouldKeepOperationsSinceOldestOutstandingPositionInNewGeneration() {
+    final HistoryWriter.JournalPosition first = historyWriter.getJournalPosition();
+    historyWriter.startEvent("first event");
+    final HistoryWriter.JournalPosition second = historyWriter.getJournalPosition();
+    historyWriter.startEvent("second event");
+    final HistoryWriter.JournalPosition third = historyWriter.getJournalPosition();
+
+    final List<HistoryWriter.JournalPosition> positions = historyWriter.trimJournal(Arrays.asList(third, second));
+
+    assertThat(historyWriter.getJournalSince(first).isPresent(), is(false));
+    assertThat(historyWriter.getJournalSince(second).isPresent(), is(false));
+    assertThat(historyWriter.getJournalSince(positions.get(0)).get(), hasSize(0));
+    assertThat(historyWriter.getJournalSince(positions.get(1)).get(), hasSize(1));
+  }
+
+  @Test
+  void trimJournalShouldDiscardWholeJournalWithoutOutstandingPositions() {
+    final HistoryWriter.JournalPosition first = historyWriter.getJournalPosition();
+    historyWriter.startEvent("event");
+
+    historyWriter.trimJournal(Collections.emptyList());
+    historyWriter.startEvent("another event");
+
+    assertThat(historyWriter.getJournalSince(first).isPresent(), is(false));
+    assertThat(historyWriter.getJournalSince(historyWriter.getJournalPosition()).get(), hasSize(0));
+  }
+}
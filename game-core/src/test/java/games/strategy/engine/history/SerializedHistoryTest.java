@@ -0,0 +1,103 @@
+package games.strategy.engine.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.CompositeChange;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.changefactory.ChangeFactory;
+import games.strategy.engine.framework.GameDataManager;
+import games.strategy.io.IoUtils;
+import games.strategy.triplea.delegate.DiceRoll;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class SerializedHistoryTest {
+  private GameData data;
+  private Change change;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    data = TestMapGameData.REVISED.getGameData();
+    final PlayerId russians = data.getPlayerList().getPlayerId("Russians");
+    final Territory germany = data.getMap().getTerritory("Germany");
+    final HistoryWriter historyWriter = data.getHistory().getHistoryWriter();
+    historyWriter.startNextRound(1);
+    historyWriter.startNextStep("step", "delegate", russians, "Step");
+    historyWriter.startEvent("round 1 event");
+    final DiceRoll diceRoll = new DiceRoll(new int[] {1, 4}, 1, 1, false);
+    historyWriter.addChildToEvent(new EventChild("Russians roll dice for 2 infantry", diceRoll));
+    change = ChangeFactory.changeOwner(germany, russians);
+    data.performChange(change);
+    historyWriter.addChange(change);
+    historyWriter.startNextRound(2);
+    historyWriter.startNextStep("step", "delegate", russians, "Step");
+    historyWriter.startEvent("round 2 event");
+  }
+
+  private static History saveAndLoad(final GameData data) throws Exception {
+    final byte[] bytes = IoUtils.writeToMemory(os -> GameDataManager.saveGame(os, data));
+    return IoUtils.readFromMemory(bytes, GameDataManager::loadGame).getHistory();
+  }
+
+  private static Round getRound(final History history, final int index) {
+    return (Round) ((HistoryNode) history.getRoot()).getChildAt(index);
+  }
+
+  @Test
+  void completedRoundShouldBeLoadedWhenFirstAccessed() throws Exception {
+    final History history = saveAndLoad(data);
+    final Round firstRound = getRound(history, 0);
+
+    assertThat(firstRound.isContentLoaded(), is(false));
+    assertThat(getRound(history, 1).isContentLoaded(), is(true));
+    assertThat(firstRound.getChildCount(), is(1));
+    assertThat(firstRound.isContentLoaded(), is(true));
+    assertThat(firstRound.getChildAt(0).getChildAt(0).toString(), is("round 1 event"));
+  }
+
+  @Test
+  void completedRoundShouldNotBeLoadedToTellThatItIsNotLeaf() throws Exception {
+    final Round firstRound = getRound(saveAndLoad(data), 0);
+
+    assertThat(firstRound.isLeaf(), is(false));
+    assertThat(firstRound.isContentLoaded(), is(false));
+  }
+
+  @Test
+  void diceRollsShouldBeCollectedWithoutLoadingCompletedRounds() throws Exception {
+    final History history = saveAndLoad(data);
+
+    final DiceRolls diceRolls = DiceRolls.of((HistoryNode) history.getRoot());
+
+    assertThat(diceRolls.getRollsByPlayerName().keySet(), contains("Russians"));
+    assertThat(diceRolls.getRollsByPlayerName().get("Russians"), is(new int[] {1, 4}));
+    assertThat(getRound(history, 0).isContentLoaded(), is(false));
+  }
+
+  @Test
+  void getDeltaShouldLoadChangesOfCompletedRounds() throws Exception {
+    final History history = saveAndLoad(data);
+
+    final Change delta = history.getDelta((HistoryNode) history.getRoot(), history.getLastNode());
+
+    assertThat(delta, is(instanceOf(CompositeChange.class)));
+    assertThat(((CompositeChange) delta).getChanges(), contains(instanceOf(change.getClass())));
+  }
+
+  @Test
+  void savingShouldPreserveCompletedRoundsThatWereNotLoaded() throws Exception {
+    final History history = saveAndLoad(saveAndLoad(data).getGameData());
+    final Round firstRound = getRound(history, 0);
+
+    assertThat(history.getChangeCount(), is(1));
+    assertThat(firstRound.getChildAt(0).getChildAt(0).toString(), is("round 1 event"));
+  }
+}
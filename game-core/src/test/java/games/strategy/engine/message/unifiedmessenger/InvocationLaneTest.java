@@ -0,0 +1,45 @@
+package games.strategy.engine.message.unifiedmessenger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+final class InvocationLaneTest {
+  private final List<Runnable> scheduledTasks = new ArrayList<>();
+  private final List<Integer> invocations = new ArrayList<>();
+
+  private void submit(final InvocationLane lane, final int invocation) {
+    lane.execute(() -> invocations.add(invocation));
+  }
+
+  @Test
+  void executeShouldQueueInvocationsBeyondMaximumRunning() {
+    final InvocationLane lane = new InvocationLane("lane", scheduledTasks::add, 2);
+
+    submit(lane, 1);
+    submit(lane, 2);
+    submit(lane, 3);
+
+    assertThat(scheduledTasks, hasSize(2));
+    assertThat(lane.getQueueDepth(), is(1));
+  }
+
+  @Test
+  void queuedInvocationsShouldRunInOrderOnThreadOfRunningInvocation() {
+    final InvocationLane lane = new InvocationLane("lane", scheduledTasks::add, 1);
+    submit(lane, 1);
+    submit(lane, 2);
+    submit(lane, 3);
+
+    scheduledTasks.get(0).run();
+
+    assertThat(invocations, contains(1, 2, 3));
+    assertThat(lane.getQueueDepth(), is(0));
+  }
+}
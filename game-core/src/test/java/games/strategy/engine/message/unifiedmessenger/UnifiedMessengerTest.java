@@ -0,0 +1,62 @@
+package games.strategy.engine.message.unifiedmessenger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetAddress;
+import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.message.RemoteMethodCall;
+import games.strategy.engine.message.RemoteName;
+import games.strategy.engine.message.SpokeInvoke;
+import games.strategy.net.GUID;
+import games.strategy.net.IMessenger;
+import games.strategy.net.Node;
+
+final class UnifiedMessengerTest {
+  private static final int INVOCATIONS_PER_THREAD = 1_000;
+
+  private final IMessenger messenger = mock(IMessenger.class);
+  private final RemoteName remoteName = new RemoteName("test", Comparator.class);
+  private Node serverNode;
+  private UnifiedMessenger unifiedMessenger;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    serverNode = new Node("server", InetAddress.getLocalHost(), 0);
+    when(messenger.getServerNode()).thenReturn(serverNode);
+    when(messenger.getLocalNode()).thenReturn(new Node("client", InetAddress.getLocalHost(), 0));
+    unifiedMessenger = new UnifiedMessenger(messenger);
+  }
+
+  private void receiveInvocations() {
+    for (int i = 0; i < INVOCATIONS_PER_THREAD; i++) {
+      final RemoteMethodCall call = new RemoteMethodCall(remoteName.getName(), "compare", new Object[] {"", ""},
+          new Class<?>[] {Object.class, Object.class}, Comparator.class);
+      unifiedMessenger.messageReceived(new SpokeInvoke(new GUID(), false, call, serverNode), serverNode);
+    }
+  }
+
+  @Test
+  void messageReceivedShouldRunInterleavedInvocationsOfSingleThreadedEndPointFromTwoThreads() throws Exception {
+    final CountDownLatch invocationsRun = new CountDownLatch(2 * INVOCATIONS_PER_THREAD);
+    unifiedMessenger.addImplementor(remoteName, (Comparator<Object>) (o1, o2) -> {
+      invocationsRun.countDown();
+      return 0;
+    }, true);
+
+    final Thread thread = new Thread(this::receiveInvocations);
+    thread.start();
+    receiveInvocations();
+    thread.join();
+
+    assertThat(invocationsRun.await(10, TimeUnit.SECONDS), is(true));
+  }
+}
@@ -63,4 +63,10 @@ public final class PlainRandomSourceTest {
         assertThrows(IllegalArgumentException.class, () -> plainRandomSource.getRandom(MAX, 0, ANNOTATION));
     assertThat(e.getMessage(), containsString("count"));
   }
+
+  @Test
+  public void getRandomMany_ShouldReturnSameValuesForSameSeed() {
+    final int[] expected = new PlainRandomSource(42L).getRandom(MAX, 100, ANNOTATION);
+    assertThat(new PlainRandomSource(42L).getRandom(MAX, 100, ANNOTATION), is(expected));
+  }
 }
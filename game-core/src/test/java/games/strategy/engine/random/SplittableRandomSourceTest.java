@@ -0,0 +1,86 @@
+package games.strategy.engine.random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+final class SplittableRandomSourceTest {
+  private static final String ANNOTATION = "annotation";
+  private static final int MAX = 6;
+
+  private final SplittableRandomSource randomSource = new SplittableRandomSource();
+
+  private static void assertValueBetweenZeroInclusiveAndMaxExclusive(final int value) {
+    assertThat(value, allOf(greaterThanOrEqualTo(0), lessThan(MAX)));
+  }
+
+  @Test
+  void getRandomSingle_ShouldReturnValueBetweenZeroInclusiveAndMaxExclusive() {
+    IntStream.range(0, 5_000)
+        .forEach(i -> assertValueBetweenZeroInclusiveAndMaxExclusive(randomSource.getRandom(MAX, ANNOTATION)));
+  }
+
+  @Test
+  void getRandomSingle_ShouldThrowExceptionWhenMaxIsNotPositive() {
+    final Exception e = assertThrows(IllegalArgumentException.class, () -> randomSource.getRandom(0, ANNOTATION));
+    assertThat(e.getMessage(), containsString("max"));
+  }
+
+  @Test
+  void getRandomMany_ShouldReturnRequestedCountOfValuesBetweenZeroInclusiveAndMaxExclusive() {
+    final int[] numbers = randomSource.getRandom(MAX, 42, ANNOTATION);
+
+    assertThat(numbers.length, is(42));
+    Arrays.stream(numbers).forEach(SplittableRandomSourceTest::assertValueBetweenZeroInclusiveAndMaxExclusive);
+  }
+
+  @Test
+  void getRandomMany_ShouldThrowExceptionWhenCountIsNotPositive() {
+    final Exception e =
+        assertThrows(IllegalArgumentException.class, () -> randomSource.getRandom(MAX, 0, ANNOTATION));
+    assertThat(e.getMessage(), containsString("count"));
+  }
+
+  @Test
+  void fill_ShouldOnlyFillSpecifiedRange() {
+    final int[] numbers = new int[10];
+    Arrays.fill(numbers, -1);
+
+    randomSource.fill(MAX, numbers, 2, 8);
+
+    assertThat(numbers[1], is(-1));
+    IntStream.range(2, 8).forEach(i -> assertValueBetweenZeroInclusiveAndMaxExclusive(numbers[i]));
+    assertThat(numbers[8], is(-1));
+  }
+
+  @Test
+  void fill_ShouldThrowExceptionWhenRangeIsOutOfBounds() {
+    assertThrows(IndexOutOfBoundsException.class, () -> randomSource.fill(MAX, new int[4], 2, 5));
+  }
+
+  @Test
+  void getRandomMany_ShouldReturnSameValuesForSameSeed() {
+    final int[] expected = new SplittableRandomSource(42L).getRandom(MAX, 100, ANNOTATION);
+    assertThat(new SplittableRandomSource(42L).getRandom(MAX, 100, ANNOTATION), is(expected));
+  }
+
+  @Test
+  void split_ShouldReturnSameValuesForSameSeedAndIndependentValuesOfOriginal() {
+    final SplittableRandomSource original = new SplittableRandomSource(42L);
+    final SplittableRandomSource split = original.split();
+    final int[] expected = new SplittableRandomSource(42L).split().getRandom(1_000_000, 100, ANNOTATION);
+
+    assertThat(split.getRandom(1_000_000, 100, ANNOTATION), is(expected));
+    assertThat(original.getRandom(1_000_000, 100, ANNOTATION), is(not(expected)));
+  }
+}
@@ -0,0 +1,82 @@
+package games.strategy.net;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+final class AggregateNetworkMetricsTest {
+  private final AggregateNetworkMetrics networkMetrics = new AggregateNetworkMetrics();
+  private final INode node = new Node("node", InetAddress.getLoopbackAddress(), 3300);
+
+  @Test
+  void shouldCountTrafficByNodeAndByMessageType() {
+    networkMetrics.messageSent(node, "type", 10);
+    networkMetrics.messageSent(node, "otherType", 5);
+    networkMetrics.messageReceived(node, "type", 7);
+
+    final AggregateNetworkMetrics.Traffic nodeTraffic = networkMetrics.getNodeTraffic(node);
+    assertThat(nodeTraffic.sentMessages.sum(), is(2L));
+    assertThat(nodeTraffic.sentBytes.sum(), is(15L));
+    assertThat(nodeTraffic.receivedMessages.sum(), is(1L));
+    assertThat(nodeTraffic.receivedBytes.sum(), is(7L));
+    final AggregateNetworkMetrics.Traffic typeTraffic = networkMetrics.getTypeTraffic("type");
+    assertThat(typeTraffic.sentBytes.sum(), is(10L));
+    assertThat(typeTraffic.receivedBytes.sum(), is(7L));
+  }
+
+  @Test
+  void shouldCountTrafficOfConnectionsThatHaveNotLoggedInTogether() {
+    networkMetrics.messageReceived(null, "type", 3);
+    networkMetrics.messageReceived(null, "type", 4);
+
+    assertThat(networkMetrics.getNodeTraffic(null).receivedBytes.sum(), is(7L));
+  }
+
+  @Test
+  void connectionClosedShouldDiscardTrafficOfNode() {
+    networkMetrics.messageSent(node, "type", 10);
+
+    networkMetrics.connectionClosed(node);
+
+    assertThat(networkMetrics.getReport(), not(containsString("  node: ")));
+    assertThat(networkMetrics.getTypeTraffic("type").sentBytes.sum(), is(10L));
+  }
+
+  @Test
+  void shouldCountTrafficOfMessageTypesBeyondMaximumCountTogether() {
+    for (int i = 0; i < AggregateNetworkMetrics.MAX_TYPE_COUNT; i++) {
+      networkMetrics.messageSent(node, "type" + i, 1);
+    }
+
+    networkMetrics.messageSent(node, "anotherType", 2);
+    networkMetrics.messageSent(node, "yetAnotherType", 3);
+
+    assertThat(networkMetrics.getTypeTraffic("anotherType").sentBytes.sum(), is(5L));
+    assertThat(networkMetrics.getTypeTraffic("type0").sentBytes.sum(), is(1L));
+  }
+
+  @Test
+  void getBucketShouldReturnBucketWhoseUpperBoundIsExclusive() {
+    assertThat(AggregateNetworkMetrics.getBucket(0), is(0));
+    assertThat(AggregateNetworkMetrics.getBucket(TimeUnit.MICROSECONDS.toNanos(100)), is(1));
+    assertThat(AggregateNetworkMetrics.getBucket(TimeUnit.MILLISECONDS.toNanos(5)), is(2));
+    assertThat(AggregateNetworkMetrics.getBucket(TimeUnit.MINUTES.toNanos(1)), is(5));
+  }
+
+  @Test
+  void getReportShouldListNodesWithMostTrafficFirst() {
+    networkMetrics.messageSent(null, "type", 1);
+    networkMetrics.messageSent(node, "type", 100);
+
+    final String report = networkMetrics.getReport();
+
+    assertThat(report.indexOf("  node: "), lessThan(report.indexOf("(not logged in)")));
+  }
+}
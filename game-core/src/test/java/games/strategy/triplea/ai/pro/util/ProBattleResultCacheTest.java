@@ -0,0 +1,119 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.ai.pro.data.ProBattleResult;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ProBattleResultCacheTest {
+  private final ProBattleResultCache cache = new ProBattleResultCache(2);
+  private final AtomicInteger calculations = new AtomicInteger();
+  private GameData gameData;
+  private Territory territory;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    territory = territory("Germany", gameData);
+  }
+
+  private ProBattleResult get(final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
+    return get(attackingUnits, defendingUnits, 100);
+  }
+
+  private ProBattleResult get(final List<Unit> attackingUnits, final List<Unit> defendingUnits,
+      final int runCount) {
+    return cache.get(territory, Collections.emptyList(), attackingUnits, defendingUnits, Collections.emptyList(),
+        false, runCount, () -> {
+          calculations.incrementAndGet();
+          return new ProBattleResult(60, 3, true, attackingUnits.subList(0, 1), new ArrayList<>(), 2);
+        });
+  }
+
+  private List<Unit> newAttackingUnits() {
+    final List<Unit> units = new ArrayList<>(armour(gameData).create(1, russians(gameData)));
+    units.addAll(infantry(gameData).create(2, russians(gameData)));
+    return units;
+  }
+
+  private List<Unit> newDefendingUnits() {
+    return new ArrayList<>(infantry(gameData).create(2, germans(gameData)));
+  }
+
+  @Test
+  void getShouldReuseResultOfBattleWithSameSignatureAndTranslateRemainingUnits() {
+    get(newAttackingUnits(), newDefendingUnits());
+    final List<Unit> attackingUnits = newAttackingUnits();
+    Collections.reverse(attackingUnits);
+
+    final ProBattleResult result = get(attackingUnits, newDefendingUnits());
+
+    assertThat(calculations.get(), is(1));
+    assertThat(result.getWinPercentage(), is(60.0));
+    assertThat(result.getAverageAttackersRemaining(), contains(attackingUnits.get(2)));
+    assertThat(cache.getStats().hitCount(), is(1L));
+  }
+
+  @Test
+  void getShouldCalculateBattleWithDifferentUnits() {
+    get(newAttackingUnits(), newDefendingUnits());
+
+    get(newAttackingUnits(), new ArrayList<>(infantry(gameData).create(3, germans(gameData))));
+
+    assertThat(calculations.get(), is(2));
+    assertThat(cache.getStats().missCount(), is(2L));
+  }
+
+  @Test
+  void getShouldCalculateBattleAgainWithMoreRunsThanCached() {
+    get(newAttackingUnits(), newDefendingUnits(), 16);
+
+    get(newAttackingUnits(), newDefendingUnits(), 100);
+    get(newAttackingUnits(), newDefendingUnits(), 16);
+
+    assertThat(calculations.get(), is(2));
+    assertThat(cache.getRunCount(territory, Collections.emptyList(), newAttackingUnits(), newDefendingUnits(),
+        Collections.emptyList(), false), is(100));
+  }
+
+  @Test
+  void getShouldCalculateBattleAgainAfterInvalidation() {
+    get(newAttackingUnits(), newDefendingUnits());
+    cache.invalidate();
+
+    get(newAttackingUnits(), newDefendingUnits());
+
+    assertThat(calculations.get(), is(2));
+    assertThat(cache.getStats().missCount(), is(1L));
+  }
+
+  @Test
+  void getShouldEvictLeastRecentlyUsedBattleWhenFull() {
+    final List<Unit> defendingUnits = newDefendingUnits();
+    get(newAttackingUnits(), defendingUnits);
+    get(newAttackingUnits(), new ArrayList<>(infantry(gameData).create(3, germans(gameData))));
+    get(newAttackingUnits(), new ArrayList<>(infantry(gameData).create(4, germans(gameData))));
+
+    get(newAttackingUnits(), defendingUnits);
+
+    assertThat(calculations.get(), is(4));
+  }
+}
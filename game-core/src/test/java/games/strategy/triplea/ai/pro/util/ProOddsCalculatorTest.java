@@ -0,0 +1,115 @@
+package games.strategy.triplea.ai.pro.util;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.ai.pro.ProAi;
+import games.strategy.triplea.ai.pro.ProData;
+import games.strategy.triplea.odds.calculator.AggregateResults;
+import games.strategy.triplea.odds.calculator.IOddsCalculator;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ProOddsCalculatorTest {
+  private static final long ONE_HOUR_MILLIS = 60 * 60 * 1000;
+
+  private final IOddsCalculator calc = mock(IOddsCalculator.class);
+  private final IOddsCalculator estimator = mock(IOddsCalculator.class);
+  private ProOddsCalculator oddsCalculator;
+  private Territory germany;
+  private List<Unit> attackingUnits;
+  private List<Unit> defendingUnits;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    final GameData gameData = TestMapGameData.REVISED.getGameData();
+    final ProData proData = new ProData();
+    proData.initializeSimulation(mock(ProAi.class), gameData, russians(gameData));
+    oddsCalculator = new ProOddsCalculator(calc, estimator, proData);
+    oddsCalculator.setData(gameData);
+    germany = territory("Germany", gameData);
+    // 10 attackers against more defenders, so the battle is fully simulated with 100 - 10 runs
+    attackingUnits = infantry(gameData).create(10, russians(gameData));
+    defendingUnits = new ArrayList<>(germany.getUnits());
+    when(calc.setCalculateDataAndCalculate(any(), any(), any(), any(), any(), any(), any(), anyInt()))
+        .thenReturn(mock(AggregateResults.class));
+    when(estimator.setCalculateDataAndCalculate(any(), any(), any(), any(), any(), any(), any(), anyInt()))
+        .thenReturn(mock(AggregateResults.class));
+  }
+
+  private void calculateBattle() {
+    oddsCalculator.callBattleCalculator(germany, attackingUnits, defendingUnits, Collections.emptySet());
+  }
+
+  private static void waitForDeadline() throws Exception {
+    Thread.sleep(20);
+  }
+
+  @Test
+  void callBattleCalculatorShouldSimulateWithMoreRunsWhenBattleIsCalculatedAgainWithinBudget() {
+    oddsCalculator.startPhase("test", ONE_HOUR_MILLIS);
+
+    calculateBattle();
+    calculateBattle();
+    calculateBattle();
+
+    verify(calc).setCalculateDataAndCalculate(any(), any(), any(), any(), any(), any(), any(), eq(16));
+    verify(calc).setCalculateDataAndCalculate(any(), any(), any(), any(), any(), any(), any(), eq(90));
+    verify(estimator, never()).setCalculateDataAndCalculate(any(), any(), any(), any(), any(), any(), any(),
+        anyInt());
+  }
+
+  @Test
+  void callBattleCalculatorShouldSimulateWithFullRunCountWithoutBudget() {
+    oddsCalculator.startPhase("test", 0);
+
+    calculateBattle();
+
+    verify(calc).setCalculateDataAndCalculate(any(), any(), any(), any(), any(), any(), any(), eq(90));
+    verify(estimator, never()).setCalculateDataAndCalculate(any(), any(), any(), any(), any(), any(), any(),
+        anyInt());
+  }
+
+  @Test
+  void callBattleCalculatorShouldEstimateAfterDeadline() throws Exception {
+    oddsCalculator.startPhase("test", 1);
+    waitForDeadline();
+
+    calculateBattle();
+
+    verify(estimator).setCalculateDataAndCalculate(any(), any(), any(), any(), any(), any(), any(), eq(1));
+    verify(calc, never()).setCalculateDataAndCalculate(any(), any(), any(), any(), any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void callBattleCalculatorShouldReuseSimulatedResultAfterDeadline() throws Exception {
+    oddsCalculator.startPhase("test", ONE_HOUR_MILLIS);
+    calculateBattle();
+    oddsCalculator.endPhase();
+    oddsCalculator.startPhase("test", 1);
+    waitForDeadline();
+
+    calculateBattle();
+
+    verify(calc).setCalculateDataAndCalculate(any(), any(), any(), any(), any(), any(), any(), eq(16));
+    verify(estimator, never()).setCalculateDataAndCalculate(any(), any(), any(), any(), any(), any(), any(),
+        anyInt());
+  }
+}
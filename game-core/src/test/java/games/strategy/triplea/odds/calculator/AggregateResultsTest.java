@@ -0,0 +1,83 @@
+package games.strategy.triplea.odds.calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.triplea.java.collections.IntegerMap;
+import org.triplea.util.Tuple;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerId;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.delegate.BattleResults;
+import games.strategy.triplea.delegate.IBattle.WhoWon;
+
+final class AggregateResultsTest {
+  private final GameData gameData = new GameData();
+  private final PlayerId player = new PlayerId("player", gameData);
+  private final UnitType unitType = new UnitType("unitType", gameData);
+  private final IntegerMap<UnitType> costs = new IntegerMap<>(Collections.singletonMap(unitType, 3));
+
+  private List<Unit> units(final int count) {
+    return unitType.create(count, player, true);
+  }
+
+  private BattleResults attackerWon(final int attackingUnitsLeft) {
+    return new BattleResults(1, units(attackingUnitsLeft), Collections.emptyList(), WhoWon.ATTACKER, gameData);
+  }
+
+  private BattleResults defenderWon(final int defendingUnitsLeft) {
+    return new BattleResults(2, Collections.emptyList(), units(defendingUnitsLeft), WhoWon.DEFENDER, gameData);
+  }
+
+  @Test
+  void shouldReturnZeroWhenEmpty() {
+    final AggregateResults results = new AggregateResults();
+
+    assertThat(results.getRollCount(), is(0));
+    assertThat(results.getAttackerWinPercent(), is(0.0));
+    assertThat(results.getAverageBattleRoundsFought(), is(0.0));
+    assertThat(results.getAverageAttackingUnitsRemaining(), is(Collections.emptyList()));
+    assertThat(results.getAverageTuvOfUnitsLeftOver(costs, costs), is(Tuple.of(0.0, 0.0)));
+  }
+
+  @Test
+  void shouldAccumulateResults() {
+    final AggregateResults results = new AggregateResults();
+    Arrays.asList(attackerWon(2), attackerWon(2), attackerWon(4), defenderWon(1)).forEach(results::addResult);
+
+    assertThat(results.getRollCount(), is(4));
+    assertThat(results.getAttackerWinPercent(), is(0.75));
+    assertThat(results.getDefenderWinPercent(), is(0.25));
+    assertThat(results.getDrawPercent(), is(0.0));
+    assertThat(results.getAverageBattleRoundsFought(), is(1.25));
+    assertThat(results.getAverageAttackingUnitsLeft(), is(2.0));
+    assertThat(results.getAverageAttackingUnitsLeftWhenAttackerWon(), is(8 / 3.0));
+    assertThat(results.getAverageDefendingUnitsLeftWhenDefenderWon(), is(1.0));
+    assertThat(results.getAverageTuvOfUnitsLeftOver(costs, costs), is(Tuple.of(6.0, 0.75)));
+    assertThat(results.getAverageAttackingUnitsRemaining().size(), is(2));
+  }
+
+  @Test
+  void shouldMergePartialResults() {
+    final AggregateResults first = new AggregateResults();
+    first.addResult(attackerWon(2));
+    first.addResult(defenderWon(1));
+    final AggregateResults second = new AggregateResults();
+    second.addResult(attackerWon(2));
+    second.addResult(attackerWon(4));
+
+    first.addResults(second);
+
+    assertThat(first.getRollCount(), is(4));
+    assertThat(first.getAttackerWinPercent(), is(0.75));
+    assertThat(first.getAverageBattleRoundsFought(), is(1.25));
+    assertThat(first.getAverageTuvOfUnitsLeftOver(costs, costs), is(Tuple.of(6.0, 0.75)));
+  }
+}
@@ -0,0 +1,77 @@
+package games.strategy.triplea.odds.calculator;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.british;
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static games.strategy.triplea.delegate.GameDataTestUtil.transport;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isEmpty;
+import static com.github.npathai.hamcrestopt.OptionalMatchers.isPresent;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.random.SplittableRandomSource;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class BattleSimulatorTest {
+  private GameData gameData;
+  private Territory location;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    location = territory("Eastern Canada", gameData);
+  }
+
+  private Optional<BattleSimulator> compile(final List<Unit> attacking, final List<Unit> defending) {
+    return BattleSimulator.compile(gameData, germans(gameData), british(gameData), location, attacking, defending,
+        TerritoryEffectHelper.getEffects(location), null, null);
+  }
+
+  @Test
+  void shouldCompilePlainLandBattle() {
+    final List<Unit> attacking = armour(gameData).create(3, germans(gameData));
+    final List<Unit> defending = infantry(gameData).create(3, british(gameData));
+
+    final Optional<BattleSimulator> simulator = compile(attacking, defending);
+
+    assertThat(simulator, isPresent());
+    final AggregateResults results = simulator.get().simulate(100, new SplittableRandomSource(), () -> false);
+    assertThat(results.getRollCount(), is(100));
+    assertThat(results.getAttackerWinPercent() + results.getDefenderWinPercent() + results.getDrawPercent(),
+        is(closeTo(1.0, 0.000001)));
+    assertThat(results.getAverageAttackingUnitsRemaining().size(), is(lessThanOrEqualTo(3)));
+    assertThat(results.getAverageDefendingUnitsRemaining().size(), is(lessThanOrEqualTo(3)));
+  }
+
+  @Test
+  void shouldNotCompileBattleWithTransports() {
+    final List<Unit> attacking = armour(gameData).create(3, germans(gameData));
+    final List<Unit> defending = transport(gameData).create(1, british(gameData));
+
+    assertThat(compile(attacking, defending), isEmpty());
+  }
+
+  @Test
+  void shouldStopSimulatingWhenCancelled() {
+    final List<Unit> attacking = armour(gameData).create(3, germans(gameData));
+    final List<Unit> defending = infantry(gameData).create(3, british(gameData));
+
+    final AggregateResults results =
+        compile(attacking, defending).get().simulate(100, new SplittableRandomSource(), () -> true);
+    assertThat(results.getRollCount(), is(0));
+  }
+}
@@ -0,0 +1,117 @@
+package games.strategy.triplea.odds.calculator;
+
+import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
+import static games.strategy.triplea.delegate.GameDataTestUtil.russians;
+import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.triplea.delegate.TerritoryEffectHelper;
+import games.strategy.triplea.xml.TestMapGameData;
+
+final class ConcurrentOddsCalculatorTest {
+  private final CountDownLatch dataLoaded = new CountDownLatch(1);
+  private final ConcurrentOddsCalculator calculator = new ConcurrentOddsCalculator("test", dataLoaded::countDown);
+  private GameData gameData;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    gameData = TestMapGameData.REVISED.getGameData();
+    calculator.setGameData(gameData);
+    dataLoaded.await();
+  }
+
+  @AfterEach
+  void tearDown() {
+    calculator.shutdown();
+  }
+
+  private BattleSpecification newBattle(final int attackingInfantry) {
+    final Territory germany = territory("Germany", gameData);
+    return BattleSpecification.builder()
+        .attacker(russians(gameData))
+        .defender(germans(gameData))
+        .location(germany)
+        .attacking(infantry(gameData).create(attackingInfantry, russians(gameData)))
+        .defending(new ArrayList<>(germany.getUnits()))
+        .bombarding(Collections.emptyList())
+        .territoryEffects(TerritoryEffectHelper.getEffects(germany))
+        .runCount(50)
+        .build();
+  }
+
+  private static <T> T calculateWithSeed(final GameData gameData,
+      final Function<ConcurrentOddsCalculator, T> calculation) throws Exception {
+    final CountDownLatch dataLoaded = new CountDownLatch(1);
+    final ConcurrentOddsCalculator calculator = new ConcurrentOddsCalculator("test", 42L, dataLoaded::countDown);
+    try {
+      assertThat(calculator.getSeed(), is(42L));
+      calculator.setGameData(gameData);
+      dataLoaded.await();
+      return calculation.apply(calculator);
+    } finally {
+      calculator.shutdown();
+    }
+  }
+
+  private static AggregateResults calculateWithSeed(final GameData gameData, final BattleSpecification battle)
+      throws Exception {
+    return calculateWithSeed(gameData, calculator -> calculator.setCalculateDataAndCalculate(battle.getAttacker(),
+        battle.getDefender(), battle.getLocation(), battle.getAttacking(), battle.getDefending(),
+        battle.getBombarding(), battle.getTerritoryEffects(), battle.getRunCount()));
+  }
+
+  @Test
+  void calculateShouldReturnSameResultsForSameSeed() throws Exception {
+    final BattleSpecification battle = newBattle(8);
+
+    final AggregateResults expected = calculateWithSeed(gameData, battle);
+    final AggregateResults results = calculateWithSeed(gameData, battle);
+
+    assertThat(results.getAttackerWinPercent(), is(expected.getAttackerWinPercent()));
+    assertThat(results.getAverageBattleRoundsFought(), is(expected.getAverageBattleRoundsFought()));
+  }
+
+  @Test
+  void calculateBatchShouldReturnSameResultsForSameSeed() throws Exception {
+    final List<BattleSpecification> battles = Arrays.asList(newBattle(6), newBattle(8), newBattle(10), newBattle(12));
+
+    final List<AggregateResults> expected = calculateWithSeed(gameData, calculator -> calculator.calculate(battles));
+    final List<AggregateResults> results = calculateWithSeed(gameData, calculator -> calculator.calculate(battles));
+
+    for (int i = 0; i < battles.size(); i++) {
+      assertThat(results.get(i).getAttackerWinPercent(), is(expected.get(i).getAttackerWinPercent()));
+      assertThat(results.get(i).getAverageBattleRoundsFought(), is(expected.get(i).getAverageBattleRoundsFought()));
+    }
+  }
+
+  @Test
+  void calculateShouldReturnResultsOfAllBattlesInOrder() {
+    final List<AggregateResults> results =
+        calculator.calculate(Arrays.asList(newBattle(1), newBattle(100), newBattle(1), newBattle(100)));
+
+    assertThat(results, hasSize(4));
+    assertThat(results.get(0).getAttackerWinPercent(), is(lessThan(0.1)));
+    assertThat(results.get(1).getAttackerWinPercent(), is(greaterThan(0.9)));
+    assertThat(results.get(2).getAttackerWinPercent(), is(lessThan(0.1)));
+    assertThat(results.get(3).getAttackerWinPercent(), is(greaterThan(0.9)));
+    assertThat(results.get(1).getRollCount(), is(50));
+  }
+}
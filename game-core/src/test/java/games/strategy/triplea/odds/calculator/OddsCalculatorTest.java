@@ -1,7 +1,11 @@
 package games.strategy.triplea.odds.calculator;
 
 import static games.strategy.triplea.delegate.GameDataTestUtil.americans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.armour;
+import static games.strategy.triplea.delegate.GameDataTestUtil.british;
+import static games.strategy.triplea.delegate.GameDataTestUtil.fighter;
 import static games.strategy.triplea.delegate.GameDataTestUtil.germans;
+import static games.strategy.triplea.delegate.GameDataTestUtil.infantry;
 import static games.strategy.triplea.delegate.GameDataTestUtil.submarine;
 import static games.strategy.triplea.delegate.GameDataTestUtil.territory;
 import static games.strategy.triplea.delegate.GameDataTestUtil.transport;
@@ -99,4 +103,33 @@ public class OddsCalculatorTest {
     assertEquals(1.0, results.getAttackerWinPercent());
     assertEquals(0.0, results.getDefenderWinPercent());
   }
+
+  @Test
+  public void testBattleSimulatorMatchesMustFightBattle() {
+    final Territory eastCanada = territory("Eastern Canada", gameData);
+    final List<Unit> attacking = infantry(gameData).create(6, germans(gameData));
+    attacking.addAll(armour(gameData).create(2, germans(gameData)));
+    final List<Unit> defending = infantry(gameData).create(5, british(gameData));
+    defending.addAll(fighter(gameData).create(1, british(gameData)));
+
+    final AggregateResults simulated = calculate(true, eastCanada, attacking, defending);
+    final AggregateResults fought = calculate(false, eastCanada, attacking, defending);
+
+    assertEquals(fought.getRollCount(), simulated.getRollCount());
+    assertEquals(fought.getAttackerWinPercent(), simulated.getAttackerWinPercent(), 0.06);
+    assertEquals(fought.getDefenderWinPercent(), simulated.getDefenderWinPercent(), 0.06);
+    assertEquals(fought.getAverageBattleRoundsFought(), simulated.getAverageBattleRoundsFought(), 0.3);
+    assertEquals(fought.getAverageAttackingUnitsLeft(), simulated.getAverageAttackingUnitsLeft(), 0.5);
+    assertEquals(fought.getAverageDefendingUnitsLeft(), simulated.getAverageDefendingUnitsLeft(), 0.5);
+  }
+
+  private AggregateResults calculate(final boolean useBattleSimulator, final Territory location,
+      final List<Unit> attacking, final List<Unit> defending) {
+    final OddsCalculator calculator = new OddsCalculator(gameData);
+    calculator.setUseBattleSimulator(useBattleSimulator);
+    final AggregateResults results = calculator.setCalculateDataAndCalculate(germans(gameData), british(gameData),
+        location, attacking, defending, Collections.emptyList(), TerritoryEffectHelper.getEffects(location), 2000);
+    calculator.shutdown();
+    return results;
+  }
 }